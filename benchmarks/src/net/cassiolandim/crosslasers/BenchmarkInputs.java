@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.util.Random;
+
+/**
+ * Input orders shared by the benchmarks.  Inputs are generated from a fixed seed so that runs
+ * are comparable.  Order is public because JMH's generated harness, which lives in another
+ * package, sets the benchmarks' order parameters.
+ */
+public final class BenchmarkInputs {
+    static final long SEED = 0x5eed;
+
+    // Roughly one element in twenty is swapped with its neighbor, like objects that crossed
+    // each other since the last frame.
+    private static final int NEARLY_SORTED_SWAP_RATE = 20;
+
+    public enum Order {
+        PRESORTED,
+        REVERSED,
+        RANDOM,
+        NEARLY_SORTED
+    }
+
+    private BenchmarkInputs() {
+    }
+
+    /** Returns count distinct keys, spaced step apart, in the given order. */
+    static int[] keys(Order order, int count, int step) {
+        final int[] keys = new int[count];
+        for (int x = 0; x < count; x++) {
+            keys[x] = x * step;
+        }
+        final Random random = new Random(SEED);
+        switch (order) {
+            case PRESORTED:
+                break;
+            case REVERSED:
+                for (int x = 0; x < count / 2; x++) {
+                    swap(keys, x, count - 1 - x);
+                }
+                break;
+            case RANDOM:
+                for (int x = count - 1; x > 0; x--) {
+                    swap(keys, x, random.nextInt(x + 1));
+                }
+                break;
+            case NEARLY_SORTED:
+                for (int x = 0; x < count - 1; x++) {
+                    if (random.nextInt(NEARLY_SORTED_SWAP_RATE) == 0) {
+                        swap(keys, x, x + 1);
+                        x++;
+                    }
+                }
+                break;
+        }
+        return keys;
+    }
+
+    /** Returns a new instance of the named Sorter. */
+    static <T> Sorter<T> sorter(String name, int capacity) {
+        Sorter<T> sorter = null;
+        if (name.equals("standard")) {
+            sorter = new StandardSorter<T>();
+        } else if (name.equals("quick")) {
+            sorter = new QuickSorter<T>();
+        } else if (name.equals("shell")) {
+            sorter = new ShellSorter<T>();
+        } else if (name.equals("radix")) {
+            sorter = new PhaseRadixSorter<T>(capacity);
+        }
+        assert sorter != null : "Unknown sorter " + name;
+        return sorter;
+    }
+
+    private static void swap(int[] keys, int a, int b) {
+        final int temp = keys[a];
+        keys[a] = keys[b];
+        keys[b] = temp;
+    }
+}
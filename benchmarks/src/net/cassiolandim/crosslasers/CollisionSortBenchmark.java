@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.util.concurrent.TimeUnit;
+
+import net.cassiolandim.crosslasers.GameObjectCollisionSystem.CollisionVolumeComparator;
+import net.cassiolandim.crosslasers.GameObjectCollisionSystem.CollisionVolumeRecord;
+import net.cassiolandim.crosslasers.GameObjectCollisionSystem.MinXKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-frame sort of GameObjectCollisionSystem's records by the left edge of their
+ * bounding volumes, using the system's own CollisionVolumeComparator.  Each invocation moves every
+ * object a little, refills the array from the input, in the same order each time (as objects
+ * register each frame), and sorts it.  Objects are 32 units wide, spaced 24 units apart, and half
+ * of them face left.  Neighbors drift toward each other and back, so they cross every so often.
+ * The "key" sorter is FixedSizeArray.sortByFloatKey() with the system's MinXKey, and "coherent"
+ * is the same with setCoherentKeySort(), which is what the system uses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionSortBenchmark {
+    private static final int OBJECT_SIZE = 32;
+    private static final int OBJECT_SPACING = 24;
+    private static final float OBJECT_STEP = 0.5f;
+    private static final int TURN_FRAMES = 64;
+
+    @Param({"64", "256", "384", "1024"})
+    public int size;
+
+    @Param({"PRESORTED", "REVERSED", "RANDOM", "NEARLY_SORTED"})
+    public BenchmarkInputs.Order order;
+
+    @Param({"key", "coherent", "standard", "quick", "shell"})
+    public String sorter;
+
+    private CollisionVolumeRecord[] mInput;
+    private FixedSizeArray<CollisionVolumeRecord> mRecords;
+    private MinXKey mKey;
+    private int mFrame;
+
+    @Setup
+    public void setUp() {
+        DebugLog.setDebugLogging(false);
+        final int[] positions = BenchmarkInputs.keys(order, size, OBJECT_SPACING);
+        final CollisionVolume volume = new AABoxCollisionVolume(0, 0, OBJECT_SIZE, OBJECT_SIZE);
+        mInput = new CollisionVolumeRecord[size];
+        for (int x = 0; x < size; x++) {
+            final GameObject object = new GameObject();
+            object.getPosition().set(positions[x], 0.0f);
+            object.width = OBJECT_SIZE;
+            object.height = OBJECT_SIZE;
+            object.facingDirection.set((x & 1) != 0 ? -1.0f : 1.0f, 1.0f);
+            final CollisionVolumeRecord record = new CollisionVolumeRecord();
+            record.object = object;
+            record.boundingVolume = volume;
+            mInput[x] = record;
+        }
+        mRecords = new FixedSizeArray<CollisionVolumeRecord>(size,
+                new CollisionVolumeComparator());
+        if (sorter.equals("key") || sorter.equals("coherent")) {
+            mKey = new MinXKey();
+            mRecords.setCoherentKeySort(sorter.equals("coherent"));
+        } else {
+            mRecords.setSorter(BenchmarkInputs.<CollisionVolumeRecord>sorter(sorter, size));
+        }
+    }
+
+    @Benchmark
+    public FixedSizeArray<CollisionVolumeRecord> sort() {
+        final FixedSizeArray<CollisionVolumeRecord> records = mRecords;
+        final CollisionVolumeRecord[] input = mInput;
+        moveObjects(input);
+        records.clear();
+        for (int x = 0; x < input.length; x++) {
+            records.add(input[x]);
+        }
+        if (mKey != null) {
+            records.sortByFloatKey(mKey);
+        } else {
+            records.sort(true);
+        }
+        return records;
+    }
+
+    /** Moves pairs of objects left or right, turning around every TURN_FRAMES invocations. */
+    private void moveObjects(CollisionVolumeRecord[] input) {
+        final float step = ((mFrame++ / TURN_FRAMES) & 1) == 0 ? OBJECT_STEP : -OBJECT_STEP;
+        for (int x = 0; x < input.length; x++) {
+            input[x].object.getPosition().x += (x & 2) == 0 ? step : -step;
+        }
+    }
+}
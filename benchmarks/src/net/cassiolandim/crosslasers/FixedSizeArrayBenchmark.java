@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the FixedSizeArray operations that the engine's per-frame loops rely on: filling and
+ * emptying an array, ordered and unordered removal, and linear and binary searches.  Searches use
+ * PhasedObjectManager's comparator, which is what component and render queue lookups go through.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedSizeArrayBenchmark {
+    @Param({"64", "256", "384", "1024"})
+    public int size;
+
+    private PhasedObject[] mInput;
+    private FixedSizeArray<BaseObject> mArray;
+    private FixedSizeArray<BaseObject> mSortedArray;
+    private PhasedObject mSearchDummy;
+
+    @Setup
+    public void setUp() {
+        DebugLog.setDebugLogging(false);
+        final int[] phases = BenchmarkInputs.keys(BenchmarkInputs.Order.RANDOM, size, 1);
+        mInput = new PhasedObject[size];
+        for (int x = 0; x < size; x++) {
+            mInput[x] = new PhasedObject();
+            mInput[x].setPhase(phases[x]);
+        }
+        mArray = new FixedSizeArray<BaseObject>(size);
+
+        final PhasedObjectManager manager = new PhasedObjectManager(size);
+        mSortedArray = manager.getObjects();
+        for (int x = 0; x < size; x++) {
+            mSortedArray.add(mInput[x]);
+        }
+        mSortedArray.sort(true);
+        mSearchDummy = new PhasedObject();
+    }
+
+    @Benchmark
+    public int addThenRemoveLast() {
+        final FixedSizeArray<BaseObject> array = mArray;
+        final PhasedObject[] input = mInput;
+        for (int x = 0; x < input.length; x++) {
+            array.add(input[x]);
+        }
+        int removed = 0;
+        while (array.removeLast() != null) {
+            removed++;
+        }
+        return removed;
+    }
+
+    /** Empties the array from the front, shifting the remainder each time. */
+    @Benchmark
+    public int addThenOrderedRemove() {
+        final FixedSizeArray<BaseObject> array = mArray;
+        final PhasedObject[] input = mInput;
+        for (int x = 0; x < input.length; x++) {
+            array.add(input[x]);
+        }
+        int removed = 0;
+        while (array.getCount() > 0) {
+            array.remove(0);
+            removed++;
+        }
+        return removed;
+    }
+
+    /** Empties the array from the front with swapWithLast() and removeLast(). */
+    @Benchmark
+    public int addThenSwapRemove() {
+        final FixedSizeArray<BaseObject> array = mArray;
+        final PhasedObject[] input = mInput;
+        for (int x = 0; x < input.length; x++) {
+            array.add(input[x]);
+        }
+        int removed = 0;
+        while (array.getCount() > 0) {
+            array.swapWithLast(0);
+            array.removeLast();
+            removed++;
+        }
+        return removed;
+    }
+
+    /** Finds every element by reference. */
+    @Benchmark
+    public void findByReference(Blackhole blackhole) {
+        final FixedSizeArray<BaseObject> array = mSortedArray;
+        final PhasedObject[] input = mInput;
+        for (int x = 0; x < input.length; x++) {
+            blackhole.consume(array.find(input[x], true));
+        }
+    }
+
+    /** Finds every phase with the comparator, which binary searches the sorted array. */
+    @Benchmark
+    public void findByPhase(Blackhole blackhole) {
+        final FixedSizeArray<BaseObject> array = mSortedArray;
+        final PhasedObject dummy = mSearchDummy;
+        for (int x = 0; x < size; x++) {
+            dummy.setPhase(x);
+            blackhole.consume(array.find(dummy, false));
+        }
+    }
+}
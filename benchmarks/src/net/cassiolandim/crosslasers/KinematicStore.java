@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+/**
+ * A structure-of-arrays copy of the kinematic state (position, velocity, target velocity and
+ * acceleration) of a batch of GameObjects.  Batch kernels integrate every object in the batch in
+ * one tight loop over primitive float arrays instead of chasing four Vector2 pointers per object.
+ * Slot i of each array holds the state of the i-th object of the batch.
+ *
+ * The GameObjects' own vectors remain the authoritative state (components all over the game write
+ * their x and y fields directly), so the store doesn't own the data.  Instead a batch is copied in,
+ * integrated, and copied back out.  Each kernel copies only the fields it reads (loadVelocities()
+ * for gravity, load() for movement), since the copies cost as much memory traffic as the math
+ * they feed.
+ *
+ * The game doesn't use the store: KinematicsBenchmark measures it slower than updating
+ * GravityComponent and MovementComponent one by one.  It lives here so that the comparison can be
+ * rerun, for instance on a device.
+ */
+public class KinematicStore extends AllocationGuard {
+    private static final int DEFAULT_CAPACITY = 256;
+
+    public final float[] positionX;
+    public final float[] positionY;
+    public final float[] velocityX;
+    public final float[] velocityY;
+    public final float[] targetVelocityX;
+    public final float[] targetVelocityY;
+    public final float[] accelerationX;
+    public final float[] accelerationY;
+    public final float[] gravityX;          // Filled in by the caller before integrateGravity().
+    public final float[] gravityY;
+    public final boolean[] positionLocked;
+
+    public KinematicStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public KinematicStore(int capacity) {
+        super();
+        positionX = new float[capacity];
+        positionY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        targetVelocityX = new float[capacity];
+        targetVelocityY = new float[capacity];
+        accelerationX = new float[capacity];
+        accelerationY = new float[capacity];
+        gravityX = new float[capacity];
+        gravityY = new float[capacity];
+        positionLocked = new boolean[capacity];
+    }
+
+    /** Returns the largest batch the store can hold. */
+    public final int getCapacity() {
+        return positionX.length;
+    }
+
+    /**
+     * Copies the full kinematic state of owners[start] through owners[start + count - 1] into
+     * slots 0 through count - 1.  An object must not appear in a batch more than once.
+     */
+    public final void load(GameObject[] owners, int start, int count) {
+        for (int x = 0; x < count; x++) {
+            final GameObject object = owners[start + x];
+            final Vector2 position = object.getPosition();
+            final Vector2 velocity = object.getVelocity();
+            final Vector2 targetVelocity = object.getTargetVelocity();
+            final Vector2 acceleration = object.getAcceleration();
+            positionX[x] = position.x;
+            positionY[x] = position.y;
+            velocityX[x] = velocity.x;
+            velocityY[x] = velocity.y;
+            targetVelocityX[x] = targetVelocity.x;
+            targetVelocityY[x] = targetVelocity.y;
+            accelerationX[x] = acceleration.x;
+            accelerationY[x] = acceleration.y;
+            positionLocked[x] = object.positionLocked;
+        }
+    }
+
+    /** Copies only the velocities of owners[start] through owners[start + count - 1]. */
+    public final void loadVelocities(GameObject[] owners, int start, int count) {
+        for (int x = 0; x < count; x++) {
+            final Vector2 velocity = owners[start + x].getVelocity();
+            velocityX[x] = velocity.x;
+            velocityY[x] = velocity.y;
+        }
+    }
+
+    /** Copies velocities from the store back to the objects they were loaded from. */
+    public final void storeVelocities(GameObject[] owners, int start, int count) {
+        for (int x = 0; x < count; x++) {
+            owners[start + x].getVelocity().set(velocityX[x], velocityY[x]);
+        }
+    }
+
+    /** Copies positions and velocities from the store back to the objects loaded with load(). */
+    public final void storePositionsAndVelocities(GameObject[] owners, int start, int count) {
+        for (int x = 0; x < count; x++) {
+            final GameObject object = owners[start + x];
+            object.getPosition().set(positionX[x], positionY[x]);
+            object.getVelocity().set(velocityX[x], velocityY[x]);
+        }
+    }
+
+    /** Adds gravity, scaled by the time step, to the velocity of each slot.  See GravityComponent. */
+    public final void integrateGravity(int count, float timeDelta) {
+        for (int x = 0; x < count; x++) {
+            velocityX[x] += gravityX[x] * timeDelta;
+            velocityY[x] += gravityY[x] * timeDelta;
+        }
+    }
+
+    /**
+     * Accelerates each slot's velocity towards its target velocity and moves its position by the
+     * integral of that velocity over the time step.  This is the same math as Interpolator (see
+     * there for the derivation), unrolled for both axes.  See MovementComponent.
+     */
+    public final void integrateMovement(int count, float timeDelta) {
+        final float halfTimeSquared = (timeDelta * timeDelta) * 0.5f;
+        for (int x = 0; x < count; x++) {
+            final float oldVelocityX = velocityX[x];
+            final float targetX = targetVelocityX[x];
+            float directionalAccelerationX = accelerationX[x];
+            if (Math.abs(oldVelocityX - targetX) < 0.0001f) {
+                directionalAccelerationX = 0.0f;
+            } else if (oldVelocityX > targetX) {
+                directionalAccelerationX *= -1.0f;
+            }
+            float newVelocityX = oldVelocityX + (directionalAccelerationX * timeDelta);
+            if ((oldVelocityX < targetX && newVelocityX > targetX)
+                    || (oldVelocityX > targetX && newVelocityX < targetX)) {
+                newVelocityX = targetX;
+            }
+
+            final float oldVelocityY = velocityY[x];
+            final float targetY = targetVelocityY[x];
+            float directionalAccelerationY = accelerationY[x];
+            if (Math.abs(oldVelocityY - targetY) < 0.0001f) {
+                directionalAccelerationY = 0.0f;
+            } else if (oldVelocityY > targetY) {
+                directionalAccelerationY *= -1.0f;
+            }
+            float newVelocityY = oldVelocityY + (directionalAccelerationY * timeDelta);
+            if ((oldVelocityY < targetY && newVelocityY > targetY)
+                    || (oldVelocityY > targetY && newVelocityY < targetY)) {
+                newVelocityY = targetY;
+            }
+
+            if (!positionLocked[x]) {
+                positionX[x] += (oldVelocityX * timeDelta)
+                        + (directionalAccelerationX * halfTimeSquared);
+                positionY[x] += (oldVelocityY * timeDelta)
+                        + (directionalAccelerationY * halfTimeSquared);
+            }
+            velocityX[x] = newVelocityX;
+            velocityY[x] = newVelocityY;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures ObjectPool allocation and release: a single allocate/release pair, and a burst that
+ * checks out the whole pool and returns it, like a render queue or the collision records over a
+ * frame.  The lazy variant starts empty each iteration so that chunked creation is included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectPoolBenchmark {
+    private static final int LAZY_CHUNK = 16;
+
+    @Param({"64", "256", "384", "1024"})
+    public int size;
+
+    private SizedVectorPool mPool;
+    private Vector2[] mCheckedOut;
+
+    @Setup
+    public void setUp() {
+        DebugLog.setDebugLogging(false);
+        mPool = new SizedVectorPool(size, 0);
+        mCheckedOut = new Vector2[size];
+    }
+
+    @Benchmark
+    public Vector2 allocateRelease() {
+        final Vector2 vector = mPool.allocate();
+        mPool.release(vector);
+        return vector;
+    }
+
+    @Benchmark
+    public int allocateAllReleaseAll() {
+        final SizedVectorPool pool = mPool;
+        final Vector2[] checkedOut = mCheckedOut;
+        for (int x = 0; x < checkedOut.length; x++) {
+            checkedOut[x] = pool.allocate();
+        }
+        for (int x = checkedOut.length - 1; x >= 0; x--) {
+            pool.release(checkedOut[x]);
+            checkedOut[x] = null;
+        }
+        return pool.getAllocatedCount();
+    }
+
+    /** Creates a lazy pool and checks out all of it, so every chunk gets created. */
+    @Benchmark
+    public int lazyFirstUse() {
+        final SizedVectorPool pool = new SizedVectorPool(size, LAZY_CHUNK);
+        for (int x = 0; x < size; x++) {
+            pool.allocate();
+        }
+        // Pools register themselves; don't let the registry grow without bound.
+        BaseObject.getSystemRegistry().unregisterPool(pool);
+        return pool.getSize();
+    }
+
+    /** A pool of Vector2s with a chosen size. */
+    private static class SizedVectorPool extends TObjectPool<Vector2> {
+        public SizedVectorPool(int size, int lazyChunk) {
+            super(size, lazyChunk);
+        }
+
+        @Override
+        protected void fill() {
+            for (int x = 0; x < getSize(); x++) {
+                getAvailable().add(new Vector2());
+            }
+        }
+
+        @Override
+        public void release(Object entry) {
+            ((Vector2)entry).zero();
+            super.release(entry);
+        }
+    }
+}
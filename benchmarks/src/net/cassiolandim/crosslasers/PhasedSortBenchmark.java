@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sorting a PhasedObjectManager's children, as RenderSystem does with its queues every
+ * frame, using PhasedObjectManager's own comparator.  Each invocation refills the array from the
+ * input (in input order) and sorts it.  Phases are spread like render phases: a priority bucket
+ * of 1000 plus a texture offset.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhasedSortBenchmark {
+    @Param({"64", "256", "384", "1024"})
+    public int size;
+
+    @Param({"PRESORTED", "REVERSED", "RANDOM", "NEARLY_SORTED"})
+    public BenchmarkInputs.Order order;
+
+    @Param({"standard", "quick", "shell", "radix"})
+    public String sorter;
+
+    private PhasedObject[] mInput;
+    private FixedSizeArray<BaseObject> mObjects;
+
+    @Setup
+    public void setUp() {
+        DebugLog.setDebugLogging(false);
+        final int[] keys = BenchmarkInputs.keys(order, size, 1);
+        mInput = new PhasedObject[size];
+        for (int x = 0; x < size; x++) {
+            mInput[x] = new PhasedObject();
+            mInput[x].setPhase(((keys[x] / 16) * 1000) + (keys[x] % 16));
+        }
+        final PhasedObjectManager manager = new PhasedObjectManager(size);
+        mObjects = manager.getObjects();
+        mObjects.setSorter(BenchmarkInputs.<BaseObject>sorter(sorter, size));
+    }
+
+    @Benchmark
+    public FixedSizeArray<BaseObject> sort() {
+        final FixedSizeArray<BaseObject> objects = mObjects;
+        final PhasedObject[] input = mInput;
+        objects.clear();
+        for (int x = 0; x < input.length; x++) {
+            objects.add(input[x]);
+        }
+        objects.sort(true);
+        return objects;
+    }
+}
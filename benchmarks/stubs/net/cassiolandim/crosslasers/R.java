@@ -0,0 +1,459 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+/**
+ * Stand-in for the R class that the Android build generates from res/, so that the game sources
+ * compile on a desktop JVM.  The IDs are placeholders (unique within each resource type) and are
+ * never used to load anything.  Lists every resource the game sources refer to; add a field here
+ * when the game starts using a new resource.
+ */
+public final class R {
+    public static final class anim {
+        public static final int button_flicker = 2130706433;
+        public static final int button_slide = 2130706434;
+        public static final int fade_in = 2130706435;
+        public static final int fade_out = 2130706436;
+        public static final int horizontal_layer1_slide = 2130706437;
+        public static final int horizontal_layer2_slide = 2130706438;
+        public static final int kyle_fall = 2130706439;
+        public static final int rokudou_game_over = 2130706440;
+        public static final int rokudou_slide_bg = 2130706441;
+        public static final int rokudou_slide_cliffs = 2130706442;
+        public static final int rokudou_slide_rokudou = 2130706443;
+        public static final int rokudou_slide_sphere = 2130706444;
+    }
+    public static final class array {
+        public static final int keycode_labels = 2130706433;
+    }
+    public static final class attr {
+        public static final int dialogPreferenceStyle = 2130706433;
+        public static final int preferenceStyle = 2130706434;
+        public static final int yesNoPreferenceStyle = 2130706435;
+    }
+    public static final class drawable {
+        public static final int andou_diag01 = 2130706433;
+        public static final int andou_diag02 = 2130706434;
+        public static final int andou_diag03 = 2130706435;
+        public static final int andou_diagmore01 = 2130706436;
+        public static final int andou_diagmore02 = 2130706437;
+        public static final int andou_diagmore03 = 2130706438;
+        public static final int andou_die01 = 2130706439;
+        public static final int andou_die02 = 2130706440;
+        public static final int andou_explode01 = 2130706441;
+        public static final int andou_explode02 = 2130706442;
+        public static final int andou_explode03 = 2130706443;
+        public static final int andou_explode04 = 2130706444;
+        public static final int andou_explode05 = 2130706445;
+        public static final int andou_explode06 = 2130706446;
+        public static final int andou_explode07 = 2130706447;
+        public static final int andou_explode08 = 2130706448;
+        public static final int andou_explode09 = 2130706449;
+        public static final int andou_explode10 = 2130706450;
+        public static final int andou_explode11 = 2130706451;
+        public static final int andou_explode12 = 2130706452;
+        public static final int andou_flyup02 = 2130706453;
+        public static final int andou_flyup03 = 2130706454;
+        public static final int andou_hit = 2130706455;
+        public static final int andou_stand = 2130706456;
+        public static final int andou_stomp01 = 2130706457;
+        public static final int andou_stomp02 = 2130706458;
+        public static final int andou_stomp03 = 2130706459;
+        public static final int andou_stomp04 = 2130706460;
+        public static final int background_grass2 = 2130706461;
+        public static final int background_island = 2130706462;
+        public static final int background_island2 = 2130706463;
+        public static final int background_lab01 = 2130706464;
+        public static final int background_sewage = 2130706465;
+        public static final int background_sunset = 2130706466;
+        public static final int background_underground = 2130706467;
+        public static final int black = 2130706468;
+        public static final int debug_box_blue = 2130706469;
+        public static final int debug_box_outline = 2130706470;
+        public static final int debug_box_red = 2130706471;
+        public static final int debug_circle_blue = 2130706472;
+        public static final int debug_circle_outline = 2130706473;
+        public static final int debug_circle_red = 2130706474;
+        public static final int dust01 = 2130706475;
+        public static final int dust02 = 2130706476;
+        public static final int dust03 = 2130706477;
+        public static final int dust04 = 2130706478;
+        public static final int dust05 = 2130706479;
+        public static final int effect_bullet01 = 2130706480;
+        public static final int effect_bullet02 = 2130706481;
+        public static final int effect_crush_back01 = 2130706482;
+        public static final int effect_crush_back02 = 2130706483;
+        public static final int effect_crush_back03 = 2130706484;
+        public static final int effect_crush_front01 = 2130706485;
+        public static final int effect_crush_front02 = 2130706486;
+        public static final int effect_crush_front03 = 2130706487;
+        public static final int effect_crush_front04 = 2130706488;
+        public static final int effect_crush_front05 = 2130706489;
+        public static final int effect_crush_front06 = 2130706490;
+        public static final int effect_crush_front07 = 2130706491;
+        public static final int effect_energyball01 = 2130706492;
+        public static final int effect_energyball02 = 2130706493;
+        public static final int effect_energyball03 = 2130706494;
+        public static final int effect_energyball04 = 2130706495;
+        public static final int effect_explosion_big01 = 2130706496;
+        public static final int effect_explosion_big02 = 2130706497;
+        public static final int effect_explosion_big03 = 2130706498;
+        public static final int effect_explosion_big04 = 2130706499;
+        public static final int effect_explosion_big05 = 2130706500;
+        public static final int effect_explosion_big06 = 2130706501;
+        public static final int effect_explosion_big07 = 2130706502;
+        public static final int effect_explosion_big08 = 2130706503;
+        public static final int effect_explosion_big09 = 2130706504;
+        public static final int effect_explosion_small01 = 2130706505;
+        public static final int effect_explosion_small02 = 2130706506;
+        public static final int effect_explosion_small03 = 2130706507;
+        public static final int effect_explosion_small04 = 2130706508;
+        public static final int effect_explosion_small05 = 2130706509;
+        public static final int effect_explosion_small06 = 2130706510;
+        public static final int effect_explosion_small07 = 2130706511;
+        public static final int effect_glow01 = 2130706512;
+        public static final int effect_glow02 = 2130706513;
+        public static final int effect_glow03 = 2130706514;
+        public static final int effect_smoke_big01 = 2130706515;
+        public static final int effect_smoke_big02 = 2130706516;
+        public static final int effect_smoke_big03 = 2130706517;
+        public static final int effect_smoke_big04 = 2130706518;
+        public static final int effect_smoke_big05 = 2130706519;
+        public static final int effect_smoke_small01 = 2130706520;
+        public static final int effect_smoke_small02 = 2130706521;
+        public static final int effect_smoke_small03 = 2130706522;
+        public static final int effect_smoke_small04 = 2130706523;
+        public static final int effect_smoke_small05 = 2130706524;
+        public static final int enemy_bat01 = 2130706525;
+        public static final int enemy_bat02 = 2130706526;
+        public static final int enemy_bat03 = 2130706527;
+        public static final int enemy_bat04 = 2130706528;
+        public static final int enemy_brobot_idle01 = 2130706529;
+        public static final int enemy_brobot_idle02 = 2130706530;
+        public static final int enemy_brobot_idle03 = 2130706531;
+        public static final int enemy_brobot_walk01 = 2130706532;
+        public static final int enemy_brobot_walk02 = 2130706533;
+        public static final int enemy_brobot_walk03 = 2130706534;
+        public static final int enemy_kabocha_evil_die01 = 2130706535;
+        public static final int enemy_kabocha_evil_die02 = 2130706536;
+        public static final int enemy_kabocha_evil_die03 = 2130706537;
+        public static final int enemy_kabocha_evil_die04 = 2130706538;
+        public static final int enemy_kabocha_evil_hit01 = 2130706539;
+        public static final int enemy_kabocha_evil_hit02 = 2130706540;
+        public static final int enemy_kabocha_evil_stand = 2130706541;
+        public static final int enemy_kabocha_evil_surprised = 2130706542;
+        public static final int enemy_kabocha_evil_walk01 = 2130706543;
+        public static final int enemy_kabocha_evil_walk02 = 2130706544;
+        public static final int enemy_kabocha_evil_walk03 = 2130706545;
+        public static final int enemy_kabocha_evil_walk04 = 2130706546;
+        public static final int enemy_kabocha_evil_walk05 = 2130706547;
+        public static final int enemy_kabocha_evil_walk06 = 2130706548;
+        public static final int enemy_kabocha_stand = 2130706549;
+        public static final int enemy_kabocha_walk01 = 2130706550;
+        public static final int enemy_kabocha_walk02 = 2130706551;
+        public static final int enemy_kabocha_walk03 = 2130706552;
+        public static final int enemy_kabocha_walk04 = 2130706553;
+        public static final int enemy_kabocha_walk05 = 2130706554;
+        public static final int enemy_kabocha_walk06 = 2130706555;
+        public static final int enemy_karaguin01 = 2130706556;
+        public static final int enemy_karaguin02 = 2130706557;
+        public static final int enemy_karaguin03 = 2130706558;
+        public static final int enemy_kyle_crouch01 = 2130706559;
+        public static final int enemy_kyle_crouch02 = 2130706560;
+        public static final int enemy_kyle_dash01 = 2130706561;
+        public static final int enemy_kyle_dash02 = 2130706562;
+        public static final int enemy_kyle_dead = 2130706563;
+        public static final int enemy_kyle_jump01 = 2130706564;
+        public static final int enemy_kyle_stand = 2130706565;
+        public static final int enemy_kyle_walk01 = 2130706566;
+        public static final int enemy_kyle_walk02 = 2130706567;
+        public static final int enemy_kyle_walk03 = 2130706568;
+        public static final int enemy_kyle_walk04 = 2130706569;
+        public static final int enemy_kyle_walk05 = 2130706570;
+        public static final int enemy_kyle_walk06 = 2130706571;
+        public static final int enemy_kyle_walk07 = 2130706572;
+        public static final int enemy_mud_attack01 = 2130706573;
+        public static final int enemy_mud_attack02 = 2130706574;
+        public static final int enemy_mud_attack03 = 2130706575;
+        public static final int enemy_mud_attack04 = 2130706576;
+        public static final int enemy_mud_attack05 = 2130706577;
+        public static final int enemy_mud_attack06 = 2130706578;
+        public static final int enemy_mud_attack07 = 2130706579;
+        public static final int enemy_mud_idle01 = 2130706580;
+        public static final int enemy_mud_stand = 2130706581;
+        public static final int enemy_mud_walk01 = 2130706582;
+        public static final int enemy_mud_walk02 = 2130706583;
+        public static final int enemy_mud_walk03 = 2130706584;
+        public static final int enemy_mud_walk04 = 2130706585;
+        public static final int enemy_mud_walk05 = 2130706586;
+        public static final int enemy_mud_walk06 = 2130706587;
+        public static final int enemy_onion01 = 2130706588;
+        public static final int enemy_onion02 = 2130706589;
+        public static final int enemy_onion03 = 2130706590;
+        public static final int enemy_pinkdude_eyeopen = 2130706591;
+        public static final int enemy_pinkdude_jump = 2130706592;
+        public static final int enemy_pinkdude_sleep01 = 2130706593;
+        public static final int enemy_pinkdude_sleep02 = 2130706594;
+        public static final int enemy_pinkdude_stand = 2130706595;
+        public static final int enemy_rokudou_fight_die01 = 2130706596;
+        public static final int enemy_rokudou_fight_die02 = 2130706597;
+        public static final int enemy_rokudou_fight_die03 = 2130706598;
+        public static final int enemy_rokudou_fight_die04 = 2130706599;
+        public static final int enemy_rokudou_fight_fly01 = 2130706600;
+        public static final int enemy_rokudou_fight_fly02 = 2130706601;
+        public static final int enemy_rokudou_fight_hit01 = 2130706602;
+        public static final int enemy_rokudou_fight_hit02 = 2130706603;
+        public static final int enemy_rokudou_fight_hit03 = 2130706604;
+        public static final int enemy_rokudou_fight_shoot01 = 2130706605;
+        public static final int enemy_rokudou_fight_shoot02 = 2130706606;
+        public static final int enemy_rokudou_fight_stand = 2130706607;
+        public static final int enemy_rokudou_fight_surprise = 2130706608;
+        public static final int enemy_shadowslime_activate01 = 2130706609;
+        public static final int enemy_shadowslime_activate02 = 2130706610;
+        public static final int enemy_shadowslime_activate03 = 2130706611;
+        public static final int enemy_shadowslime_activate04 = 2130706612;
+        public static final int enemy_shadowslime_activate05 = 2130706613;
+        public static final int enemy_shadowslime_activate06 = 2130706614;
+        public static final int enemy_shadowslime_attack01 = 2130706615;
+        public static final int enemy_shadowslime_attack02 = 2130706616;
+        public static final int enemy_shadowslime_attack03 = 2130706617;
+        public static final int enemy_shadowslime_attack04 = 2130706618;
+        public static final int enemy_shadowslime_flash = 2130706619;
+        public static final int enemy_shadowslime_idle01 = 2130706620;
+        public static final int enemy_shadowslime_idle02 = 2130706621;
+        public static final int enemy_skeleton_attack01 = 2130706622;
+        public static final int enemy_skeleton_attack03 = 2130706623;
+        public static final int enemy_skeleton_attack04 = 2130706624;
+        public static final int enemy_skeleton_stand = 2130706625;
+        public static final int enemy_skeleton_walk01 = 2130706626;
+        public static final int enemy_skeleton_walk02 = 2130706627;
+        public static final int enemy_skeleton_walk03 = 2130706628;
+        public static final int enemy_skeleton_walk04 = 2130706629;
+        public static final int enemy_skeleton_walk05 = 2130706630;
+        public static final int enemy_source_black = 2130706631;
+        public static final int enemy_source_body = 2130706632;
+        public static final int enemy_source_core = 2130706633;
+        public static final int enemy_source_spikes = 2130706634;
+        public static final int enemy_source_spots = 2130706635;
+        public static final int enemy_sting01 = 2130706636;
+        public static final int enemy_sting02 = 2130706637;
+        public static final int enemy_sting03 = 2130706638;
+        public static final int enemy_wanda_crouch = 2130706639;
+        public static final int enemy_wanda_jump01 = 2130706640;
+        public static final int enemy_wanda_run01 = 2130706641;
+        public static final int enemy_wanda_run02 = 2130706642;
+        public static final int enemy_wanda_run03 = 2130706643;
+        public static final int enemy_wanda_run04 = 2130706644;
+        public static final int enemy_wanda_run05 = 2130706645;
+        public static final int enemy_wanda_run06 = 2130706646;
+        public static final int enemy_wanda_run07 = 2130706647;
+        public static final int enemy_wanda_run08 = 2130706648;
+        public static final int enemy_wanda_shoot01 = 2130706649;
+        public static final int enemy_wanda_shoot02 = 2130706650;
+        public static final int enemy_wanda_shoot03 = 2130706651;
+        public static final int enemy_wanda_shoot04 = 2130706652;
+        public static final int enemy_wanda_shoot05 = 2130706653;
+        public static final int enemy_wanda_shoot06 = 2130706654;
+        public static final int enemy_wanda_shoot07 = 2130706655;
+        public static final int enemy_wanda_shoot08 = 2130706656;
+        public static final int enemy_wanda_shoot09 = 2130706657;
+        public static final int enemy_wanda_stand = 2130706658;
+        public static final int enemy_wanda_walk01 = 2130706659;
+        public static final int enemy_wanda_walk02 = 2130706660;
+        public static final int enemy_wanda_walk03 = 2130706661;
+        public static final int enemy_wanda_walk04 = 2130706662;
+        public static final int enemy_wanda_walk05 = 2130706663;
+        public static final int energy_ball01 = 2130706664;
+        public static final int energy_ball02 = 2130706665;
+        public static final int energy_ball03 = 2130706666;
+        public static final int energy_ball04 = 2130706667;
+        public static final int framerate_warning = 2130706668;
+        public static final int jetfire01 = 2130706669;
+        public static final int jetfire02 = 2130706670;
+        public static final int key_config_border = 2130706671;
+        public static final int key_config_border_active = 2130706672;
+        public static final int object_brobot_machine = 2130706673;
+        public static final int object_button_blue = 2130706674;
+        public static final int object_button_green = 2130706675;
+        public static final int object_button_pressed_blue = 2130706676;
+        public static final int object_button_pressed_green = 2130706677;
+        public static final int object_button_pressed_red = 2130706678;
+        public static final int object_button_red = 2130706679;
+        public static final int object_cannon = 2130706680;
+        public static final int object_coin01 = 2130706681;
+        public static final int object_coin02 = 2130706682;
+        public static final int object_coin03 = 2130706683;
+        public static final int object_coin04 = 2130706684;
+        public static final int object_coin05 = 2130706685;
+        public static final int object_debris_block = 2130706686;
+        public static final int object_debris_piece = 2130706687;
+        public static final int object_door_blue01 = 2130706688;
+        public static final int object_door_blue02 = 2130706689;
+        public static final int object_door_blue03 = 2130706690;
+        public static final int object_door_blue04 = 2130706691;
+        public static final int object_door_green01 = 2130706692;
+        public static final int object_door_green02 = 2130706693;
+        public static final int object_door_green03 = 2130706694;
+        public static final int object_door_green04 = 2130706695;
+        public static final int object_door_red01 = 2130706696;
+        public static final int object_door_red02 = 2130706697;
+        public static final int object_door_red03 = 2130706698;
+        public static final int object_door_red04 = 2130706699;
+        public static final int object_gunturret01 = 2130706700;
+        public static final int object_gunturret02 = 2130706701;
+        public static final int object_gunturret03 = 2130706702;
+        public static final int object_gunturret_idle = 2130706703;
+        public static final int object_ruby01 = 2130706704;
+        public static final int object_ruby02 = 2130706705;
+        public static final int object_ruby03 = 2130706706;
+        public static final int object_ruby04 = 2130706707;
+        public static final int object_ruby05 = 2130706708;
+        public static final int object_terminal01 = 2130706709;
+        public static final int object_terminal02 = 2130706710;
+        public static final int object_terminal03 = 2130706711;
+        public static final int object_terminal_kabocha01 = 2130706712;
+        public static final int object_terminal_kabocha02 = 2130706713;
+        public static final int object_terminal_kabocha03 = 2130706714;
+        public static final int snail_bomb = 2130706715;
+        public static final int snailbomb_shoot01 = 2130706716;
+        public static final int snailbomb_shoot02 = 2130706717;
+        public static final int snailbomb_stand = 2130706718;
+        public static final int snailbomb_walk01 = 2130706719;
+        public static final int snailbomb_walk02 = 2130706720;
+        public static final int spark01 = 2130706721;
+        public static final int spark02 = 2130706722;
+        public static final int spark03 = 2130706723;
+        public static final int ui_0 = 2130706724;
+        public static final int ui_1 = 2130706725;
+        public static final int ui_2 = 2130706726;
+        public static final int ui_3 = 2130706727;
+        public static final int ui_4 = 2130706728;
+        public static final int ui_5 = 2130706729;
+        public static final int ui_6 = 2130706730;
+        public static final int ui_7 = 2130706731;
+        public static final int ui_8 = 2130706732;
+        public static final int ui_9 = 2130706733;
+        public static final int ui_bar = 2130706734;
+        public static final int ui_bar_bg = 2130706735;
+        public static final int ui_button_continue = 2130706736;
+        public static final int ui_button_fly_disabled = 2130706737;
+        public static final int ui_button_fly_off = 2130706738;
+        public static final int ui_button_fly_on = 2130706739;
+        public static final int ui_button_start = 2130706740;
+        public static final int ui_button_stomp_off = 2130706741;
+        public static final int ui_button_stomp_on = 2130706742;
+        public static final int ui_gem = 2130706743;
+        public static final int ui_pearl = 2130706744;
+        public static final int ui_x = 2130706745;
+    }
+    public static final class id {
+        public static final int animation_background = 2130706433;
+        public static final int animation_canvas = 2130706434;
+        public static final int animation_cliffs = 2130706435;
+        public static final int animation_foreground = 2130706436;
+        public static final int animation_rokudou = 2130706437;
+        public static final int animation_sphere = 2130706438;
+        public static final int attack_border = 2130706439;
+        public static final int game_over = 2130706440;
+        public static final int glsurfaceview = 2130706441;
+        public static final int jump_border = 2130706442;
+        public static final int key_attack = 2130706443;
+        public static final int key_jump = 2130706444;
+        public static final int key_left = 2130706445;
+        public static final int key_right = 2130706446;
+        public static final int left_border = 2130706447;
+        public static final int mainMenuBackground = 2130706448;
+        public static final int max = 2130706449;
+        public static final int min = 2130706450;
+        public static final int optionButton = 2130706451;
+        public static final int pausedMessage = 2130706452;
+        public static final int right_border = 2130706453;
+        public static final int slider = 2130706454;
+        public static final int startButton = 2130706455;
+        public static final int text = 2130706456;
+        public static final int ticker = 2130706457;
+        public static final int title = 2130706458;
+    }
+    public static final class layout {
+        public static final int animation_player = 2130706433;
+        public static final int custom_toast = 2130706434;
+        public static final int good_ending_animation = 2130706435;
+        public static final int kabocha_ending_animation = 2130706436;
+        public static final int level_select = 2130706437;
+        public static final int level_select_completed_row = 2130706438;
+        public static final int level_select_disabled_row = 2130706439;
+        public static final int level_select_row = 2130706440;
+        public static final int main = 2130706441;
+        public static final int mainmenu = 2130706442;
+        public static final int rokudou_ending_animation = 2130706443;
+        public static final int slider_preference = 2130706444;
+    }
+    public static final class raw {
+        public static final int bwv_115 = 2130706433;
+        public static final int collision = 2130706434;
+        public static final int deep_clang = 2130706435;
+        public static final int ding = 2130706436;
+        public static final int gem1 = 2130706437;
+        public static final int gem2 = 2130706438;
+        public static final int gem3 = 2130706439;
+        public static final int quick_explosion = 2130706440;
+        public static final int rockets = 2130706441;
+        public static final int sound_break_block = 2130706442;
+        public static final int sound_button = 2130706443;
+        public static final int sound_cannon = 2130706444;
+        public static final int sound_close = 2130706445;
+        public static final int sound_explode = 2130706446;
+        public static final int sound_gun = 2130706447;
+        public static final int sound_kabocha_hit = 2130706448;
+        public static final int sound_open = 2130706449;
+        public static final int sound_poing = 2130706450;
+        public static final int sound_possession = 2130706451;
+        public static final int sound_rokudou_hit = 2130706452;
+        public static final int sound_stomp = 2130706453;
+        public static final int thump = 2130706454;
+    }
+    public static final class string {
+        public static final int change_level = 2130706433;
+        public static final int memory_playback_start = 2130706434;
+        public static final int method_tracing = 2130706435;
+        public static final int nav_type = 2130706436;
+        public static final int quit_game_dialog_cancel = 2130706437;
+        public static final int quit_game_dialog_message = 2130706438;
+        public static final int quit_game_dialog_ok = 2130706439;
+        public static final int quit_game_dialog_title = 2130706440;
+        public static final int saved_game_erased_notification = 2130706441;
+        public static final int unlock_levels = 2130706442;
+        public static final int unlock_next_level = 2130706443;
+        public static final int whats_new_dialog_message = 2130706444;
+        public static final int whats_new_dialog_ok = 2130706445;
+        public static final int whats_new_dialog_title = 2130706446;
+    }
+    public static final class styleable {
+        public static final int[] KeyConfigPreference = {0};
+        public static final int KeyConfigPreference_attackKey = 2130706434;
+        public static final int KeyConfigPreference_jumpKey = 2130706435;
+        public static final int KeyConfigPreference_leftKey = 2130706436;
+        public static final int KeyConfigPreference_rightKey = 2130706437;
+        public static final int[] SliderPreference = {0};
+        public static final int SliderPreference_maxText = 2130706439;
+        public static final int SliderPreference_minText = 2130706440;
+    }
+    public static final class xml {
+        public static final int level_tree = 2130706433;
+        public static final int preferences = 2130706434;
+    }
+}
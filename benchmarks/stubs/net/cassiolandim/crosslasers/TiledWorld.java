@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+/**
+ * Replaces the game's TiledWorld, which doesn't yet have the accessors that CollisionSystem and
+ * TiledVertexGrid call, so that the game sources compile on a desktop JVM.  The world is always
+ * empty; the benchmarks never load a level.
+ */
+public class TiledWorld extends AllocationGuard {
+    private static final int[][] EMPTY = new int[0][0];
+
+    public TiledWorld(LevelTree.Level level) {
+        super();
+    }
+
+    public int getWidth() {
+        return 0;
+    }
+
+    public int getHeight() {
+        return 0;
+    }
+
+    public int[][] getTiles() {
+        return EMPTY;
+    }
+
+    public int getTile(int x, int y) {
+        return -1;
+    }
+}
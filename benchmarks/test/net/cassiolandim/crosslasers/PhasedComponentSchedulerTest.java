@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.cassiolandim.crosslasers.component.GameComponent;
+import net.cassiolandim.crosslasers.component.GameComponent.ComponentPhases;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PhasedComponentSchedulerTest {
+    private static final float TIME_DELTA = 1.0f / 60.0f;
+
+    private final List<GameComponent> mLog = new ArrayList<GameComponent>();
+
+    @Before
+    public void setUp() {
+        DebugLog.setDebugLogging(false);
+        mLog.clear();
+    }
+
+    @Test
+    public void keepsObjectOrderWithinRankLimit() {
+        GameObject object = new GameObject();
+        addComponents(object, ComponentPhases.THINK, 8);
+        addComponents(object, ComponentPhases.MOVEMENT, 3);
+
+        runScheduler(object);
+
+        assertEquals(expectedOrder(object), ranOn(object));
+    }
+
+    @Test
+    public void keepsObjectOrderPastRankLimit() {
+        GameObject crowded = new GameObject();
+        addComponents(crowded, ComponentPhases.THINK, 11);
+        addComponents(crowded, ComponentPhases.MOVEMENT, 2);
+        GameObject plain = new GameObject();
+        addComponents(plain, ComponentPhases.THINK, 3);
+
+        runScheduler(crowded, plain);
+
+        assertEquals(expectedOrder(crowded), ranOn(crowded));
+        assertEquals(expectedOrder(plain), ranOn(plain));
+        assertEquals(16, mLog.size());
+    }
+
+    @Test
+    public void updatesCrowdedObjectsEveryFrame() {
+        GameObject crowded = new GameObject();
+        addComponents(crowded, ComponentPhases.THINK, 9);
+        PhasedComponentScheduler scheduler = new PhasedComponentScheduler(64);
+
+        for (int frame = 0; frame < 3; frame++) {
+            mLog.clear();
+            scheduler.update(new Object[] { crowded }, 1, TIME_DELTA);
+            assertEquals(expectedOrder(crowded), ranOn(crowded));
+        }
+    }
+
+    /** Adds count components in phase, alternating between two classes. */
+    private void addComponents(GameObject object, ComponentPhases phase, int count) {
+        for (int x = 0; x < count; x++) {
+            GameComponent component = (x % 2 == 0) ? new First(mLog) : new Second(mLog);
+            component.setPhase(phase.ordinal());
+            object.add(component);
+        }
+    }
+
+    private void runScheduler(GameObject... objects) {
+        new PhasedComponentScheduler(64).update(objects, objects.length, TIME_DELTA);
+    }
+
+    /** Returns the components of object in the order GameObject.update() runs them. */
+    private static List<GameComponent> expectedOrder(GameObject object) {
+        List<GameComponent> order = new ArrayList<GameComponent>();
+        final Object[] components = object.getObjects().getArray();
+        for (int x = 0; x < object.getCount(); x++) {
+            order.add((GameComponent)components[x]);
+        }
+        return order;
+    }
+
+    /** Returns the logged updates of object's components, in the order they ran. */
+    private List<GameComponent> ranOn(GameObject object) {
+        List<GameComponent> expected = expectedOrder(object);
+        List<GameComponent> ran = new ArrayList<GameComponent>();
+        for (GameComponent component : mLog) {
+            if (expected.contains(component)) {
+                ran.add(component);
+            }
+        }
+        return ran;
+    }
+
+    private static class First extends GameComponent {
+        private final List<GameComponent> mLog;
+
+        First(List<GameComponent> log) {
+            mLog = log;
+        }
+
+        @Override
+        public void update(float timeDelta, BaseObject parent) {
+            mLog.add(this);
+        }
+    }
+
+    private static class Second extends First {
+        Second(List<GameComponent> log) {
+            super(log);
+        }
+    }
+}
@@ -21,15 +21,55 @@ package net.cassiolandim.crosslasers;
  * The core object from which most other objects are derived.  Anything that will be managed by
  * an ObjectManager, and anything that requires an update per frame should be derived from
  * BaseObject.  BaseObject also defines the interface for the object-wide system registry.
+ * Each game world has its own registry.  A thread sees the registry of the world it has been bound
+ * to with setThreadSystemRegistry(); threads that haven't been bound (the UI, game and render
+ * threads of the regular game) all share the default registry.
  */
 public abstract class BaseObject extends AllocationGuard {
     
-	public static ObjectRegistry sSystemRegistry = new ObjectRegistry();
+	private static final ObjectRegistry sDefaultRegistry = new ObjectRegistry();
+	private static final ThreadLocal<ObjectRegistry> sThreadRegistry 
+		= new ThreadLocal<ObjectRegistry>();
+	// Set by the first thread to bind a world.  This doesn't need to be volatile: a thread that
+	// binds a world always sees its own write, and a stale value on any other thread only means
+	// that it uses the default registry, which is correct for an unbound thread.
+	private static boolean sThreadRegistriesInUse = false;
+	
+	// Index of this object in the ObjectManager that most recently added it.  Only a hint: objects
+	// may belong to several managers, so ObjectManager checks it before trusting it.
+	int mManagerSlot = -1;
 
     public BaseObject() {
         super();
     }
     
+    /** Returns the system registry of the world that the calling thread is bound to. */
+    public static final ObjectRegistry getSystemRegistry() {
+        if (sThreadRegistriesInUse) {
+            final ObjectRegistry registry = sThreadRegistry.get();
+            if (registry != null) {
+                return registry;
+            }
+        }
+        return sDefaultRegistry;
+    }
+    
+    /** 
+     * Binds the calling thread to the passed world registry.  Passing null returns the thread to
+     * the default registry.
+     * @return  The registry the thread was bound to before this call (null for the default).
+     */
+    public static final ObjectRegistry setThreadSystemRegistry(ObjectRegistry registry) {
+        final ObjectRegistry previous = sThreadRegistriesInUse ? sThreadRegistry.get() : null;
+        if (registry != null) {
+            sThreadRegistriesInUse = true;
+        }
+        if (sThreadRegistriesInUse) {
+            sThreadRegistry.set(registry);
+        }
+        return previous;
+    }
+    
     /**
      * Update this object.
      * @param timeDelta  The duration since the last update (in seconds).
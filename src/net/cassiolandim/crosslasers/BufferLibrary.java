@@ -42,7 +42,7 @@ public class BufferLibrary extends BaseObject {
     }
     
     public void generateHardwareBuffers(GL10 gl) {
-    	if (sSystemRegistry.contextParameters.supportsVBOs) {
+    	if (getSystemRegistry().contextParameters.supportsVBOs) {
 	        final int count = mGridList.getCount();
 	        for (int x = 0; x < count; x++) {
 	            Grid grid = mGridList.get(x);
@@ -52,7 +52,7 @@ public class BufferLibrary extends BaseObject {
     }
     
     public void releaseHardwareBuffers(GL10 gl) {
-    	if (sSystemRegistry.contextParameters.supportsVBOs) {
+    	if (getSystemRegistry().contextParameters.supportsVBOs) {
 	        final int count = mGridList.getCount();
 	        for (int x = 0; x < count; x++) {
 	            Grid grid = mGridList.get(x);
@@ -62,7 +62,7 @@ public class BufferLibrary extends BaseObject {
     }
     
     public void invalidateHardwareBuffers() {
-    	if (sSystemRegistry.contextParameters.supportsVBOs) {
+    	if (getSystemRegistry().contextParameters.supportsVBOs) {
 	        final int count = mGridList.getCount();
 	        for (int x = 0; x < count; x++) {
 	            Grid grid = mGridList.get(x);
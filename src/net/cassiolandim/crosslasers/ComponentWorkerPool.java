@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import net.cassiolandim.crosslasers.component.GameComponent;
+
+/**
+ * A fixed set of worker threads that update runs of parallel-safe components alongside the game
+ * thread.  execute() splits a run into contiguous slices, one per thread (the calling thread takes
+ * the first slice), and returns only once every slice is done, so each call acts as a barrier.
+ * Writes that the components deferred are then replayed on the calling thread in slice order,
+ * which is the order they would have been made in had the run been updated serially.
+ * Workers are bound to the system registry of the thread that calls execute().  They are daemon
+ * threads that block between runs; call shutdown() to stop them.
+ */
+public class ComponentWorkerPool extends AllocationGuard {
+    // Runs shorter than this per thread aren't worth waking workers for.
+    private static final int MIN_SLICE_SIZE = 8;
+
+    private final Worker[] mWorkers;
+    private final DeferredWrites[] mDeferredWrites;
+    private final Object mLock;
+    private int mGeneration;
+    private int mPendingSlices;
+    private boolean mShutdown;
+
+    // The run currently being executed.
+    private GameComponent[] mRunComponents;
+    private GameObject[] mRunOwners;
+    private int mRunStart;
+    private int mRunEnd;
+    private int mRunSlices;
+    private float mRunTimeDelta;
+    private ObjectRegistry mRunRegistry;
+
+    /**
+     * @param workerCount  The number of threads to create, in addition to the calling thread.
+     * @param maxDeferredWrites  The number of deferred writes each thread may record per run.
+     */
+    public ComponentWorkerPool(int workerCount, int maxDeferredWrites) {
+        super();
+        mLock = new Object();
+        mWorkers = new Worker[workerCount];
+        mDeferredWrites = new DeferredWrites[workerCount + 1];
+        for (int x = 0; x < mDeferredWrites.length; x++) {
+            mDeferredWrites[x] = new DeferredWrites(maxDeferredWrites);
+        }
+        for (int x = 0; x < workerCount; x++) {
+            mWorkers[x] = new Worker(x + 1);
+            mWorkers[x].setName("Component Worker " + (x + 1));
+            mWorkers[x].setDaemon(true);
+            mWorkers[x].start();
+        }
+    }
+
+    /** Returns the number of threads that share a run, including the calling thread. */
+    public int getThreadCount() {
+        return mWorkers.length + 1;
+    }
+
+    /**
+     * Updates components[start, end) across all threads.  Each component is updated with the
+     * matching entry of owners as its parent.
+     */
+    public void execute(GameComponent[] components, GameObject[] owners, int start, int end,
+            float timeDelta) {
+        int slices = (end - start) / MIN_SLICE_SIZE;
+        if (slices > getThreadCount()) {
+            slices = getThreadCount();
+        }
+        if (slices <= 1 || mShutdown) {
+            for (int x = start; x < end; x++) {
+                components[x].update(timeDelta, owners[x]);
+            }
+            return;
+        }
+
+        synchronized (mLock) {
+            mRunComponents = components;
+            mRunOwners = owners;
+            mRunStart = start;
+            mRunEnd = end;
+            mRunSlices = slices;
+            mRunTimeDelta = timeDelta;
+            mRunRegistry = BaseObject.getSystemRegistry();
+            mPendingSlices = slices - 1;
+            mGeneration++;
+            mLock.notifyAll();
+        }
+
+        DeferredWrites.setCurrent(mDeferredWrites[0]);
+        try {
+            runSlice(0);
+        } finally {
+            DeferredWrites.setCurrent(null);
+        }
+
+        synchronized (mLock) {
+            while (mPendingSlices > 0) {
+                try {
+                    mLock.wait();
+                } catch (InterruptedException e) {
+                    // Keep waiting; the workers still reference the run.
+                }
+            }
+            mRunComponents = null;
+            mRunOwners = null;
+            mRunRegistry = null;
+        }
+
+        for (int x = 0; x < slices; x++) {
+            mDeferredWrites[x].flush();
+        }
+    }
+
+    private void runSlice(int slice) {
+        final int count = mRunEnd - mRunStart;
+        final int sliceStart = mRunStart + (int)(((long)count * slice) / mRunSlices);
+        final int sliceEnd = mRunStart + (int)(((long)count * (slice + 1)) / mRunSlices);
+        final GameComponent[] components = mRunComponents;
+        final GameObject[] owners = mRunOwners;
+        final float timeDelta = mRunTimeDelta;
+        for (int x = sliceStart; x < sliceEnd; x++) {
+            components[x].update(timeDelta, owners[x]);
+        }
+    }
+
+    /** Stops the worker threads.  Later calls to execute() run on the calling thread. */
+    public void shutdown() {
+        synchronized (mLock) {
+            mShutdown = true;
+            mLock.notifyAll();
+        }
+    }
+
+    private class Worker extends Thread {
+        private final int mSlice;
+
+        public Worker(int slice) {
+            mSlice = slice;
+        }
+
+        @Override
+        public void run() {
+            DeferredWrites.setCurrent(mDeferredWrites[mSlice]);
+            int lastGeneration = 0;
+            ObjectRegistry registry = null;
+            while (true) {
+                synchronized (mLock) {
+                    while (mGeneration == lastGeneration && !mShutdown) {
+                        try {
+                            mLock.wait();
+                        } catch (InterruptedException e) {
+                            // Spurious; check the generation again.
+                        }
+                    }
+                    if (mShutdown) {
+                        break;
+                    }
+                    lastGeneration = mGeneration;
+                    if (mSlice >= mRunSlices) {
+                        continue;
+                    }
+                    registry = mRunRegistry;
+                }
+
+                BaseObject.setThreadSystemRegistry(registry);
+
+                try {
+                    runSlice(mSlice);
+                } finally {
+                    synchronized (mLock) {
+                        mPendingSlices--;
+                        if (mPendingSlices == 0) {
+                            mLock.notifyAll();
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import net.cassiolandim.crosslasers.component.GameComponent;
+
+/**
+ * Collects writes to shared systems made by components that run on worker threads.  Parallel-safe
+ * components may only modify themselves and their parent object; anything else (allocating
+ * drawables, scheduling draws, spawning objects, talking to the HUD) must be wrapped in
+ * GameComponent.runDeferred() and requested through DeferredWrites.run().  When the component is
+ * being updated on the game thread the write happens immediately.  When it is being updated as part
+ * of a parallel phase the request is recorded and replayed on the game thread once every worker has
+ * finished, in the same order the components would have run serially.
+ */
+public class DeferredWrites extends AllocationGuard {
+    private static final ThreadLocal<DeferredWrites> sCurrent = new ThreadLocal<DeferredWrites>();
+    private static final Object sOverflowLock = new Object();
+
+    private final GameComponent[] mComponents;
+    private final GameObject[] mParents;
+    private int mCount;
+
+    public DeferredWrites(int capacity) {
+        super();
+        mComponents = new GameComponent[capacity];
+        mParents = new GameObject[capacity];
+        mCount = 0;
+    }
+
+    /**
+     * Asks for component.runDeferred(parent) to be called on the game thread.  Outside of a
+     * parallel phase the call is made right away.
+     */
+    public static void run(GameComponent component, GameObject parent) {
+        final DeferredWrites writes = sCurrent.get();
+        if (writes == null) {
+            component.runDeferred(parent);
+        } else {
+            writes.add(component, parent);
+        }
+    }
+
+    /** Returns true if the calling thread is currently running a parallel phase. */
+    public static boolean isDeferring() {
+        return sCurrent.get() != null;
+    }
+
+    /** Routes DeferredWrites.run() calls made on this thread to the passed buffer (or nowhere). */
+    static void setCurrent(DeferredWrites writes) {
+        sCurrent.set(writes);
+    }
+
+    private void add(GameComponent component, GameObject parent) {
+        if (mCount < mComponents.length) {
+            mComponents[mCount] = component;
+            mParents[mCount] = parent;
+            mCount++;
+        } else {
+            // Out of room.  Every thread in a parallel phase defers its shared writes, so
+            // serializing the overflow against other overflows is enough to keep this safe, though
+            // the order of these writes is no longer deterministic.
+            DebugLog.d("DeferredWrites", "Buffer full, running write early.");
+            synchronized (sOverflowLock) {
+                component.runDeferred(parent);
+            }
+        }
+    }
+
+    /** Replays the recorded writes in order.  Must be called on the game thread. */
+    public void flush() {
+        final int count = mCount;
+        for (int x = 0; x < count; x++) {
+            mComponents[x].runDeferred(mParents[x]);
+            mComponents[x] = null;
+            mParents[x] = null;
+        }
+        mCount = 0;
+    }
+
+    public int getCount() {
+        return mCount;
+    }
+}
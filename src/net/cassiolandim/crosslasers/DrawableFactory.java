@@ -30,8 +30,12 @@ public class DrawableFactory extends BaseObject {
     
     // This class wraps several object pools and provides a type-sensitive release function.
     public DrawableFactory() {
+        this(BITMAP_POOL_SIZE);
+    }
+    
+    public DrawableFactory(int bitmapPoolSize) {
         super();
-        mBitmapPool = new DrawableBitmapPool(BITMAP_POOL_SIZE);
+        mBitmapPool = new DrawableBitmapPool(bitmapPoolSize);
     }
     
     @Override
@@ -79,7 +83,7 @@ public class DrawableFactory extends BaseObject {
         @Override
         public DrawableBitmap allocate() {
             DrawableBitmap result = super.allocate();
-            ContextParameters params = sSystemRegistry.contextParameters;
+            ContextParameters params = getSystemRegistry().contextParameters;
             if (result != null && params != null) {
                 result.setViewSize(params.gameWidth, params.gameHeight);
             }
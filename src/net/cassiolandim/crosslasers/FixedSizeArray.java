@@ -32,11 +32,18 @@ import java.util.Comparator;
 public class FixedSizeArray<T> extends AllocationGuard {
 	
     private final static int LINEAR_SEARCH_CUTOFF = 16;
+    // A key sort's insertion pass gives up, and sorts from scratch, once it has moved keys this
+    // many times per key.
+    private final static int KEY_SORT_MOVES_PER_KEY = 2;
     private final T[] mContents;
     private int mCount;
     private Comparator<T> mComparator;
     private boolean mSorted;
     private Sorter<T> mSorter;
+    private long[] mSortKeys;       // Scratch for the key sorts, allocated on first use.
+    private Object[] mSortScratch;
+    private int[] mKeyOrder;        // The last key sort's order; see setCoherentKeySort().
+    private int mKeyOrderCount;     // The count at the last key sort, or -1 if there wasn't one.
     
     public FixedSizeArray(int size) {
         super();
@@ -73,6 +80,39 @@ public class FixedSizeArray<T> extends AllocationGuard {
         }
     }
     
+    /**
+     * Inserts an object into a sorted array after every object that doesn't compare greater than
+     * it, shifting later objects down, so the array stays sorted.  If the array isn't known to be
+     * sorted it is sorted first.  Requires a comparator.  If the array is full, an assert is thrown
+     * and the object is ignored.
+     * @return  The index the object was inserted at, or -1 if the array is full.
+     */
+    public int insertSorted(T object) {
+        assert mComparator != null;
+        assert mCount < mContents.length : "Array exhausted!";
+        int index = -1;
+        if (mCount < mContents.length) {
+            sort(false);
+            final T[] contents = mContents;
+            final Comparator<T> comparator = mComparator;
+            int low = 0;
+            int high = mCount;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (comparator.compare(contents[middle], object) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            index = low;
+            System.arraycopy(contents, index, contents, index + 1, mCount - index);
+            contents[index] = object;
+            mCount++;
+        }
+        return index;
+    }
+    
     /** 
      * Searches for an object and removes it from the array if it is found.  Other indexes in the
      * array are shifted up to fill the space left by the removed object.  Note that if
@@ -105,6 +145,30 @@ public class FixedSizeArray<T> extends AllocationGuard {
         }
     }
     
+    /**
+     * Removes every null entry from the array in a single pass, shifting the remaining objects up
+     * while preserving their order.  This is much cheaper than calling remove() once per object
+     * when many objects leave the array at once.
+     * @return  The number of entries removed.
+     */
+    public int removeNulls() {
+        final T[] contents = mContents;
+        final int count = mCount;
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            final T object = contents[read];
+            if (object != null) {
+                contents[write] = object;
+                write++;
+            }
+        }
+        for (int x = write; x < count; x++) {
+            contents[x] = null;
+        }
+        mCount = write;
+        return count - write;
+    }
+    
     /**
      * Removes the last element in the array and returns it.  This method is faster than calling
      * remove(count -1);
@@ -256,6 +320,113 @@ public class FixedSizeArray<T> extends AllocationGuard {
         }
     }
     
+    /**
+     * Sorts the array by a float key.  Each object's key is computed once and the keys are sorted
+     * as primitives, so this is much cheaper than sort() when computing a key is expensive.
+     * Objects with equal keys keep their order.  Keys that are already nearly in order are
+     * finished with an insertion sort in about linear time; see also setCoherentKeySort().  The
+     * first call allocates scratch space the size of the array.  Sorting by key doesn't make the
+     * array sorted for find().
+     */
+    public void sortByFloatKey(FloatKey<T> key) {
+        final long[] keys = prepareKeySort();
+        final int[] order = getKeyOrder();
+        final T[] contents = mContents;
+        final int count = mCount;
+        for (int x = 0; x < count; x++) {
+            final int index = order != null ? order[x] : x;
+            // Reorder the float's bits so that they sort as a signed int.
+            int bits = Float.floatToIntBits(key.getKey(contents[index]));
+            bits ^= (bits >> 31) & 0x7fffffff;
+            keys[x] = ((long)bits << 32) | index;
+        }
+        applyKeySort(keys, count);
+    }
+
+    /** Sorts the array by an int key.  See sortByFloatKey(). */
+    public void sortByIntKey(IntKey<T> key) {
+        final long[] keys = prepareKeySort();
+        final int[] order = getKeyOrder();
+        final T[] contents = mContents;
+        final int count = mCount;
+        for (int x = 0; x < count; x++) {
+            final int index = order != null ? order[x] : x;
+            keys[x] = ((long)key.getKey(contents[index]) << 32) | index;
+        }
+        applyKeySort(keys, count);
+    }
+
+    /**
+     * Makes each key sort collect keys in the order that the previous key sort produced, rather
+     * than in the array's current order, as long as the count hasn't changed since.  Use this for
+     * arrays that are cleared and refilled in the same order before every sort, like
+     * per-frame collision records: last frame's order is then nearly right, and the insertion
+     * sort finishes it.  Arrays whose objects stay in place between sorts don't need it.
+     */
+    public void setCoherentKeySort(boolean coherent) {
+        mKeyOrder = coherent ? new int[mContents.length] : null;
+        mKeyOrderCount = -1;
+    }
+
+    private int[] getKeyOrder() {
+        return (mKeyOrder != null && mKeyOrderCount == mCount) ? mKeyOrder : null;
+    }
+
+    private long[] prepareKeySort() {
+        if (mSortKeys == null) {
+            mSortKeys = new long[mContents.length];
+            mSortScratch = new Object[mContents.length];
+        }
+        return mSortKeys;
+    }
+
+    /** Sorts keys (each holding an object's index in its low word) and reorders the objects. */
+    @SuppressWarnings("unchecked")  // The scratch only ever holds objects from mContents.
+    private void applyKeySort(long[] keys, int count) {
+        if (!insertionSort(keys, count, count * KEY_SORT_MOVES_PER_KEY)) {
+            Arrays.sort(keys, 0, count);
+        }
+        final T[] contents = mContents;
+        final Object[] scratch = mSortScratch;
+        System.arraycopy(contents, 0, scratch, 0, count);
+        for (int x = 0; x < count; x++) {
+            contents[x] = (T)scratch[(int)keys[x]];
+        }
+        for (int x = 0; x < count; x++) {
+            scratch[x] = null;
+        }
+        final int[] order = mKeyOrder;
+        if (order != null) {
+            for (int x = 0; x < count; x++) {
+                order[x] = (int)keys[x];
+            }
+            mKeyOrderCount = count;
+        }
+        mSorted = false;
+    }
+
+    /**
+     * Insertion sorts keys, giving up (and returning false) once more than maxMoves keys have
+     * been moved.  Keys are distinct, so the result doesn't depend on where they started.
+     */
+    private static boolean insertionSort(long[] keys, int count, int maxMoves) {
+        int moves = 0;
+        for (int x = 1; x < count; x++) {
+            final long key = keys[x];
+            int y = x - 1;
+            while (y >= 0 && keys[y] > key) {
+                keys[y + 1] = keys[y];
+                y--;
+            }
+            keys[y + 1] = key;
+            moves += x - 1 - y;
+            if (moves > maxMoves) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /** Returns the number of objects in the array. */
     public int getCount() {
         return mCount;
@@ -275,4 +446,14 @@ public class FixedSizeArray<T> extends AllocationGuard {
     public void setSorter(Sorter<T> sorter) {
         mSorter = sorter;
     }
+
+    /** Computes the float key that sortByFloatKey() orders an object by. */
+    public interface FloatKey<T> {
+        float getKey(T object);
+    }
+
+    /** Computes the int key that sortByIntKey() orders an object by. */
+    public interface IntKey<T> {
+        int getKey(T object);
+    }
 }
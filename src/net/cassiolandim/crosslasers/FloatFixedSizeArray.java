@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.util.Arrays;
+
+/**
+ * A FixedSizeArray of floats.  Values are stored in a flat float[] so that sort keys and
+ * timestamps don't have to be boxed.  The API mirrors FixedSizeArray: values are added at the end
+ * and removed with remove(), or with swapWithLast() and removeLast() when order doesn't matter.
+ * After sort(), and until the next order-changing call, find() uses a binary search.  addInOrder()
+ * appends without losing that.  floorIndex() requires a sorted array.  Values are compared the
+ * way Float.compare() (and so sort()) orders them: -0.0f sorts before 0.0f and NaN after
+ * everything else.
+ */
+public class FloatFixedSizeArray extends AllocationGuard {
+    private final static int LINEAR_SEARCH_CUTOFF = 16;
+    private final float[] mContents;
+    private int mCount;
+    private boolean mSorted;
+
+    public FloatFixedSizeArray(int size) {
+        super();
+        assert size > 0;
+        mContents = new float[size];
+        mCount = 0;
+        mSorted = false;
+    }
+
+    /** Adds a value to the end of the array.  Values added to a full array are dropped. */
+    public final void add(float value) {
+        assert mCount < mContents.length : "Array exhausted!";
+        if (mCount < mContents.length) {
+            mContents[mCount] = value;
+            mSorted = false;
+            mCount++;
+        }
+    }
+
+    /** 
+     * Adds a value that is not less than the last value in the array.  Unlike add(), this keeps
+     * a sorted (or empty) array sorted, so a run of values that only grow never needs a sort().
+     */
+    public final void addInOrder(float value) {
+        assert mCount == 0 || Float.compare(mContents[mCount - 1], value) <= 0;
+        final boolean sorted = mSorted || mCount == 0;
+        add(value);
+        mSorted = sorted;
+    }
+
+    /** 
+     * Removes the specified index from the array.  Subsequent entries in the array are shifted up
+     * to fill the space.
+     */
+    public void remove(int index) {
+        assert index < mCount;
+        if (index < mCount) {
+            System.arraycopy(mContents, index + 1, mContents, index, mCount - index - 1);
+            mCount--;
+        }
+    }
+
+    /** Removes the last value in the array and returns it.  The array must not be empty. */
+    public float removeLast() {
+        assert mCount > 0;
+        float value = 0;
+        if (mCount > 0) {
+            mCount--;
+            value = mContents[mCount];
+        }
+        return value;
+    }
+
+    /**
+     * Swaps the value at the passed index with the value at the end of the array.  When followed
+     * by removeLast(), this is useful for quickly removing values.
+     */
+    public void swapWithLast(int index) {
+        if (mCount > 0 && index < mCount - 1) {
+            final float value = mContents[mCount - 1];
+            mContents[mCount - 1] = mContents[index];
+            mContents[index] = value;
+            mSorted = false;
+        }
+    }
+
+    /** Sets the value at an index that has already been add()-ed. */
+    public void set(int index, float value) {
+        assert index < mCount;
+        if (index < mCount) {
+            mContents[index] = value;
+            mSorted = false;
+        }
+    }
+
+    public void clear() {
+        mCount = 0;
+        mSorted = false;
+    }
+
+    public float get(int index) {
+        assert index < mCount;
+        return mContents[index];
+    }
+
+    /** 
+     * Returns the raw internal array.  Tight loops may read it directly; values at indexes of 
+     * getCount() and above are undefined.
+     */
+    public final float[] getArray() {
+        return mContents;
+    }
+
+    /** 
+     * Returns the index of the passed value, or -1 if it isn't in the array.  If the array has
+     * been sorted since the last order-changing call a binary search is performed.
+     * Both searches use Float.compare(), so -0.0f doesn't match 0.0f and NaN can be found.
+     */
+    public int find(float value) {
+        int index = -1;
+        final int count = mCount;
+        final float[] contents = mContents;
+        if (mSorted && count > LINEAR_SEARCH_CUTOFF) {
+            index = Arrays.binarySearch(contents, 0, count, value);
+            if (index < 0) {
+                index = -1;
+            }
+        } else {
+            for (int x = 0; x < count; x++) {
+                if (Float.compare(contents[x], value) == 0) {
+                    index = x;
+                    break;
+                }
+            }
+        }
+        return index;
+    }
+
+    /** 
+     * Returns the index of the last value that is less than or equal to the passed value in a
+     * sorted array, or -1 if every value is greater.
+     */
+    public int floorIndex(float value) {
+        assert mSorted;
+        int low = 0;
+        int high = mCount;
+        final float[] contents = mContents;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (Float.compare(contents[middle], value) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low - 1;
+    }
+
+    /**
+     * Sorts the array in ascending order.  If the array is already sorted, no work will be
+     * performed unless forceResort is set.
+     */
+    public void sort(boolean forceResort) {
+        if (!mSorted || forceResort) {
+            Arrays.sort(mContents, 0, mCount);
+            mSorted = true;
+        }
+    }
+
+    public int getCount() {
+        return mCount;
+    }
+
+    public int getCapacity() {
+        return mContents.length;
+    }
+}
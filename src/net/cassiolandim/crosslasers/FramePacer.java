@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+/**
+ * Paces the game loop to a target frame rate using absolute System.nanoTime() deadlines.  Each
+ * frame's deadline is the previous deadline plus one frame period, so small amounts of oversleep
+ * don't accumulate into drift.  If a frame finishes after its deadline it is counted as missed;
+ * if it is more than a full period late the schedule is rebased onto the current time rather than
+ * running a burst of frames to catch up.
+ * By default the pacer only sleeps, which keeps the CPU idle between frames.  Thread.sleep() tends
+ * to wake up late, so setSpinWindow() can make the pacer stop sleeping shortly before each
+ * deadline and yield until it arrives instead.  That trades a busy core (a 1ms window at 60Hz
+ * spins about 6% of a core) for tighter frame timing.  Subclasses may override waitUntil() to
+ * change how time is spent waiting.
+ */
+public class FramePacer extends AllocationGuard {
+    public static final int RATE_30HZ = 30;
+    public static final int RATE_60HZ = 60;
+    public static final int RATE_120HZ = 120;
+
+    private long mPeriod;
+    private long mSpinWindow;       // Time before a deadline at which we stop sleeping and yield.
+    private long mNextDeadline;
+    private int mMissedDeadlines;
+    private long mTotalLateness;
+    private long mTotalDrift;
+    private int mFrames;
+
+    public FramePacer() {
+        this(RATE_60HZ);
+    }
+
+    public FramePacer(int targetRate) {
+        super();
+        setTargetRate(targetRate);
+    }
+
+    public void setTargetRate(int framesPerSecond) {
+        assert framesPerSecond > 0;
+        mPeriod = 1000000000L / framesPerSecond;
+        reset();
+    }
+
+    public int getTargetRate() {
+        return (int)(1000000000L / mPeriod);
+    }
+
+    public long getPeriodNanos() {
+        return mPeriod;
+    }
+
+    /** 
+     * Sets how long before each deadline the pacer stops sleeping and yields instead.  0, the
+     * default, means sleep only.
+     */
+    public void setSpinWindow(long nanos) {
+        assert nanos >= 0;
+        mSpinWindow = nanos;
+    }
+
+    public long getSpinWindowNanos() {
+        return mSpinWindow;
+    }
+
+    /** Restarts the schedule from the current time.  Call after the loop has been paused. */
+    public void reset() {
+        mNextDeadline = System.nanoTime() + mPeriod;
+        resetStatistics();
+    }
+
+    public void resetStatistics() {
+        mMissedDeadlines = 0;
+        mTotalLateness = 0;
+        mTotalDrift = 0;
+        mFrames = 0;
+    }
+
+    /**
+     * Called once the frame's work is complete.  Waits until the frame's deadline (if it hasn't
+     * already passed) and then schedules the next one.
+     * @return  The number of nanoseconds by which the deadline was missed, or 0 if it was met.
+     */
+    public long endFrame() {
+        final long deadline = mNextDeadline;
+        long now = System.nanoTime();
+        long lateness = 0;
+        if (now < deadline) {
+            now = waitUntil(deadline);
+            // Oversleep past the deadline is drift, not a missed frame.
+            if (now > deadline) {
+                mTotalDrift += now - deadline;
+            }
+            mNextDeadline = deadline + mPeriod;
+        } else {
+            lateness = now - deadline;
+            mMissedDeadlines++;
+            mTotalLateness += lateness;
+            if (lateness > mPeriod) {
+                mNextDeadline = now + mPeriod;
+            } else {
+                mNextDeadline = deadline + mPeriod;
+            }
+        }
+        mFrames++;
+        return lateness;
+    }
+
+    /**
+     * Blocks until the passed System.nanoTime() value has been reached.
+     * @return  The time at which the wait ended.
+     */
+    protected long waitUntil(long deadline) {
+        long now = System.nanoTime();
+        long remaining = deadline - now;
+        while (remaining > 0) {
+            if (remaining > mSpinWindow) {
+                final long sleepTime = remaining - mSpinWindow;
+                try {
+                    Thread.sleep(sleepTime / 1000000L, (int)(sleepTime % 1000000L));
+                } catch (InterruptedException e) {
+                    // No big deal if this sleep is interrupted.
+                }
+            } else {
+                Thread.yield();
+            }
+            now = System.nanoTime();
+            remaining = deadline - now;
+        }
+        return now;
+    }
+
+    public int getMissedDeadlines() {
+        return mMissedDeadlines;
+    }
+
+    /** Returns the average amount by which missed frames overran their deadline, in nanoseconds. */
+    public long getAverageLateness() {
+        return mMissedDeadlines > 0 ? mTotalLateness / mMissedDeadlines : 0;
+    }
+
+    /** Returns the average amount by which waits overshot their deadline, in nanoseconds. */
+    public long getAverageDrift() {
+        final int metDeadlines = mFrames - mMissedDeadlines;
+        return metDeadlines > 0 ? mTotalDrift / metDeadlines : 0;
+    }
+
+    public int getFrameCount() {
+        return mFrames;
+    }
+}
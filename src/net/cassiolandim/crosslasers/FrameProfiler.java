@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+import net.cassiolandim.crosslasers.component.GameComponent;
+import net.cassiolandim.crosslasers.component.GameComponent.ComponentPhases;
+
+/**
+ * An opt-in, hierarchical profiler for the game graph.  Each frame it records the time spent in
+ * every child of MainLoop, in GameObject updates as a whole, and in each type of GameComponent
+ * broken down by ComponentPhases bucket.  Samples are written into ring buffers that are allocated
+ * up front, so recording a frame doesn't allocate.  The last HISTORY_FRAMES frames can be dumped
+ * as a text tree with dump().
+ * The profiler is installed by setting getSystemRegistry().frameProfiler; the game graph only pays
+ * for timing when a profiler is present and enabled.
+ */
+public class FrameProfiler extends BaseObject {
+    public static final int HISTORY_FRAMES = 60;
+    private static final int MAX_ROOT_CHILDREN = 16;
+    private static final int MAX_COMPONENT_TYPES = GameComponent.MAX_TYPE_IDS;
+    private static final int PHASE_COUNT = ComponentPhases.values().length;
+
+    // Layout of one frame's samples.
+    private static final int NODE_FRAME = 0;
+    private static final int NODE_GAME_OBJECTS = 1;
+    private static final int NODE_ROOT_CHILDREN = 2;
+    private static final int NODE_COMPONENTS = NODE_ROOT_CHILDREN + MAX_ROOT_CHILDREN;
+    private static final int NODE_COUNT = NODE_COMPONENTS + (MAX_COMPONENT_TYPES * PHASE_COUNT);
+
+    private final long[] mTimes;
+    private final int[] mCalls;
+    private final long[] mFrameNumbers;
+    private final Class<?>[] mRootChildTypes;
+    private int mCurrentFrame;      // Ring buffer slot being recorded.
+    private int mRecordedFrames;
+    private long mFrameCount;
+    private long mFrameStartTime;
+    private boolean mEnabled;
+    private boolean mInFrame;
+
+    public FrameProfiler() {
+        super();
+        mTimes = new long[HISTORY_FRAMES * NODE_COUNT];
+        mCalls = new int[HISTORY_FRAMES * NODE_COUNT];
+        mFrameNumbers = new long[HISTORY_FRAMES];
+        mRootChildTypes = new Class<?>[MAX_ROOT_CHILDREN];
+        mEnabled = true;
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        for (int x = 0; x < mTimes.length; x++) {
+            mTimes[x] = 0;
+            mCalls[x] = 0;
+        }
+        mCurrentFrame = 0;
+        mRecordedFrames = 0;
+        mFrameCount = 0;
+        mInFrame = false;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    /** Returns true if timings should be recorded right now. */
+    public final boolean isRecording() {
+        return mEnabled && mInFrame;
+    }
+
+    public void beginFrame() {
+        if (mEnabled) {
+            final int base = mCurrentFrame * NODE_COUNT;
+            for (int x = 0; x < NODE_COUNT; x++) {
+                mTimes[base + x] = 0;
+                mCalls[base + x] = 0;
+            }
+            mFrameNumbers[mCurrentFrame] = mFrameCount;
+            mInFrame = true;
+            mFrameStartTime = System.nanoTime();
+        }
+    }
+
+    public void endFrame() {
+        if (mInFrame) {
+            record(NODE_FRAME, System.nanoTime() - mFrameStartTime);
+            mInFrame = false;
+            mFrameCount++;
+            mCurrentFrame = (mCurrentFrame + 1) % HISTORY_FRAMES;
+            if (mRecordedFrames < HISTORY_FRAMES) {
+                mRecordedFrames++;
+            }
+        }
+    }
+
+    /** Records time spent updating the child of MainLoop at the passed index. */
+    public final void recordRootChild(int index, BaseObject child, long nanos) {
+        if (index < MAX_ROOT_CHILDREN) {
+            mRootChildTypes[index] = child.getClass();
+            record(NODE_ROOT_CHILDREN + index, nanos);
+        }
+    }
+
+    /** Records time spent in a single GameObject update (including all of its components). */
+    public final void recordGameObject(long nanos) {
+        record(NODE_GAME_OBJECTS, nanos);
+    }
+
+    /** Records time spent in a single component update. */
+    public final void recordComponent(GameComponent component, long nanos) {
+        int phase = component.phase;
+        if (phase < 0) {
+            phase = 0;
+        } else if (phase >= PHASE_COUNT) {
+            phase = PHASE_COUNT - 1;
+        }
+        record(NODE_COMPONENTS + (component.typeId * PHASE_COUNT) + phase, nanos);
+    }
+
+    private final void record(int node, long nanos) {
+        final int index = (mCurrentFrame * NODE_COUNT) + node;
+        mTimes[index] += nanos;
+        mCalls[index]++;
+    }
+
+    /**
+     * Writes the recorded frames, oldest first, as an indented tree of times in microseconds.
+     * A summary of the total time per component type and phase across all recorded frames follows.
+     * This method allocates and should not be called from the game thread in the middle of play.
+     */
+    public void dump(Writer output) {
+        PrintWriter writer = new PrintWriter(output);
+        final ComponentPhases[] phases = ComponentPhases.values();
+        final int componentTypeCount = GameComponent.getTypeCount();
+        final int first = (mCurrentFrame - mRecordedFrames + HISTORY_FRAMES) % HISTORY_FRAMES;
+        for (int f = 0; f < mRecordedFrames; f++) {
+            final int frame = (first + f) % HISTORY_FRAMES;
+            final int base = frame * NODE_COUNT;
+            writer.println("frame " + mFrameNumbers[frame] + ": " + toMicros(mTimes[base + NODE_FRAME]));
+            for (int x = 0; x < MAX_ROOT_CHILDREN; x++) {
+                final int node = base + NODE_ROOT_CHILDREN + x;
+                if (mCalls[node] > 0) {
+                    writer.println("  " + mRootChildTypes[x].getSimpleName() + ": "
+                            + toMicros(mTimes[node]));
+                    if (mRootChildTypes[x] == GameObjectManager.class) {
+                        writer.println("    GameObject x" + mCalls[base + NODE_GAME_OBJECTS] + ": "
+                                + toMicros(mTimes[base + NODE_GAME_OBJECTS]));
+                        for (int p = 0; p < PHASE_COUNT; p++) {
+                            for (int t = 0; t < componentTypeCount; t++) {
+                                final int componentNode = base + NODE_COMPONENTS + (t * PHASE_COUNT) + p;
+                                if (mCalls[componentNode] > 0) {
+                                    writer.println("      " + phases[p] + " "
+                                            + GameComponent.getTypeClass(t).getSimpleName()
+                                            + " x" + mCalls[componentNode] + ": "
+                                            + toMicros(mTimes[componentNode]));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        writer.println("totals over " + mRecordedFrames + " frames:");
+        for (int t = 0; t < componentTypeCount; t++) {
+            for (int p = 0; p < PHASE_COUNT; p++) {
+                long time = 0;
+                long calls = 0;
+                for (int f = 0; f < mRecordedFrames; f++) {
+                    final int node = (((first + f) % HISTORY_FRAMES) * NODE_COUNT)
+                        + NODE_COMPONENTS + (t * PHASE_COUNT) + p;
+                    time += mTimes[node];
+                    calls += mCalls[node];
+                }
+                if (calls > 0) {
+                    writer.println("  " + GameComponent.getTypeClass(t).getSimpleName() + " " + phases[p]
+                            + " x" + calls + ": " + toMicros(time));
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /** Dumps the recorded frames to a file.  Returns false if the file couldn't be written. */
+    public boolean dumpToFile(String path) {
+        boolean result = false;
+        try {
+            FileWriter file = new FileWriter(path);
+            try {
+                dump(file);
+                result = true;
+            } finally {
+                file.close();
+            }
+        } catch (IOException e) {
+            DebugLog.e("FrameProfiler", "Unable to write profile to " + path, e);
+        }
+        return result;
+    }
+
+    private static String toMicros(long nanos) {
+        return (nanos / 1000) + "us";
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * A fixed-bucket histogram of durations, used to find tail latencies (p50/p90/p99/max) of frame
+ * times over a reporting window.  Buckets are BUCKET_WIDTH_NANOS wide up to MAX_TRACKED_NANOS;
+ * anything longer lands in a final overflow bucket.  The maximum is tracked exactly.  Recording a
+ * sample doesn't allocate, so this can be used on the game and render threads every frame.
+ * A histogram should only be written by a single thread.
+ * Reports go to DebugLog and, if setReportFile() has been called, are appended to a file as
+ * comma-separated lines: name, sample count, p50, p90, p99, max (all times in microseconds).
+ */
+public class FrameTimeHistogram extends AllocationGuard {
+    private static final long BUCKET_WIDTH_NANOS = 100000L;    // 0.1ms
+    private static final long MAX_TRACKED_NANOS = 100000000L;  // 100ms
+    private static final int BUCKET_COUNT = (int)(MAX_TRACKED_NANOS / BUCKET_WIDTH_NANOS) + 1;
+
+    private static String sReportFile;
+
+    private final String mName;
+    private final int[] mBuckets;
+    private int mCount;
+    private long mMax;
+
+    public FrameTimeHistogram(String name) {
+        super();
+        mName = name;
+        mBuckets = new int[BUCKET_COUNT];
+        reset();
+    }
+
+    public void reset() {
+        for (int x = 0; x < BUCKET_COUNT; x++) {
+            mBuckets[x] = 0;
+        }
+        mCount = 0;
+        mMax = 0;
+    }
+
+    public final void record(long nanos) {
+        int bucket = (int)(nanos / BUCKET_WIDTH_NANOS);
+        if (bucket >= BUCKET_COUNT || nanos >= MAX_TRACKED_NANOS) {
+            bucket = BUCKET_COUNT - 1;
+        } else if (bucket < 0) {
+            bucket = 0;
+        }
+        mBuckets[bucket]++;
+        mCount++;
+        if (nanos > mMax) {
+            mMax = nanos;
+        }
+    }
+
+    /**
+     * Returns the duration (in nanoseconds) below which the passed fraction of samples fall.  The
+     * result is the upper edge of the bucket containing that sample, capped at the true maximum.
+     */
+    public long getPercentile(float fraction) {
+        long result = 0;
+        if (mCount > 0) {
+            int target = (int)Math.ceil(mCount * fraction);
+            if (target < 1) {
+                target = 1;
+            }
+            int seen = 0;
+            for (int x = 0; x < BUCKET_COUNT; x++) {
+                seen += mBuckets[x];
+                if (seen >= target) {
+                    result = (x + 1) * BUCKET_WIDTH_NANOS;
+                    break;
+                }
+            }
+            if (result > mMax) {
+                result = mMax;
+            }
+        }
+        return result;
+    }
+
+    public long getMax() {
+        return mMax;
+    }
+
+    public int getCount() {
+        return mCount;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * Logs the percentiles for the current window, appends them to the report file (if any), and
+     * starts a new window.  Only call this at the end of a reporting window; it allocates.
+     */
+    public void report(String tag) {
+        if (mCount > 0) {
+            final long p50 = getPercentile(0.5f) / 1000;
+            final long p90 = getPercentile(0.9f) / 1000;
+            final long p99 = getPercentile(0.99f) / 1000;
+            final long max = mMax / 1000;
+            DebugLog.d(tag, mName + " p50: " + p50 + "us p90: " + p90 + "us p99: " + p99
+                    + "us max: " + max + "us (" + mCount + " samples)");
+            appendToReportFile(mName + "," + mCount + "," + p50 + "," + p90 + "," + p99 + "," + max);
+        }
+        reset();
+    }
+
+    /** Sets a file that every report should be appended to, or null to stop writing reports. */
+    public static synchronized void setReportFile(String path) {
+        sReportFile = path;
+    }
+
+    private static synchronized void appendToReportFile(String line) {
+        if (sReportFile != null) {
+            try {
+                FileWriter writer = new FileWriter(sReportFile, true);
+                try {
+                    writer.write(line);
+                    writer.write('\n');
+                } finally {
+                    writer.close();
+                }
+            } catch (IOException e) {
+                DebugLog.e("FrameTimeHistogram", "Unable to write to " + sReportFile, e);
+                sReportFile = null;
+            }
+        }
+    }
+}
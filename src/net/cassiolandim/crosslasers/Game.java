@@ -41,6 +41,10 @@ import android.widget.Toast;
  */
 public class Game extends AllocationGuard {
 	
+    // If true, the game and render threads run in parallel on a triple-buffered render queue
+    // rather than taking turns.  Input will lag by up to one additional frame.
+    private static final boolean PIPELINED_RENDERING = false;
+    
     private GameThread mGameThread;
     private Thread mGame;
     private ObjectManager mGameRoot;
@@ -74,9 +78,9 @@ public class Game extends AllocationGuard {
             mRenderer = new GameRenderer(context, this, gameWidth, gameHeight);
     
             // Create core systems
-            BaseObject.sSystemRegistry.openGLSystem = new OpenGLSystem(null);
+            BaseObject.getSystemRegistry().openGLSystem = new OpenGLSystem(null);
     
-            BaseObject.sSystemRegistry.customToastSystem = new CustomToastSystem(context);
+            BaseObject.getSystemRegistry().customToastSystem = new CustomToastSystem(context);
             
             ContextParameters params = mContextParameters;
             params.viewWidth = viewWidth;
@@ -86,49 +90,49 @@ public class Game extends AllocationGuard {
             params.viewScaleX = (float)viewWidth / gameWidth;
             params.viewScaleY = (float)viewHeight / gameHeight;
             params.context = context;
-            BaseObject.sSystemRegistry.contextParameters = params;
+            BaseObject.getSystemRegistry().contextParameters = params;
     
             // Short-term textures are cleared between levels.
             TextureLibrary shortTermTextureLibrary = new TextureLibrary();
-            BaseObject.sSystemRegistry.shortTermTextureLibrary = shortTermTextureLibrary;
+            BaseObject.getSystemRegistry().shortTermTextureLibrary = shortTermTextureLibrary;
             
             // Long-term textures persist between levels.
             TextureLibrary longTermTextureLibrary = new TextureLibrary();
-            BaseObject.sSystemRegistry.longTermTextureLibrary = longTermTextureLibrary;
+            BaseObject.getSystemRegistry().longTermTextureLibrary = longTermTextureLibrary;
             
             // The buffer library manages hardware VBOs.
-            BaseObject.sSystemRegistry.bufferLibrary = new BufferLibrary();
+            BaseObject.getSystemRegistry().bufferLibrary = new BufferLibrary();
     
-            BaseObject.sSystemRegistry.soundSystem = new SoundSystem();
+            BaseObject.getSystemRegistry().soundSystem = new SoundSystem();
             
             // The root of the game graph.
             MainLoop gameRoot = new MainLoop();
     
             InputSystem input = new InputSystem();
-            BaseObject.sSystemRegistry.inputSystem = input;
-            BaseObject.sSystemRegistry.registerForReset(input);
+            BaseObject.getSystemRegistry().inputSystem = input;
+            BaseObject.getSystemRegistry().registerForReset(input);
 
             InputGameInterface inputInterface = new InputGameInterface();
             gameRoot.add(inputInterface);
-            BaseObject.sSystemRegistry.inputGameInterface = inputInterface;
+            BaseObject.getSystemRegistry().inputGameInterface = inputInterface;
             
             LevelSystem level = new LevelSystem();
-            BaseObject.sSystemRegistry.levelSystem = level;
+            BaseObject.getSystemRegistry().levelSystem = level;
             
             CollisionSystem collision = new CollisionSystem();
-            BaseObject.sSystemRegistry.collisionSystem = collision;
-            BaseObject.sSystemRegistry.hitPointPool = new HitPointPool();
+            BaseObject.getSystemRegistry().collisionSystem = collision;
+            BaseObject.getSystemRegistry().hitPointPool = new HitPointPool();
 
             GameObjectManager gameManager = new GameObjectManager(params.viewWidth * 2);
-            BaseObject.sSystemRegistry.gameObjectManager = gameManager;
+            BaseObject.getSystemRegistry().gameObjectManager = gameManager;
             
             GameObjectFactory objectFactory = new GameObjectFactory();
-            BaseObject.sSystemRegistry.gameObjectFactory = objectFactory;
+            BaseObject.getSystemRegistry().gameObjectFactory = objectFactory;
             
-            BaseObject.sSystemRegistry.levelBuilder = new LevelBuilder();
+            BaseObject.getSystemRegistry().levelBuilder = new LevelBuilder();
             
-            BaseObject.sSystemRegistry.channelSystem = new ChannelSystem();
-            BaseObject.sSystemRegistry.registerForReset(BaseObject.sSystemRegistry.channelSystem);
+            BaseObject.getSystemRegistry().channelSystem = new ChannelSystem();
+            BaseObject.getSystemRegistry().registerForReset(BaseObject.getSystemRegistry().channelSystem);
             
             collision.loadCollisionTiles(context.getResources().openRawResource(R.raw.collision));
     
@@ -138,79 +142,34 @@ public class Game extends AllocationGuard {
             
             GameObjectCollisionSystem dynamicCollision = new GameObjectCollisionSystem();
             gameRoot.add(dynamicCollision);
-            BaseObject.sSystemRegistry.gameObjectCollisionSystem = dynamicCollision;
+            BaseObject.getSystemRegistry().gameObjectCollisionSystem = dynamicCollision;
             
-            RenderSystem renderer = new RenderSystem();
-            BaseObject.sSystemRegistry.renderSystem = renderer;
-            BaseObject.sSystemRegistry.vectorPool = new VectorPool();
-            BaseObject.sSystemRegistry.drawableFactory = new DrawableFactory();
+            RenderSystem renderer = new RenderSystem(PIPELINED_RENDERING);
+            BaseObject.getSystemRegistry().renderSystem = renderer;
+            BaseObject.getSystemRegistry().vectorPool = new VectorPool();
+            if (PIPELINED_RENDERING) {
+                // Drawables may be held by one extra queue.
+                BaseObject.getSystemRegistry().drawableFactory = 
+                    new DrawableFactory(RenderSystem.MAX_RENDER_OBJECTS_PER_FRAME * 3);
+            } else {
+                BaseObject.getSystemRegistry().drawableFactory = new DrawableFactory();
+            }
           
-            HudSystem hud = new HudSystem();
-            hud.setFuelDrawable(
-                    new DrawableBitmap(longTermTextureLibrary.allocateTexture(
-                            R.drawable.ui_bar), 0, 0),
-                    new DrawableBitmap(longTermTextureLibrary.allocateTexture(
-                            R.drawable.ui_bar_bg), 0, 0));
-            hud.setFadeTexture(longTermTextureLibrary.allocateTexture(R.drawable.black));
-            hud.setButtonDrawables(
-                    new DrawableBitmap(longTermTextureLibrary.allocateTexture(
-                            R.drawable.ui_button_fly_disabled), 0, 0), 
-                    new DrawableBitmap(longTermTextureLibrary.allocateTexture(
-                            R.drawable.ui_button_fly_off), 0, 0),
-                    new DrawableBitmap(longTermTextureLibrary.allocateTexture(
-                            R.drawable.ui_button_fly_on), 0, 0),
-                    new DrawableBitmap(longTermTextureLibrary.allocateTexture(
-                            R.drawable.ui_button_stomp_off), 0, 0),
-                    new DrawableBitmap(longTermTextureLibrary.allocateTexture(
-                            R.drawable.ui_button_stomp_on), 0, 0));
-            Texture[] digitTextures = {
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_0),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_1),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_2),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_3),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_4),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_5),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_6),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_7),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_8),
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_9)
-            };
-            DrawableBitmap[] digits = {
-                    new DrawableBitmap(digitTextures[0], 0, 0),
-                    new DrawableBitmap(digitTextures[1], 0, 0),
-                    new DrawableBitmap(digitTextures[2], 0, 0),
-                    new DrawableBitmap(digitTextures[3], 0, 0),
-                    new DrawableBitmap(digitTextures[4], 0, 0),
-                    new DrawableBitmap(digitTextures[5], 0, 0),
-                    new DrawableBitmap(digitTextures[6], 0, 0),
-                    new DrawableBitmap(digitTextures[7], 0, 0),
-                    new DrawableBitmap(digitTextures[8], 0, 0),
-                    new DrawableBitmap(digitTextures[9], 0, 0)
-            };
-            DrawableBitmap xDrawable = new DrawableBitmap(
-                    longTermTextureLibrary.allocateTexture(R.drawable.ui_x), 0, 0);
-            
-            hud.setDigitDrawables(digits, xDrawable);
-            hud.setCollectableDrawables(
-                    new DrawableBitmap(
-                            longTermTextureLibrary.allocateTexture(R.drawable.ui_pearl), 0, 0), 
-                    new DrawableBitmap(
-                            longTermTextureLibrary.allocateTexture(R.drawable.ui_gem), 0, 0));
-            
-            BaseObject.sSystemRegistry.hudSystem = hud;
+            HudSystem hud = createHudSystem(longTermTextureLibrary);
+            BaseObject.getSystemRegistry().hudSystem = hud;
             if (AndouKun.VERSION < 0) {
             	hud.setShowFPS(true);
             }
             gameRoot.add(hud);
     
-            BaseObject.sSystemRegistry.vibrationSystem = new VibrationSystem();
+            BaseObject.getSystemRegistry().vibrationSystem = new VibrationSystem();
             
-            BaseObject.sSystemRegistry.eventRecorder = new EventRecorder();
+            BaseObject.getSystemRegistry().eventRecorder = new EventRecorder();
             
             gameRoot.add(collision);
             
             // debug systems
-            //BaseObject.sSystemRegistry.debugSystem = new DebugSystem(longTermTextureLibrary);
+            //BaseObject.getSystemRegistry().debugSystem = new DebugSystem(longTermTextureLibrary);
             //dynamicCollision.setDebugPrefs(false, true);
             
             objectFactory.preloadEffects();
@@ -226,9 +185,67 @@ public class Game extends AllocationGuard {
         }
     }
     
+    /** 
+     * Creates the HUD and allocates (but does not load) its textures from the passed library.
+     */
+    static HudSystem createHudSystem(TextureLibrary longTermTextureLibrary) {
+        HudSystem hud = new HudSystem();
+        hud.setFuelDrawable(
+                new DrawableBitmap(longTermTextureLibrary.allocateTexture(
+                        R.drawable.ui_bar), 0, 0),
+                new DrawableBitmap(longTermTextureLibrary.allocateTexture(
+                        R.drawable.ui_bar_bg), 0, 0));
+        hud.setFadeTexture(longTermTextureLibrary.allocateTexture(R.drawable.black));
+        hud.setButtonDrawables(
+                new DrawableBitmap(longTermTextureLibrary.allocateTexture(
+                        R.drawable.ui_button_fly_disabled), 0, 0), 
+                new DrawableBitmap(longTermTextureLibrary.allocateTexture(
+                        R.drawable.ui_button_fly_off), 0, 0),
+                new DrawableBitmap(longTermTextureLibrary.allocateTexture(
+                        R.drawable.ui_button_fly_on), 0, 0),
+                new DrawableBitmap(longTermTextureLibrary.allocateTexture(
+                        R.drawable.ui_button_stomp_off), 0, 0),
+                new DrawableBitmap(longTermTextureLibrary.allocateTexture(
+                        R.drawable.ui_button_stomp_on), 0, 0));
+        Texture[] digitTextures = {
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_0),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_1),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_2),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_3),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_4),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_5),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_6),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_7),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_8),
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_9)
+        };
+        DrawableBitmap[] digits = {
+                new DrawableBitmap(digitTextures[0], 0, 0),
+                new DrawableBitmap(digitTextures[1], 0, 0),
+                new DrawableBitmap(digitTextures[2], 0, 0),
+                new DrawableBitmap(digitTextures[3], 0, 0),
+                new DrawableBitmap(digitTextures[4], 0, 0),
+                new DrawableBitmap(digitTextures[5], 0, 0),
+                new DrawableBitmap(digitTextures[6], 0, 0),
+                new DrawableBitmap(digitTextures[7], 0, 0),
+                new DrawableBitmap(digitTextures[8], 0, 0),
+                new DrawableBitmap(digitTextures[9], 0, 0)
+        };
+        DrawableBitmap xDrawable = new DrawableBitmap(
+                longTermTextureLibrary.allocateTexture(R.drawable.ui_x), 0, 0);
+        
+        hud.setDigitDrawables(digits, xDrawable);
+        hud.setCollectableDrawables(
+                new DrawableBitmap(
+                        longTermTextureLibrary.allocateTexture(R.drawable.ui_pearl), 0, 0), 
+                new DrawableBitmap(
+                        longTermTextureLibrary.allocateTexture(R.drawable.ui_gem), 0, 0));
+        return hud;
+    }
+    
     protected synchronized void stopLevel() {
         stop();
-        GameObjectManager manager = BaseObject.sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = BaseObject.getSystemRegistry().gameObjectManager;
         manager.destroyAll();
         manager.commitUpdates();
         
@@ -238,21 +255,21 @@ public class Game extends AllocationGuard {
         // would be to break up the texture library into static and non-static things, and
         // then selectively clear static game components based on their usefulness next level,
         // but this is way simpler.
-        GameObjectFactory factory = BaseObject.sSystemRegistry.gameObjectFactory;
+        GameObjectFactory factory = BaseObject.getSystemRegistry().gameObjectFactory;
         factory.clearStaticData();
         factory.sanityCheckPools();
         
         // Reset the level
-        BaseObject.sSystemRegistry.levelSystem.reset();
+        BaseObject.getSystemRegistry().levelSystem.reset();
         
         // Reset systems that need it.
-        BaseObject.sSystemRegistry.reset();
+        BaseObject.getSystemRegistry().reset();
         
         // Dump the short-term texture objects only.
-        mSurfaceView.flushTextures(BaseObject.sSystemRegistry.shortTermTextureLibrary);
-        BaseObject.sSystemRegistry.shortTermTextureLibrary.removeAll(); 
-        mSurfaceView.flushBuffers(BaseObject.sSystemRegistry.bufferLibrary);
-        BaseObject.sSystemRegistry.bufferLibrary.removeAll();
+        mSurfaceView.flushTextures(BaseObject.getSystemRegistry().shortTermTextureLibrary);
+        BaseObject.getSystemRegistry().shortTermTextureLibrary.removeAll(); 
+        mSurfaceView.flushBuffers(BaseObject.getSystemRegistry().bufferLibrary);
+        BaseObject.getSystemRegistry().bufferLibrary.removeAll();
     }
     
     public synchronized void requestNewLevel() {
@@ -267,18 +284,18 @@ public class Game extends AllocationGuard {
         stop();
         
         // Destroy all game objects and respawn them.  No need to destroy other systems.
-        GameObjectManager manager = BaseObject.sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = BaseObject.getSystemRegistry().gameObjectManager;
         manager.destroyAll();
         manager.commitUpdates();
         
         // Reset systems that need it.
-        BaseObject.sSystemRegistry.reset();
+        BaseObject.getSystemRegistry().reset();
         
-        LevelSystem levelSystem = BaseObject.sSystemRegistry.levelSystem;
+        LevelSystem levelSystem = BaseObject.getSystemRegistry().levelSystem;
         levelSystem.incrementAttemptsCount();
         levelSystem.spawnObjects();
         
-        BaseObject.sSystemRegistry.hudSystem.startFade(true, 0.2f);
+        BaseObject.getSystemRegistry().hudSystem.startFade(true, 0.2f);
         
         mCurrentLevel = level;
         mPendingLevel = null;
@@ -286,29 +303,29 @@ public class Game extends AllocationGuard {
     }
     
     protected synchronized void goToLevel(LevelTree.Level level) {
-        ContextParameters params = BaseObject.sSystemRegistry.contextParameters;
-        BaseObject.sSystemRegistry.levelSystem.loadLevel(level, mGameRoot);
+        ContextParameters params = BaseObject.getSystemRegistry().contextParameters;
+        BaseObject.getSystemRegistry().levelSystem.loadLevel(level, mGameRoot);
         
         Context context = params.context;
         mRenderer.setContext(context);
-        mSurfaceView.loadTextures(BaseObject.sSystemRegistry.longTermTextureLibrary);
-        mSurfaceView.loadTextures(BaseObject.sSystemRegistry.shortTermTextureLibrary);
-        mSurfaceView.loadBuffers(BaseObject.sSystemRegistry.bufferLibrary);
+        mSurfaceView.loadTextures(BaseObject.getSystemRegistry().longTermTextureLibrary);
+        mSurfaceView.loadTextures(BaseObject.getSystemRegistry().shortTermTextureLibrary);
+        mSurfaceView.loadBuffers(BaseObject.getSystemRegistry().bufferLibrary);
         
         mGLDataLoaded = true;
         
         mCurrentLevel = level;
         mPendingLevel = null;
         
-        TimeSystem time = BaseObject.sSystemRegistry.timeSystem;
+        TimeSystem time = BaseObject.getSystemRegistry().timeSystem;
         time.reset();
         
-        HudSystem hud = BaseObject.sSystemRegistry.hudSystem;
+        HudSystem hud = BaseObject.getSystemRegistry().hudSystem;
         if (hud != null) {
             hud.startFade(true, 1.0f);
         }
         
-        CustomToastSystem toast = BaseObject.sSystemRegistry.customToastSystem;
+        CustomToastSystem toast = BaseObject.getSystemRegistry().customToastSystem;
         if (toast != null) {
     		toast.toast(context.getString(R.string.memory_playback_start), Toast.LENGTH_LONG);
         }
@@ -356,7 +373,7 @@ public class Game extends AllocationGuard {
     public boolean onTrackballEvent(MotionEvent event) {
         if (mRunning) {
         	if (event.getAction() == MotionEvent.ACTION_MOVE) {
-        		BaseObject.sSystemRegistry.inputSystem.roll(event.getRawX(), event.getRawY());
+        		BaseObject.getSystemRegistry().inputSystem.roll(event.getRawX(), event.getRawY());
         	} else if (event.getAction() == MotionEvent.ACTION_DOWN) {
         		onKeyDownEvent(KeyEvent.KEYCODE_DPAD_CENTER);
         	} else if (event.getAction() == MotionEvent.ACTION_UP) {
@@ -368,7 +385,7 @@ public class Game extends AllocationGuard {
     
     public boolean onOrientationEvent(float x, float y, float z) {
         if (mRunning) {
-        	BaseObject.sSystemRegistry.inputSystem.setOrientation(x, y, z);
+        	BaseObject.getSystemRegistry().inputSystem.setOrientation(x, y, z);
         }
         return true;
     }
@@ -376,10 +393,10 @@ public class Game extends AllocationGuard {
     public boolean onTouchEvent(MotionEvent event) {
         if (mRunning) {
         	if (event.getAction() == MotionEvent.ACTION_UP) {
-        		BaseObject.sSystemRegistry.inputSystem.touchUp(event.getRawX() * (1.0f / mContextParameters.viewScaleX), 
+        		BaseObject.getSystemRegistry().inputSystem.touchUp(event.getRawX() * (1.0f / mContextParameters.viewScaleX), 
         				event.getRawY() * (1.0f / mContextParameters.viewScaleY));
         	} else {
-        		BaseObject.sSystemRegistry.inputSystem.touchDown(event.getRawX() * (1.0f / mContextParameters.viewScaleX),
+        		BaseObject.getSystemRegistry().inputSystem.touchDown(event.getRawX() * (1.0f / mContextParameters.viewScaleX),
         				event.getRawY() * (1.0f / mContextParameters.viewScaleY));
         	}
             
@@ -390,7 +407,7 @@ public class Game extends AllocationGuard {
     public boolean onKeyDownEvent(int keyCode) {
         boolean result = false;
         if (mRunning) {
-            BaseObject.sSystemRegistry.inputSystem.keyDown(keyCode);
+            BaseObject.getSystemRegistry().inputSystem.keyDown(keyCode);
         }
         return result;
     }
@@ -398,7 +415,7 @@ public class Game extends AllocationGuard {
     public boolean onKeyUpEvent(int keyCode) {
         boolean result = false;
         if (mRunning) {
-        	BaseObject.sSystemRegistry.inputSystem.keyUp(keyCode);
+        	BaseObject.getSystemRegistry().inputSystem.keyUp(keyCode);
         }
         return result;
     }
@@ -421,7 +438,7 @@ public class Game extends AllocationGuard {
 	        // Don't explicitly resume the game here.  We'll do that in
 	        // the SurfaceReady() callback, which will prevent the game
 	        // starting before the render thread is ready to go.
-	        BaseObject.sSystemRegistry.contextParameters.context = context;
+	        BaseObject.getSystemRegistry().contextParameters.context = context;
     	}
     }
     
@@ -445,9 +462,9 @@ public class Game extends AllocationGuard {
     public void onSurfaceLost() {
         DebugLog.d("AndouKun", "Surface Lost");
         
-        BaseObject.sSystemRegistry.shortTermTextureLibrary.invalidateAll();
-        BaseObject.sSystemRegistry.longTermTextureLibrary.invalidateAll();
-        BaseObject.sSystemRegistry.bufferLibrary.invalidateHardwareBuffers();
+        BaseObject.getSystemRegistry().shortTermTextureLibrary.invalidateAll();
+        BaseObject.getSystemRegistry().longTermTextureLibrary.invalidateAll();
+        BaseObject.getSystemRegistry().bufferLibrary.invalidateHardwareBuffers();
 
         mGLDataLoaded = false;
     }
@@ -460,9 +477,9 @@ public class Game extends AllocationGuard {
         
         if (!mGLDataLoaded && mGameThread.getPaused() && mRunning && mPendingLevel == null) {
         	
-            mSurfaceView.loadTextures(BaseObject.sSystemRegistry.longTermTextureLibrary);
-            mSurfaceView.loadTextures(BaseObject.sSystemRegistry.shortTermTextureLibrary);
-            mSurfaceView.loadBuffers(BaseObject.sSystemRegistry.bufferLibrary);
+            mSurfaceView.loadTextures(BaseObject.getSystemRegistry().longTermTextureLibrary);
+            mSurfaceView.loadTextures(BaseObject.getSystemRegistry().shortTermTextureLibrary);
+            mSurfaceView.loadBuffers(BaseObject.getSystemRegistry().bufferLibrary);
             mGLDataLoaded = true;
         }  
     }
@@ -472,14 +489,70 @@ public class Game extends AllocationGuard {
     }
 
 	public void setSoundEnabled(boolean soundEnabled) {
-		BaseObject.sSystemRegistry.soundSystem.setSoundEnabled(soundEnabled);
+		BaseObject.getSystemRegistry().soundSystem.setSoundEnabled(soundEnabled);
 	}
 	
 	public void setControlOptions(boolean clickAttack, boolean tiltControls, int tiltSensitivity, int movementSensitivity) {
-		BaseObject.sSystemRegistry.inputGameInterface.setUseClickForAttack(clickAttack);
-		BaseObject.sSystemRegistry.inputGameInterface.setUseOrientationForMovement(tiltControls);
-		BaseObject.sSystemRegistry.inputGameInterface.setOrientationMovementSensitivity((tiltSensitivity / 100.0f));
-		BaseObject.sSystemRegistry.inputGameInterface.setMovementSensitivity((movementSensitivity / 100.0f));
+		BaseObject.getSystemRegistry().inputGameInterface.setUseClickForAttack(clickAttack);
+		BaseObject.getSystemRegistry().inputGameInterface.setUseOrientationForMovement(tiltControls);
+		BaseObject.getSystemRegistry().inputGameInterface.setOrientationMovementSensitivity((tiltSensitivity / 100.0f));
+		BaseObject.getSystemRegistry().inputGameInterface.setMovementSensitivity((movementSensitivity / 100.0f));
+	}
+	
+	public void setFixedTimeStep(float seconds) {
+		mGameThread.setFixedTimeStep(seconds);
+	}
+	
+	/** Sets the game loop's target rate (e.g. FramePacer.RATE_30HZ). */
+	public void setTargetFrameRate(int framesPerSecond) {
+		mGameThread.getFramePacer().setTargetRate(framesPerSecond);
+	}
+	
+	/** 
+	 * Sets how long before each frame's deadline the game loop stops sleeping and yields, trading
+	 * CPU time (and battery) for steadier frame timing.  See FramePacer.setSpinWindow().  0, the
+	 * default, means sleep only.
+	 */
+	public void setFrameSpinWindow(long nanos) {
+		mGameThread.getFramePacer().setSpinWindow(nanos);
+	}
+	
+	/** 
+	 * Installs (or removes) a FrameProfiler on the game graph.  Profiles can be written out with
+	 * FrameProfiler.dumpToFile().
+	 */
+	public FrameProfiler setProfilingEnabled(boolean enabled) {
+		FrameProfiler profiler = BaseObject.getSystemRegistry().frameProfiler;
+		if (enabled && profiler == null) {
+			profiler = new FrameProfiler();
+			BaseObject.getSystemRegistry().frameProfiler = profiler;
+		} else if (!enabled) {
+			BaseObject.getSystemRegistry().frameProfiler = null;
+			profiler = null;
+		}
+		return profiler;
+	}
+	
+	/** Enables phase-major component updates for active game objects.  See PhasedComponentScheduler. */
+	public void setPhaseMajorScheduling(boolean phaseMajor) {
+		BaseObject.getSystemRegistry().gameObjectManager.setPhaseMajorScheduling(phaseMajor);
+	}
+	
+	/** 
+	 * Updates parallel-safe components on worker threads as well as the game thread.  Pass 0 to
+	 * update everything on the game thread.
+	 */
+	public void setWorkerThreads(int workerCount) {
+		BaseObject.getSystemRegistry().gameObjectManager.setWorkerThreads(workerCount);
+	}
+	
+	/** 
+	 * Limits how many destroyed objects (and how many milliseconds of work) are returned to their
+	 * pools each frame.  Pass 0 for either to remove that limit.
+	 */
+	public void setDestructionBudget(int maxObjects, float maxMilliseconds) {
+		BaseObject.getSystemRegistry().gameObjectManager.setDestructionBudget(maxObjects, 
+				maxMilliseconds);
 	}
 	
 	public void setSafeMode(boolean safe) {
@@ -487,11 +560,11 @@ public class Game extends AllocationGuard {
 	}
 	
 	public float getGameTime() {
-		return BaseObject.sSystemRegistry.timeSystem.getGameTime();
+		return BaseObject.getSystemRegistry().timeSystem.getGameTime();
 	}
 	
 	public Vector2 getLastDeathPosition() {
-		return BaseObject.sSystemRegistry.eventRecorder.getLastDeathPosition();
+		return BaseObject.getSystemRegistry().eventRecorder.getLastDeathPosition();
 	}
 
 	public boolean isPaused() {
@@ -500,7 +573,7 @@ public class Game extends AllocationGuard {
 
 	public void setKeyConfig(int leftKey, int rightKey, int jumpKey,
 			int attackKey) {
-		BaseObject.sSystemRegistry.inputGameInterface.setKeys(leftKey, rightKey, jumpKey, attackKey);
+		BaseObject.getSystemRegistry().inputGameInterface.setKeys(leftKey, rightKey, jumpKey, attackKey);
 	}
 
 }
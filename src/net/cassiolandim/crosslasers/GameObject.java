@@ -17,6 +17,7 @@
 package net.cassiolandim.crosslasers;
 
 import net.cassiolandim.crosslasers.CollisionParameters.HitType;
+import net.cassiolandim.crosslasers.component.GameComponent;
 import net.cassiolandim.crosslasers.system.TimeSystem;
 
 
@@ -32,6 +33,7 @@ public class GameObject extends PhasedObjectManager {
     
     // These fields are managed by components.
     private Vector2 mPosition;
+    private Vector2 mLastPosition;  // Position at the start of the most recent update.
     private Vector2 mVelocity;
     private Vector2 mTargetVelocity;
     private Vector2 mAcceleration;
@@ -46,7 +48,7 @@ public class GameObject extends PhasedObjectManager {
   
     public boolean positionLocked;
     
-    public float activationRadius;
+    public float activationRadius;  // -1 or 0 means always active.  See GameObjectManager.
     public boolean destroyOnDeactivation;
     
     public int life;
@@ -80,10 +82,25 @@ public class GameObject extends PhasedObjectManager {
     
     public Team team;
     
+    // The first committed component of each type, indexed by GameComponent.typeId.
+    private final GameComponent[] mComponentsByType;
+    
+    public static final int INVALID_HANDLE = -1;
+    
+    // Managed by GameObjectHandleTable.  See getHandle().
+    int mHandleSlot;
+    int mHandleGeneration;
+    
+    // Set while the object is parked in GameObjectManager's inactive list.
+    boolean mParked;
+    
     public GameObject() {
         super();
+        mComponentsByType = new GameComponent[GameComponent.MAX_TYPE_IDS];
+        mHandleSlot = -1;
 
         mPosition = new Vector2();
+        mLastPosition = new Vector2();
         mVelocity = new Vector2();
         mTargetVelocity = new Vector2();
         mAcceleration = new Vector2();
@@ -101,6 +118,7 @@ public class GameObject extends PhasedObjectManager {
         commitUpdates();
         
         mPosition.zero();
+        mLastPosition.zero();
         mVelocity.zero();
         mTargetVelocity.zero();
         mAcceleration.zero();
@@ -109,6 +127,7 @@ public class GameObject extends PhasedObjectManager {
         facingDirection.set(1.0f, 1.0f);
         
         mCurrentAction = ActionType.INVALID;
+        mParked = false;
         positionLocked = false;
         activationRadius = 0;
         destroyOnDeactivation = false;
@@ -120,9 +139,87 @@ public class GameObject extends PhasedObjectManager {
         lastReceivedHitType = HitType.INVALID;
     }
     
+    @Override
+    public void update(float timeDelta, BaseObject parent) {
+        beginUpdate();
+        updateComponents(timeDelta);
+    }
+
+    @Override
+    public void commitUpdates() {
+        final boolean changed = hasPendingUpdates();
+        super.commitUpdates();
+        if (changed) {
+            rebuildTypeTable();
+        }
+    }
+    
+    // Walks backwards so that the first component of each type (the one findByClass() would
+    // return) is the one left in the table.
+    private final void rebuildTypeTable() {
+        final GameComponent[] table = mComponentsByType;
+        for (int x = 0; x < table.length; x++) {
+            table[x] = null;
+        }
+        final FixedSizeArray<BaseObject> components = getObjects();
+        final Object[] componentArray = components.getArray();
+        for (int x = components.getCount() - 1; x >= 0; x--) {
+            final GameComponent component = (GameComponent)componentArray[x];
+            table[component.typeId] = component;
+        }
+    }
+    
+    /** 
+     * Returns the first component with the passed type ID (see GameComponent.getTypeId()), or null.
+     * Like findByClass(), only components that have been committed are found, but this lookup is
+     * constant time.
+     */
+    public final GameComponent findByType(int typeId) {
+        return mComponentsByType[typeId];
+    }
+    
+    /** Commits pending component changes and records the position at the start of the update. */
+    public final void beginUpdate() {
+        commitUpdates();
+        mLastPosition.set(mPosition);
+    }
+
+    /** Runs each component once, in phase order.  beginUpdate() must be called first. */
+    public final void updateComponents(float timeDelta) {
+        final FixedSizeArray<BaseObject> components = getObjects();
+        final int count = components.getCount();
+        final Object[] componentArray = components.getArray();
+        final FrameProfiler profiler = getSystemRegistry().frameProfiler;
+        if (profiler != null && profiler.isRecording()) {
+            for (int i = 0; i < count; i++) {
+                GameComponent component = (GameComponent)componentArray[i];
+                final long start = System.nanoTime();
+                component.update(timeDelta, this);
+                profiler.recordComponent(component, System.nanoTime() - start);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                ((BaseObject)componentArray[i]).update(timeDelta, this);
+            }
+        }
+    }
+    
+    /**
+     * Returns a handle to this object that stops resolving once the object is recycled, or
+     * INVALID_HANDLE if the object isn't pooled.  Resolve handles with 
+     * GameObjectFactory.resolve().
+     */
+    public final int getHandle() {
+        int handle = INVALID_HANDLE;
+        if (mHandleSlot >= 0) {
+            handle = GameObjectHandleTable.makeHandle(mHandleSlot, mHandleGeneration);
+        }
+        return handle;
+    }
+    
     // Utility functions
     public final boolean touchingGround() {
-        final TimeSystem time = sSystemRegistry.timeSystem;
+        final TimeSystem time = getSystemRegistry().timeSystem;
         final float gameTime = time.getGameTime();
         final boolean touching = gameTime > 0.1f &&
             Utils.close(mLastTouchedFloorTime, time.getGameTime(), COLLISION_SURFACE_DECAY_TIME);
@@ -130,7 +227,7 @@ public class GameObject extends PhasedObjectManager {
     }
     
     public final boolean touchingCeiling() {
-        final TimeSystem time = sSystemRegistry.timeSystem;
+        final TimeSystem time = getSystemRegistry().timeSystem;
         final float gameTime = time.getGameTime();
         final boolean touching = gameTime > 0.1f && 
             Utils.close(mLastTouchedCeilingTime, time.getGameTime(), COLLISION_SURFACE_DECAY_TIME);
@@ -138,7 +235,7 @@ public class GameObject extends PhasedObjectManager {
     }
     
     public final boolean touchingLeftWall() {
-        final TimeSystem time = sSystemRegistry.timeSystem;
+        final TimeSystem time = getSystemRegistry().timeSystem;
         final float gameTime = time.getGameTime();
         final boolean touching = gameTime > 0.1f &&
             Utils.close(mLastTouchedLeftWallTime, time.getGameTime(), COLLISION_SURFACE_DECAY_TIME);
@@ -146,7 +243,7 @@ public class GameObject extends PhasedObjectManager {
     }
     
     public final boolean touchingRightWall() {
-        final TimeSystem time = sSystemRegistry.timeSystem;
+        final TimeSystem time = getSystemRegistry().timeSystem;
         final float gameTime = time.getGameTime();
         final boolean touching = gameTime > 0.1f &&
             Utils.close(mLastTouchedRightWallTime, time.getGameTime(), COLLISION_SURFACE_DECAY_TIME);
@@ -161,6 +258,11 @@ public class GameObject extends PhasedObjectManager {
         mPosition.set(position);
     }
     
+    /** Returns the position of this object before its most recent update. */
+    public final Vector2 getLastPosition() {
+        return mLastPosition;
+    }
+    
     public final float getCenteredPositionX() {
         return mPosition.x + (width / 2.0f);
     }
@@ -37,10 +37,12 @@ import net.cassiolandim.crosslasers.system.DebugSystem;
 public class GameObjectCollisionSystem extends BaseObject {
     private static final int MAX_COLLIDING_OBJECTS = 256;
     private static final int COLLISION_RECORD_POOL_SIZE = 256;
-    private static final CollisionVolumeComparator sCollisionVolumeComparator 
+    // Workspaces are per instance (rather than static) so that separate worlds can run at once.
+    private final CollisionVolumeComparator mCollisionVolumeComparator 
         = new CollisionVolumeComparator();
-    private static CollisionVolume.FlipInfo sFlip = new CollisionVolume.FlipInfo();
-    private static CollisionVolume.FlipInfo sOtherFlip = new CollisionVolume.FlipInfo();
+    private final CollisionVolume.FlipInfo mFlip = new CollisionVolume.FlipInfo();
+    private final CollisionVolume.FlipInfo mOtherFlip = new CollisionVolume.FlipInfo();
+    private final MinXKey mMinXKey = new MinXKey();
 
     FixedSizeArray<CollisionVolumeRecord> mObjects;
     CollisionVolumeRecordPool mRecordPool;
@@ -51,8 +53,9 @@ public class GameObjectCollisionSystem extends BaseObject {
     public GameObjectCollisionSystem() {
         super();
         mObjects = new FixedSizeArray<CollisionVolumeRecord>(MAX_COLLIDING_OBJECTS);
-        mObjects.setComparator(sCollisionVolumeComparator);
-        //mObjects.setSorter(new ShellSorter<CollisionVolumeRecord>());
+        mObjects.setComparator(mCollisionVolumeComparator);
+        // Objects register in the same order every frame and move little between frames.
+        mObjects.setCoherentKeySort(true);
         mRecordPool = new CollisionVolumeRecordPool(COLLISION_RECORD_POOL_SIZE);
     }
     
@@ -101,41 +104,41 @@ public class GameObjectCollisionSystem extends BaseObject {
     
     @Override
     public void update(float timeDelta, BaseObject parent) {
-        // Sort the objects by their x position.
-        mObjects.sort(true);
+        // Sort the objects by their x position.  This also records each object's minimum x.
+        mObjects.sortByFloatKey(mMinXKey);
         
         final int count = mObjects.getCount();
         for (int x = 0; x < count; x++) {
             final CollisionVolumeRecord record = mObjects.get(x);
             final Vector2 position = record.object.getPosition();
-            sFlip.flipX = (record.object.facingDirection.x < 0.0f);
-            sFlip.flipY = (record.object.facingDirection.y < 0.0f);
-            sFlip.parentWidth = record.object.width;
-            sFlip.parentHeight = record.object.height;
+            mFlip.flipX = (record.object.facingDirection.x < 0.0f);
+            mFlip.flipY = (record.object.facingDirection.y < 0.0f);
+            mFlip.parentWidth = record.object.width;
+            mFlip.parentHeight = record.object.height;
             
-            if (sSystemRegistry.debugSystem != null) {
+            if (getSystemRegistry().debugSystem != null) {
             	drawDebugVolumes(record);
             }
             
-            final float maxX = record.boundingVolume.getMaxXPosition(sFlip) + position.x;
+            final float maxX = record.boundingVolume.getMaxXPosition(mFlip) + position.x;
             for (int y = x + 1; y < count; y++) {
                 final CollisionVolumeRecord other = mObjects.get(y);
-                final Vector2 otherPosition = other.object.getPosition();
-                sOtherFlip.flipX = (other.object.facingDirection.x < 0.0f);
-                sOtherFlip.flipY = (other.object.facingDirection.y < 0.0f);
-                sOtherFlip.parentWidth = other.object.width;
-                sOtherFlip.parentHeight = other.object.height;
-                
-                if (otherPosition.x + other.boundingVolume.getMinXPosition(sOtherFlip) > maxX) {
+                if (other.minX > maxX) {
                     // These objects can't possibly be colliding.  And since the list is sorted,
                     // there are no potentially colliding objects after this object
                     // either, so we're done!
                     break;
                 } else {
+                    final Vector2 otherPosition = other.object.getPosition();
+                    mOtherFlip.flipX = (other.object.facingDirection.x < 0.0f);
+                    mOtherFlip.flipY = (other.object.facingDirection.y < 0.0f);
+                    mOtherFlip.parentWidth = other.object.width;
+                    mOtherFlip.parentHeight = other.object.height;
+                    
                 	final boolean testRequired = (record.attackVolumes != null && other.vulnerabilityVolumes != null) ||
                 		(record.vulnerabilityVolumes != null && other.attackVolumes != null);
-                    if (testRequired && record.boundingVolume.intersects(position, sFlip,
-                        other.boundingVolume, otherPosition, sOtherFlip)) {
+                    if (testRequired && record.boundingVolume.intersects(position, mFlip,
+                        other.boundingVolume, otherPosition, mOtherFlip)) {
                         // These two objects are potentially colliding.
                         // Now we must test all attack vs vulnerability boxes.
                         final int hit = testAttackAgainstVulnerability(
@@ -143,8 +146,8 @@ public class GameObjectCollisionSystem extends BaseObject {
                                 other.vulnerabilityVolumes, 
                                 position,
                                 otherPosition,
-                                sFlip,
-                                sOtherFlip);
+                                mFlip,
+                                mOtherFlip);
                         if (hit != HitType.INVALID) {
                             boolean hitAccepted = false;
                             if (other.reactionComponent != null) {
@@ -163,8 +166,8 @@ public class GameObjectCollisionSystem extends BaseObject {
                                 record.vulnerabilityVolumes, 
                                 otherPosition, 
                                 position,
-                                sOtherFlip,
-                                sFlip);
+                                mOtherFlip,
+                                mFlip);
                         if (hit2 != HitType.INVALID) {
                             boolean hitAccepted = false;
                             if (record.reactionComponent != null) {
@@ -236,8 +239,8 @@ public class GameObjectCollisionSystem extends BaseObject {
     	final Vector2 position = record.object.getPosition();
     	if (mDrawDebugBoundingVolume) {
 	    	final CollisionVolume boundingVolume = record.boundingVolume;
-	    	sSystemRegistry.debugSystem.drawShape(
-	    			position.x + boundingVolume.getMinXPosition(sFlip), position.y + boundingVolume.getMinYPosition(sFlip), 
+	    	getSystemRegistry().debugSystem.drawShape(
+	    			position.x + boundingVolume.getMinXPosition(mFlip), position.y + boundingVolume.getMinYPosition(mFlip), 
 	    			boundingVolume.getMaxX() - boundingVolume.getMinX(), 
 	    			boundingVolume.getMaxY() - boundingVolume.getMinY(), 
 	    			DebugSystem.SHAPE_CIRCLE,
@@ -248,8 +251,8 @@ public class GameObjectCollisionSystem extends BaseObject {
 	    		final int attackVolumeCount = record.attackVolumes.getCount();
 	    		for (int y = 0; y < attackVolumeCount; y++) {
 	    			CollisionVolume volume = record.attackVolumes.get(y);
-	    			sSystemRegistry.debugSystem.drawShape(
-	    					position.x + volume.getMinXPosition(sFlip), position.y + volume.getMinYPosition(sFlip), 
+	    			getSystemRegistry().debugSystem.drawShape(
+	    					position.x + volume.getMinXPosition(mFlip), position.y + volume.getMinYPosition(mFlip), 
 	    					volume.getMaxX() - volume.getMinX(), 
 	    					volume.getMaxY() - volume.getMinY(), 
 	    	    			volume.getClass() == AABoxCollisionVolume.class ? DebugSystem.SHAPE_BOX : DebugSystem.SHAPE_CIRCLE,
@@ -261,8 +264,8 @@ public class GameObjectCollisionSystem extends BaseObject {
 	    		final int vulnVolumeCount = record.vulnerabilityVolumes.getCount();
 	    		for (int y = 0; y < vulnVolumeCount; y++) {
 	    			CollisionVolume volume = record.vulnerabilityVolumes.get(y);
-	    			sSystemRegistry.debugSystem.drawShape(
-	    					position.x + volume.getMinXPosition(sFlip), position.y + volume.getMinYPosition(sFlip), 
+	    			getSystemRegistry().debugSystem.drawShape(
+	    					position.x + volume.getMinXPosition(mFlip), position.y + volume.getMinYPosition(mFlip), 
 	    					volume.getMaxX() - volume.getMinX(), 
 	    					volume.getMaxY() - volume.getMinY(), 
 	    	    			volume.getClass() == AABoxCollisionVolume.class ? DebugSystem.SHAPE_BOX : DebugSystem.SHAPE_CIRCLE,
@@ -278,12 +281,13 @@ public class GameObjectCollisionSystem extends BaseObject {
 	}
     
     /** A record of a single game object and its associated collision info.  */
-    private class CollisionVolumeRecord extends AllocationGuard {
+    static class CollisionVolumeRecord extends AllocationGuard {
         public GameObject object;
         public HitReactionComponent reactionComponent;
         public CollisionVolume boundingVolume;
         public FixedSizeArray<CollisionVolume> attackVolumes;
         public FixedSizeArray<CollisionVolume> vulnerabilityVolumes;
+        public float minX;  // Left edge of the bounding volume; set when the records are sorted.
         
         public void reset() {
             object = null;
@@ -316,11 +320,28 @@ public class GameObjectCollisionSystem extends BaseObject {
 
     }
     
+    /** 
+     * Sort key for collision records: the world x position of the left edge of the record's
+     * bounding volume.  The key is also stored in the record so that the sweep can use it.
+     */
+    final static class MinXKey implements FixedSizeArray.FloatKey<CollisionVolumeRecord> {
+        private final CollisionVolume.FlipInfo mKeyFlip = new CollisionVolume.FlipInfo();
+        public float getKey(CollisionVolumeRecord record) {
+            final GameObject object = record.object;
+            mKeyFlip.flipX = (object.facingDirection.x < 0.0f);
+            mKeyFlip.flipY = (object.facingDirection.y < 0.0f);
+            mKeyFlip.parentWidth = object.width;
+            mKeyFlip.parentHeight = object.height;
+            record.minX = object.getPosition().x + record.boundingVolume.getMinXPosition(mKeyFlip);
+            return record.minX;
+        }
+    }
+    
     /** 
      * Comparator for game objects that considers the world position of the object's bounding
      * volume and sorts objects from left to right on the x axis. */
     public final static class CollisionVolumeComparator implements Comparator<CollisionVolumeRecord> {
-        private static CollisionVolume.FlipInfo sCompareFlip = new CollisionVolume.FlipInfo();
+        private final CollisionVolume.FlipInfo mCompareFlip = new CollisionVolume.FlipInfo();
         public int compare(CollisionVolumeRecord object1, CollisionVolumeRecord object2) {
             int result = 0;
             if (object1 == null && object2 != null) {
@@ -328,21 +349,21 @@ public class GameObjectCollisionSystem extends BaseObject {
             } else if (object1 != null && object2 == null) {
                 result = -1;
             } else if (object1 != null && object2 != null) {
-                sCompareFlip.flipX = (object1.object.facingDirection.x < 0.0f);
-                sCompareFlip.flipY = (object1.object.facingDirection.y < 0.0f);
-                sCompareFlip.parentWidth = object1.object.width;
-                sCompareFlip.parentHeight = object1.object.height;
+                mCompareFlip.flipX = (object1.object.facingDirection.x < 0.0f);
+                mCompareFlip.flipY = (object1.object.facingDirection.y < 0.0f);
+                mCompareFlip.parentWidth = object1.object.width;
+                mCompareFlip.parentHeight = object1.object.height;
                 
                 final float minX1 = object1.object.getPosition().x 
-                    + object1.boundingVolume.getMinXPosition(sCompareFlip);
+                    + object1.boundingVolume.getMinXPosition(mCompareFlip);
                 
-                sCompareFlip.flipX = (object2.object.facingDirection.x < 0.0f);
-                sCompareFlip.flipY = (object2.object.facingDirection.y < 0.0f);
-                sCompareFlip.parentWidth = object2.object.width;
-                sCompareFlip.parentHeight = object2.object.height;
+                mCompareFlip.flipX = (object2.object.facingDirection.x < 0.0f);
+                mCompareFlip.flipY = (object2.object.facingDirection.y < 0.0f);
+                mCompareFlip.parentWidth = object2.object.width;
+                mCompareFlip.parentHeight = object2.object.height;
                 
                 final float minX2 = object2.object.getPosition().x 
-                    + object2.boundingVolume.getMinXPosition(sCompareFlip);
+                    + object2.boundingVolume.getMinXPosition(mCompareFlip);
                 
                 final float delta = minX1 - minX2;
                 if (delta < 0.0f) {
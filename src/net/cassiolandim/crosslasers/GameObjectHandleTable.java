@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+/**
+ * Maps integer handles to pooled GameObjects.  Every object registered with the table gets a
+ * fixed slot, and a handle packs that slot together with the object's current generation.  When
+ * an object is returned to its pool the table retires it, which bumps its generation, so handles
+ * taken before the object was recycled stop resolving.  Holding a handle instead of a reference
+ * means a component can never act on an object that has since been recycled as a different
+ * entity.  Handles are never negative; GameObject.INVALID_HANDLE never resolves.
+ */
+public class GameObjectHandleTable extends AllocationGuard {
+    static final int SLOT_BITS = 12;
+    public static final int MAX_SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = MAX_SLOTS - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+    private GameObject[] mSlots;
+    private int mSlotCount;
+
+    public GameObjectHandleTable(int initialCapacity) {
+        super();
+        mSlots = new GameObject[initialCapacity];
+        mSlotCount = 0;
+    }
+
+    /** Gives the object a slot.  Called once per object, when its pool creates it. */
+    public void register(GameObject object) {
+        assert object.mHandleSlot == -1 : "Object already has a handle slot";
+        assert mSlotCount < MAX_SLOTS : "Too many objects for the handle table";
+        if (mSlotCount == mSlots.length) {
+            // Only happens when the pool grows, which already allocates.
+            final int capacity = Math.min(Math.max(mSlots.length * 2, 16), MAX_SLOTS);
+            GameObject[] slots = new GameObject[capacity];
+            System.arraycopy(mSlots, 0, slots, 0, mSlotCount);
+            mSlots = slots;
+        }
+        object.mHandleSlot = mSlotCount;
+        mSlots[mSlotCount] = object;
+        mSlotCount++;
+    }
+
+    /** Invalidates every outstanding handle to the object.  Called when it returns to its pool. */
+    public void retire(GameObject object) {
+        object.mHandleGeneration = (object.mHandleGeneration + 1) & GENERATION_MASK;
+    }
+
+    /** Returns the object the handle refers to, or null if it has been recycled since. */
+    public final GameObject resolve(int handle) {
+        GameObject result = null;
+        if (handle >= 0) {
+            final int slot = handle & SLOT_MASK;
+            if (slot < mSlotCount) {
+                final GameObject object = mSlots[slot];
+                if (object.mHandleGeneration == (handle >>> SLOT_BITS)) {
+                    result = object;
+                }
+            }
+        }
+        return result;
+    }
+
+    static final int makeHandle(int slot, int generation) {
+        return (generation << SLOT_BITS) | slot;
+    }
+}
@@ -18,6 +18,7 @@ package net.cassiolandim.crosslasers;
 
 import java.util.Comparator;
 
+import net.cassiolandim.crosslasers.component.GameComponent;
 import net.cassiolandim.crosslasers.component.GameObjectFactory;
 
 
@@ -25,23 +26,48 @@ import net.cassiolandim.crosslasers.component.GameObjectFactory;
  * A node in the game graph that manages the activation status of its children.  The
  * GameObjectManager moves the objects it manages in and out of the active list (that is,
  * in and out of the game tree, causing them to be updated or ignored, respectively) each frame
- * based on the distance of that object to the camera.  Objects may specify an "activation radius"
+ * based on the distance of that object to the activation focus (the player; this game has no
+ * camera system).  Objects may specify an "activation radius"
  * to define an area around themselves so that the position of the camera can be used to determine
  * which objects should receive processing time and which should be ignored.  Objects that do not
  * move should have an activation radius that defines a sphere similar to the size of the screen;
  * they only need processing when they are visible.  Objects that move around will probably need
  * larger regions so that they can leave the visible area of the game world and not be immediately
  * deactivated.
+ * Inactive objects are kept sorted by x position.  Since they don't move, each frame only the
+ * slice of that list within reach of the focus needs to be checked for objects to wake.  An
+ * activation radius of -1 (or 0, the default) means the object is always active.  Objects with
+ * destroyOnDeactivation set are destroyed instead of being parked.
+ * The manager also keeps a SpatialHash of the active objects for neighbor queries.  It is rebuilt
+ * at the start of each frame, once additions, removals and deactivations have been applied, so it
+ * never refers to destroyed objects.  With phase-major scheduling it is rebuilt again right after
+ * the MOVEMENT phase so that later phases see this frame's positions.  Object-major updates have
+ * no point where every object has moved, so there queries see positions one frame old.
+ * Destroyed objects leave the game tree on the next commit, but the work of releasing their
+ * components and returning them to their pools is queued and spread over several frames under a
+ * budget (see setDestructionBudget()).  destroyAll() drains the whole queue on the next commit.
  */
 public class GameObjectManager extends ObjectManager {
 	
     private static final int MAX_GAME_OBJECTS = 384;
+    private static final int DEFAULT_DESTRUCTION_BUDGET = 16;
     private final static HorizontalPositionComparator sGameObjectComparator 
         = new HorizontalPositionComparator();
     private FixedSizeArray<BaseObject> mInactiveObjects;
     private FixedSizeArray<GameObject> mMarkedForDeathObjects;
+    private int mDestructionBudget;             // Objects released per commit; 0 means no limit.
+    private long mDestructionTimeBudget;        // Nanoseconds per commit; 0 means no limit.
+    private boolean mDrainDestructionQueue;
+    private int mReleasableCount;               // Queued objects that are out of the game tree.
     private GameObject mPlayer;
     private boolean mVisitingGraph;
+    private float mMaxActivationRadius;
+    private float mActivationWindow;    // Largest radius of any parked object.
+    private Vector2 mActivationFocus;
+    private boolean mHasActivationFocus;
+    private SpatialHash mSpatialHash;
+    private PhasedComponentScheduler mScheduler;
+    private ComponentWorkerPool mWorkerPool;
         
     public GameObjectManager(float maxActivationRadius) {
         super(MAX_GAME_OBJECTS);
@@ -49,23 +75,112 @@ public class GameObjectManager extends ObjectManager {
         mInactiveObjects = new FixedSizeArray<BaseObject>(MAX_GAME_OBJECTS);
         mInactiveObjects.setComparator(sGameObjectComparator);
         
-        mMarkedForDeathObjects = new FixedSizeArray<GameObject>(MAX_GAME_OBJECTS);
+        // Room for every object to be queued at once, plus a frame's worth of new kills.
+        mMarkedForDeathObjects = new FixedSizeArray<GameObject>(MAX_GAME_OBJECTS * 2);
+        mDestructionBudget = DEFAULT_DESTRUCTION_BUDGET;
+        mDestructionTimeBudget = 0;
+        mDrainDestructionQueue = false;
+        mReleasableCount = 0;
         mVisitingGraph = false;
+        
+        mMaxActivationRadius = maxActivationRadius;
+        mActivationWindow = maxActivationRadius;
+        mActivationFocus = new Vector2();
+        mHasActivationFocus = false;
+        
+        mSpatialHash = new SpatialHash(MAX_GAME_OBJECTS);
+        mSpatialHash.setSource(getObjects());
     }
     
     @Override
     public void commitUpdates() {
         super.commitUpdates();
         
-        GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
-        final int objectsToKillCount = mMarkedForDeathObjects.getCount();
-        if (factory != null && objectsToKillCount > 0) {
-            final Object[] deathArray = mMarkedForDeathObjects.getArray();
-            for (int x = 0; x < objectsToKillCount; x++) {
-                factory.destroy((GameObject)deathArray[x]);
+        // Everything queued so far has now left the game tree and can be released.
+        mReleasableCount = mMarkedForDeathObjects.getCount();
+        int limit = mReleasableCount;
+        long deadline = 0;
+        if (!mDrainDestructionQueue) {
+            if (mDestructionBudget > 0 && mDestructionBudget < limit) {
+                limit = mDestructionBudget;
+            }
+            if (mDestructionTimeBudget > 0) {
+                deadline = System.nanoTime() + mDestructionTimeBudget;
             }
-            mMarkedForDeathObjects.clear();
         }
+        mDrainDestructionQueue = false;
+        releaseDestroyedObjects(limit, deadline);
+    }
+    
+    /** 
+     * Returns up to limit queued objects to their pools, oldest first, stopping early once the
+     * deadline (if not 0) passes.  Only objects that have left the game tree may be released.
+     */
+    private void releaseDestroyedObjects(int limit, long deadline) {
+        GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+        final FixedSizeArray<GameObject> queue = mMarkedForDeathObjects;
+        final int queuedCount = queue.getCount();
+        assert limit <= mReleasableCount;
+        if (factory != null && limit > 0) {
+            final Object[] deathArray = queue.getArray();
+            int released = 0;
+            while (released < limit) {
+                factory.destroy((GameObject)deathArray[released]);
+                released++;
+                if (deadline != 0 && System.nanoTime() >= deadline) {
+                    break;
+                }
+            }
+            mReleasableCount -= released;
+            
+            if (released == queuedCount) {
+                queue.clear();
+            } else {
+                // Slide the survivors to the front so the queue stays oldest-first.
+                final int remaining = queuedCount - released;
+                for (int x = 0; x < remaining; x++) {
+                    queue.set(x, (GameObject)deathArray[released + x]);
+                }
+                for (int x = 0; x < released; x++) {
+                    queue.removeLast();
+                }
+            }
+        }
+    }
+    
+    /** Adds an object to the destruction queue, making room first if the queue is full. */
+    private void queueDestruction(GameObject object) {
+        final FixedSizeArray<GameObject> queue = mMarkedForDeathObjects;
+        if (queue.getCount() == queue.getCapacity()) {
+            // Only a huge burst of kills gets here.  Objects queued before the last commit are
+            // already out of the game tree, so they can be released right away.
+            releaseDestroyedObjects(mReleasableCount, 0);
+        }
+        assert queue.getCount() < queue.getCapacity() : "Destruction queue exhausted!";
+        queue.add(object);
+    }
+    
+    /**
+     * Sets how much destruction work each commit may do: at most maxObjects objects (0 for no
+     * limit) and at most maxMilliseconds (0 for no limit).  At least one queued object is released
+     * per commit.  Objects left over are released on later frames; until then their components
+     * stay checked out of their pools.
+     */
+    public void setDestructionBudget(int maxObjects, float maxMilliseconds) {
+        mDestructionBudget = maxObjects;
+        mDestructionTimeBudget = (long)(maxMilliseconds * 1000000.0f);
+    }
+    
+    /** Returns the number of destroyed objects still waiting to be returned to their pools. */
+    public int getPendingDestructionCount() {
+        return mMarkedForDeathObjects.getCount();
+    }
+    
+    /** Returns every queued object to its pool right away.  Must not be called during update. */
+    public void drainDestructionQueue() {
+        assert mVisitingGraph == false;
+        mDrainDestructionQueue = true;
+        commitUpdates();
     }
 
     @Override
@@ -74,29 +189,113 @@ public class GameObjectManager extends ObjectManager {
         
         mVisitingGraph = true;
         FixedSizeArray<BaseObject> objects = getObjects();
+        if (mPlayer != null) {
+            mActivationFocus.set(mPlayer.getPosition());
+            mHasActivationFocus = true;
+        }
+        if (mHasActivationFocus) {
+            deactivateDistantObjects(objects);
+        }
+        mSpatialHash.rebuild(objects);
         final int count = objects.getCount();
        
-        if (count > 0) {
+        if (count > 0 && mScheduler != null) {
+            // The scheduler rebuilds the spatial hash again after MOVEMENT.
+            mScheduler.update(objects.getArray(), count, timeDelta);
+        } else if (count > 0) {
             final Object[] objectArray = objects.getArray();
-            for (int i = count - 1; i >= 0; i--) {
-                GameObject gameObject = (GameObject)objectArray[i];
-                gameObject.update(timeDelta, this);
+            final FrameProfiler profiler = getSystemRegistry().frameProfiler;
+            if (profiler != null && profiler.isRecording()) {
+                for (int i = count - 1; i >= 0; i--) {
+                    GameObject gameObject = (GameObject)objectArray[i];
+                    final long start = System.nanoTime();
+                    gameObject.update(timeDelta, this);
+                    profiler.recordGameObject(System.nanoTime() - start);
+                }
+            } else {
+                for (int i = count - 1; i >= 0; i--) {
+                    GameObject gameObject = (GameObject)objectArray[i];
+                    gameObject.update(timeDelta, this);
+                }
             }
         }
         
-        mInactiveObjects.sort(false);
-        final int inactiveCount = mInactiveObjects.getCount();
-        if (inactiveCount > 0) {
-            final Object[] inactiveArray = mInactiveObjects.getArray();
-            for (int i = inactiveCount - 1; i >= 0; i--) {
-                GameObject gameObject = (GameObject)inactiveArray[i];
+        if (mHasActivationFocus && mInactiveObjects.getCount() > 0) {
+            activateNearbyObjects(timeDelta);
+        }
+        mVisitingGraph = false;
+    }
+    
+    private final boolean inActivationRange(GameObject object) {
+        final float radius = object.activationRadius;
+        return radius <= 0.0f 
+            || mActivationFocus.distance2(object.getPosition()) < radius * radius;
+    }
+    
+    private void deactivateDistantObjects(FixedSizeArray<BaseObject> objects) {
+        final Object[] objectArray = objects.getArray();
+        for (int i = objects.getCount() - 1; i >= 0; i--) {
+            GameObject gameObject = (GameObject)objectArray[i];
+            if (!inActivationRange(gameObject)) {
+                // It's safe to just swap the current object with the last object because this
+                // list is being iterated backwards, so the last object has already been checked.
+                removeImmediate(i);
+                if (gameObject.destroyOnDeactivation) {
+                    queueDestruction(gameObject);
+                    if (gameObject == mPlayer) {
+                        clearPlayer();
+                    }
+                } else {
+                    park(gameObject);
+                }
+            }
+        }
+    }
+    
+    /** Inserts an object into the inactive list, keeping the list sorted by x position. */
+    private void park(GameObject object) {
+        object.mParked = true;
+        mInactiveObjects.add(object);
+        final Object[] inactiveArray = mInactiveObjects.getArray();
+        final float x = object.getPosition().x;
+        int index = mInactiveObjects.getCount() - 1;
+        while (index > 0 && ((GameObject)inactiveArray[index - 1]).getPosition().x > x) {
+            mInactiveObjects.set(index, (BaseObject)inactiveArray[index - 1]);
+            index--;
+        }
+        mInactiveObjects.set(index, object);
+        
+        if (object.activationRadius > mActivationWindow) {
+            mActivationWindow = object.activationRadius;
+        }
+    }
+    
+    /** 
+     * Wakes the parked objects that are back in range of the focus.  Only objects within
+     * mActivationWindow of the focus on the x axis can be in range, so the sweep starts at the 
+     * first such object and stops at the first one past the window.
+     */
+    private void activateNearbyObjects(float timeDelta) {
+        final Object[] inactiveArray = mInactiveObjects.getArray();
+        final float minX = mActivationFocus.x - mActivationWindow;
+        final float maxX = mActivationFocus.x + mActivationWindow;
+        
+        int index = findFirstParkedAt(minX);
+        while (index < mInactiveObjects.getCount()) {
+            GameObject gameObject = (GameObject)inactiveArray[index];
+            if (gameObject.getPosition().x > maxX) {
+                break;
+            }
+            if (inActivationRange(gameObject)) {
+                // Ordered removal keeps the rest of the list sorted.
+                mInactiveObjects.remove(index);
+                gameObject.mParked = false;
+                addImmediate(gameObject);
                 gameObject.update(timeDelta, this);
-                mInactiveObjects.swapWithLast(i);
-                mInactiveObjects.removeLast();
-                objects.add(gameObject);
+            } else {
+                index++;
             }
         }
-        mVisitingGraph = false;
     }
     
     @Override
@@ -106,16 +305,65 @@ public class GameObjectManager extends ObjectManager {
         }
     }
      
+    /** Returns the index of the first parked object at or past x, by binary search. */
+    private int findFirstParkedAt(float x) {
+        final Object[] inactiveArray = mInactiveObjects.getArray();
+        int low = 0;
+        int high = mInactiveObjects.getCount();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (((GameObject)inactiveArray[middle]).getPosition().x < x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    /** Removes a parked object from the inactive list, keeping the list sorted. */
+    private void unpark(GameObject object) {
+        final Object[] inactiveArray = mInactiveObjects.getArray();
+        final int count = mInactiveObjects.getCount();
+        final float x = object.getPosition().x;
+        int index = findFirstParkedAt(x);
+        while (index < count && inactiveArray[index] != object
+                && ((GameObject)inactiveArray[index]).getPosition().x == x) {
+            index++;
+        }
+        if (index < count && inactiveArray[index] == object) {
+            mInactiveObjects.remove(index);
+        } else {
+            // Something moved the object while it was parked, so its x is no longer its key.
+            mInactiveObjects.remove(object, true);
+        }
+        object.mParked = false;
+    }
+     
     @Override
     public void remove(BaseObject object) {
         super.remove(object);
+        // Parked objects aren't in the active list, so they must be removed here.  Most removed
+        // objects are active, so only look in the inactive list for ones that are parked.
+        if (object instanceof GameObject && ((GameObject)object).mParked) {
+            unpark((GameObject)object);
+        }
         if (object == mPlayer) {
-            mPlayer = null;
+            clearPlayer();
         }
     }
     
+    /** 
+     * Forgets the player.  Its last position stops being the activation focus, so nothing is
+     * deactivated or activated around it until a new player is set.
+     */
+    private void clearPlayer() {
+        mPlayer = null;
+        mHasActivationFocus = false;
+    }
+    
     public void destroy(GameObject object) {
-        mMarkedForDeathObjects.add(object);
+        queueDestruction(object);
         remove(object);
     }
     
@@ -126,17 +374,80 @@ public class GameObjectManager extends ObjectManager {
         FixedSizeArray<BaseObject> objects = getObjects();
         final int count = objects.getCount();
         for (int i = count - 1; i >= 0; i--) {
-            mMarkedForDeathObjects.add((GameObject)objects.get(i));
+            queueDestruction((GameObject)objects.get(i));
             objects.remove(i);
         }
         
         final int inactiveObjectCount = mInactiveObjects.getCount();
         for (int j = inactiveObjectCount - 1; j >= 0; j--) {
-            mMarkedForDeathObjects.add((GameObject)mInactiveObjects.get(j));
+            final GameObject parked = (GameObject)mInactiveObjects.get(j);
+            parked.mParked = false;
+            queueDestruction(parked);
             mInactiveObjects.remove(j);
         }
         
-        mPlayer = null;
+        // The level is ending, so don't leave any of this for later frames.
+        mDrainDestructionQueue = true;
+        
+        clearPlayer();
+        mActivationWindow = mMaxActivationRadius;
+    }
+    
+    /** 
+     * Switches active objects between object-major updates (each object runs all of its 
+     * components before the next object) and phase-major updates driven by a 
+     * PhasedComponentScheduler.  Inactive objects are always updated object-major.
+     */
+    public void setPhaseMajorScheduling(boolean phaseMajor) {
+        if (phaseMajor && mScheduler == null) {
+            mScheduler = new PhasedComponentScheduler();
+            mScheduler.setWorkerPool(mWorkerPool);
+            mScheduler.setPostPhaseUpdate(GameComponent.ComponentPhases.MOVEMENT.ordinal(), 
+                    mSpatialHash);
+        } else if (!phaseMajor) {
+            mScheduler = null;
+        }
+    }
+    
+    public boolean getPhaseMajorScheduling() {
+        return mScheduler != null;
+    }
+    
+    /**
+     * Updates parallel-safe components on the passed number of worker threads (in addition to the
+     * game thread).  This turns on phase-major scheduling.  Pass 0 to stop the workers.
+     */
+    public void setWorkerThreads(int workerCount) {
+        if (mWorkerPool != null) {
+            mWorkerPool.shutdown();
+            mWorkerPool = null;
+        }
+        if (workerCount > 0) {
+            setPhaseMajorScheduling(true);
+            mWorkerPool = new ComponentWorkerPool(workerCount, mScheduler.getCapacity());
+        }
+        if (mScheduler != null) {
+            mScheduler.setWorkerPool(mWorkerPool);
+        }
+    }
+    
+    /** 
+     * Appends the active objects within radius of (x, y) to results.  See 
+     * SpatialHash.queryRadius().
+     */
+    public int queryRadius(float x, float y, float radius, GameObject.Team team, 
+            GameObject exclude, FixedSizeArray<GameObject> results) {
+        return mSpatialHash.queryRadius(x, y, radius, team, exclude, results);
+    }
+    
+    /** Returns the closest active object within radius of (x, y), or null. */
+    public GameObject findNearest(float x, float y, float radius, GameObject.Team team, 
+            GameObject exclude) {
+        return mSpatialHash.findNearest(x, y, radius, team, exclude);
+    }
+    
+    public SpatialHash getSpatialHash() {
+        return mSpatialHash;
     }
     
     public void setPlayer(GameObject player) {
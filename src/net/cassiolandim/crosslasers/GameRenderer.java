@@ -18,12 +18,12 @@ package net.cassiolandim.crosslasers;
 
 import android.content.Context;
 import android.os.Build;
-import android.os.SystemClock;
 
 import javax.microedition.khronos.egl.EGLConfig;
 import javax.microedition.khronos.opengles.GL10;
 
 import net.cassiolandim.crosslasers.system.OpenGLSystem;
+import net.cassiolandim.crosslasers.system.RenderSystem;
 import net.cassiolandim.crosslasers.system.RenderSystem.RenderElement;
 
 
@@ -37,7 +37,7 @@ import net.cassiolandim.crosslasers.system.RenderSystem.RenderElement;
  */
 public class GameRenderer implements GLSurfaceView.Renderer {
 	
-    private static final int PROFILE_REPORT_DELAY = 3 * 1000;
+    private static final long PROFILE_REPORT_DELAY = 3 * 1000000000L;
 
     private int mWidth;
     private int mHeight;
@@ -50,11 +50,15 @@ public class GameRenderer implements GLSurfaceView.Renderer {
     private long mProfileFrameTime;
     private long mProfileSubmitTime;
     private int mProfileObjectCount;
+    private FrameTimeHistogram mFrameHistogram;
+    private FrameTimeHistogram mSubmitHistogram;
+    private FrameTimeHistogram mWaitHistogram;
     
     private ObjectManager mDrawQueue;
     private boolean mDrawQueueChanged;
     private Game mGame;
     private Object mDrawLock;
+    private volatile RenderSystem mQueueSource;
     
     boolean mCallbackRequested;
         
@@ -68,6 +72,9 @@ public class GameRenderer implements GLSurfaceView.Renderer {
         mDrawQueueChanged = false;
         mDrawLock = new Object();
         mCallbackRequested = false;
+        mFrameHistogram = new FrameTimeHistogram("frame");
+        mSubmitHistogram = new FrameTimeHistogram("render submit");
+        mWaitHistogram = new FrameTimeHistogram("render wait");
     }
 
     public void onSurfaceCreated(GL10 gl, EGLConfig config) {
@@ -103,7 +110,7 @@ public class GameRenderer implements GLSurfaceView.Renderer {
         // No use using VBOs when software renderering, esp. since older versions of the software renderer
         // had a crash bug related to freeing VBOs.
         boolean supportsVBOs = !isSoftwareRenderer && (!isOpenGL10 || extensions.contains("vertex_buffer_object"));
-        ContextParameters params = BaseObject.sSystemRegistry.contextParameters;
+        ContextParameters params = BaseObject.getSystemRegistry().contextParameters;
         params.supportsDrawTexture = supportsDrawTexture;
         params.supportsVBOs = supportsVBOs;
           
@@ -117,7 +124,7 @@ public class GameRenderer implements GLSurfaceView.Renderer {
     private void hackBrokenDevices() {
     	// Some devices are broken.  Fix them here.  This is pretty much the only
     	// device-specific code in the whole project.  Ugh.
-        ContextParameters params = BaseObject.sSystemRegistry.contextParameters;
+        ContextParameters params = BaseObject.getSystemRegistry().contextParameters;
 
        
     	if (Build.PRODUCT.contains("morrison")) {
@@ -170,11 +177,13 @@ public class GameRenderer implements GLSurfaceView.Renderer {
     /** Draws the scene.  Note that the draw queue is locked for the duration of this function. */
     public void onDrawFrame(GL10 gl) {
       
-        long time = SystemClock.uptimeMillis();
+        long time = System.nanoTime();
         long time_delta = (time - mLastTime);
         
+        // When pulling queues from a pipelined RenderSystem we never wait for the game thread;
+        // if no new queue has been published the last one is simply drawn again.
         synchronized(mDrawLock) {
-            if (!mDrawQueueChanged) {
+            if (!mDrawQueueChanged && mQueueSource == null) {
                 while (!mDrawQueueChanged) {
                     try {
                     	mDrawLock.wait();
@@ -186,7 +195,7 @@ public class GameRenderer implements GLSurfaceView.Renderer {
             mDrawQueueChanged = false;
         }
         
-        final long wait = SystemClock.uptimeMillis();
+        final long wait = System.nanoTime();
         
         if (mCallbackRequested) {
         	mGame.onSurfaceReady();
@@ -196,6 +205,12 @@ public class GameRenderer implements GLSurfaceView.Renderer {
         DrawableBitmap.beginDrawing(gl, mWidth, mHeight);
 
         synchronized (this) {
+            if (mQueueSource != null) {
+                final ObjectManager latest = mQueueSource.acquireDrawQueue();
+                if (latest != null) {
+                    mDrawQueue = latest;
+                }
+            }
             if (mDrawQueue != null && mDrawQueue.getObjects().getCount() > 0) {
                 OpenGLSystem.setGL(gl);
                 FixedSizeArray<BaseObject> objects = mDrawQueue.getObjects();
@@ -220,20 +235,27 @@ public class GameRenderer implements GLSurfaceView.Renderer {
         
         DrawableBitmap.endDrawing(gl);
         
-        long time2 = SystemClock.uptimeMillis();
+        long time2 = System.nanoTime();
+        final boolean firstFrame = (mLastTime == 0);
         mLastTime = time2;
 
         mProfileFrameTime += time_delta;
         mProfileSubmitTime += time2 - time;
         mProfileWaitTime += wait - time;
         
+        if (!firstFrame) {
+            mFrameHistogram.record(time_delta);
+        }
+        mSubmitHistogram.record(time2 - wait);
+        mWaitHistogram.record(wait - time);
+        
         mProfileFrames++;
         if (mProfileFrameTime > PROFILE_REPORT_DELAY) {
         	final int validFrames = mProfileFrames;
-            final long averageFrameTime = mProfileFrameTime / validFrames;
-            final long averageSubmitTime = mProfileSubmitTime / validFrames;
+            final long averageFrameTime = mProfileFrameTime / validFrames / 1000000;
+            final long averageSubmitTime = mProfileSubmitTime / validFrames / 1000000;
             final float averageObjectsPerFrame = (float)mProfileObjectCount / validFrames;
-            final long averageWaitTime = mProfileWaitTime / validFrames;
+            final long averageWaitTime = mProfileWaitTime / validFrames / 1000000;
 
             DebugLog.d("Render Profile", 
             		"Average Submit: " + averageSubmitTime 
@@ -241,8 +263,13 @@ public class GameRenderer implements GLSurfaceView.Renderer {
             		+ " Objects/Frame: " + averageObjectsPerFrame
             		+ " Wait Time: " + averageWaitTime);
            
+            mFrameHistogram.report("Render Profile");
+            mSubmitHistogram.report("Render Profile");
+            mWaitHistogram.report("Render Profile");
+           
             mProfileFrameTime = 0;
             mProfileSubmitTime = 0;
+            mProfileWaitTime = 0;
             mProfileFrames = 0;
             mProfileObjectCount = 0;
         }
@@ -284,6 +311,27 @@ public class GameRenderer implements GLSurfaceView.Renderer {
     	}
     }
     
+    /** 
+     * Sets a pipelined RenderSystem that the renderer should pull draw queues from at the start of
+     * each frame.  Pass null to go back to waiting for setDrawQueue().  Blocks while a frame is
+     * being drawn, so once this returns the renderer no longer references any queue owned by the
+     * previous source.
+     */
+    public synchronized void setQueueSource(RenderSystem source) {
+        mQueueSource = source;
+        if (source == null) {
+            mDrawQueue = null;
+        }
+        synchronized(mDrawLock) {
+            mDrawQueueChanged = true;
+            mDrawLock.notify();
+        }
+    }
+    
+    public RenderSystem getQueueSource() {
+        return mQueueSource;
+    }
+    
     public synchronized void onPause() {
     	// Stop waiting to avoid deadlock.
     	// TODO: this is a hack.  Probably this renderer
@@ -16,8 +16,8 @@
 
 package net.cassiolandim.crosslasers;
 
+import net.cassiolandim.crosslasers.system.RenderSystem;
 import net.cassiolandim.crosslasers.system.SoundSystem;
-import android.os.SystemClock;
 
 
 /** 
@@ -35,70 +35,101 @@ public class GameThread implements Runnable {
     private boolean mPaused = false;
     private int mProfileFrames;
     private long mProfileTime;
+    private long mProfileStartTime;
+    private FramePacer mFramePacer;
+    private FrameTimeHistogram mSimulationHistogram;
+    private float mFixedTimeStep;
+    private float mAccumulator;
     
-    private static final float PROFILE_REPORT_DELAY = 3.0f;
+    private static final long PROFILE_REPORT_DELAY = 3;
+    private static final float NANOS_TO_SECONDS = 1.0f / 1000000000.0f;
+    // The most simulation steps we'll run to catch up in a single frame.  Time beyond this is
+    // dropped so that a long stall doesn't cause the game to spiral.
+    private static final int MAX_FIXED_STEPS_PER_FRAME = 5;
     
     public GameThread(GameRenderer renderer) {
-        mLastTime = SystemClock.uptimeMillis();
+        mLastTime = System.nanoTime();
         mRenderer = renderer;
+        mFramePacer = new FramePacer(FramePacer.RATE_60HZ);
+        mSimulationHistogram = new FrameTimeHistogram("simulation");
         mPauseLock = new Object();
         mFinished = false;
         mPaused = false;
+        mFixedTimeStep = 0.0f;
+        mAccumulator = 0.0f;
     }
 
     public void run() {
-        mLastTime = SystemClock.uptimeMillis();
+        mLastTime = System.nanoTime();
+        mProfileStartTime = mLastTime;
+        mFramePacer.reset();
         mFinished = false;
         while (!mFinished) {
             if (mGameRoot != null) {
-                mRenderer.waitDrawingComplete();
+                if (mRenderer.getQueueSource() == null) {
+                    // Pipelined render systems hand off queues without waiting on the renderer.
+                    mRenderer.waitDrawingComplete();
+                }
                 
-                final long time = SystemClock.uptimeMillis();
-                final long timeDelta = time - mLastTime;
-                long finalDelta = timeDelta;
-                if (timeDelta > 12) {
-                    float secondsDelta = (time - mLastTime) * 0.001f;
-                    if (secondsDelta > 0.1f) {
-                        secondsDelta = 0.1f;
-                    }
-                    mLastTime = time;
-    
+                final long time = System.nanoTime();
+                float secondsDelta = (time - mLastTime) * NANOS_TO_SECONDS;
+                if (secondsDelta > 0.1f) {
+                    secondsDelta = 0.1f;
+                }
+                mLastTime = time;
+
+                final FrameProfiler profiler = BaseObject.getSystemRegistry().frameProfiler;
+                if (profiler != null) {
+                    profiler.beginFrame();
+                }
+                
+                boolean frameReady = true;
+                if (mFixedTimeStep > 0.0f) {
+                    frameReady = stepFixed(secondsDelta);
+                } else {
                     mGameRoot.update(secondsDelta, null);
-    
-                    BaseObject.sSystemRegistry.renderSystem.swap(mRenderer);
-                    
-                    final long endTime = SystemClock.uptimeMillis();
-                    
-                    finalDelta = endTime - time;
-                    
-                    mProfileTime += finalDelta;
-                    mProfileFrames++;
-                    if (mProfileTime > PROFILE_REPORT_DELAY * 1000) {
-                        final long averageFrameTime = mProfileTime / mProfileFrames;
-                        DebugLog.d("Game Profile", "Average: " + averageFrameTime);
-                        mProfileTime = 0;
-                        mProfileFrames = 0;
-                        mGameRoot.sSystemRegistry.hudSystem.setFPS(1000 / (int)averageFrameTime);
-                    }
                 }
-                // If the game logic completed in less than 16ms, that means it's running
-                // faster than 60fps, which is our target frame rate.  In that case we should
-                // yield to the rendering thread, at least for the remaining frame.
-               
-                if (finalDelta < 16) {
-                    try {
-                        Thread.sleep(16 - finalDelta);
-                    } catch (InterruptedException e) {
-                        // Interruptions here are no big deal.
-                    }
+                
+                if (profiler != null) {
+                    profiler.endFrame();
+                }
+
+                if (frameReady) {
+                    BaseObject.getSystemRegistry().renderSystem.swap(mRenderer);
+                }
+                
+                final long endTime = System.nanoTime();
+                
+                mSimulationHistogram.record(endTime - time);
+                mProfileTime += endTime - time;
+                mProfileFrames++;
+                final long profileWindow = endTime - mProfileStartTime;
+                if (profileWindow > PROFILE_REPORT_DELAY * 1000000000L) {
+                    final long averageFrameTime = (mProfileTime / mProfileFrames) / 1000000L;
+                    final FramePacer pacer = mFramePacer;
+                    DebugLog.d("Game Profile", "Average: " + averageFrameTime
+                            + " Missed: " + pacer.getMissedDeadlines() + "/" + pacer.getFrameCount()
+                            + " Late: " + (pacer.getAverageLateness() / 1000) + "us"
+                            + " Drift: " + (pacer.getAverageDrift() / 1000) + "us");
+                    mSimulationHistogram.report("Game Profile");
+                    final int fps = (int)((mProfileFrames * 1000000000L) / profileWindow);
+                    mGameRoot.getSystemRegistry().hudSystem.setFPS(fps);
+                    mProfileTime = 0;
+                    mProfileFrames = 0;
+                    mProfileStartTime = endTime;
+                    pacer.resetStatistics();
                 }
                 
+                // Yield the rest of the frame (to the rendering thread, and to save power) 
+                // until the next frame deadline.
+                mFramePacer.endFrame();
+                
                 synchronized(mPauseLock) {
                     if (mPaused) {
-                    	SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+                    	SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
                     	if (sound != null) {
                     		sound.pauseAll();
-                    		BaseObject.sSystemRegistry.inputSystem.releaseAllKeys();
+                    		BaseObject.getSystemRegistry().inputSystem.releaseAllKeys();
                     	}
                         while (mPaused) {
                             try {
@@ -107,12 +138,70 @@ public class GameThread implements Runnable {
                                 // No big deal if this wait is interrupted.
                             }
                         }
+                        // Time spent paused shouldn't count as missed frames.
+                        mFramePacer.reset();
                     }
                 }
             } 
         }
         // Make sure our dependence on the render system is cleaned up.
-        BaseObject.sSystemRegistry.renderSystem.emptyQueues(mRenderer);
+        BaseObject.getSystemRegistry().renderSystem.emptyQueues(mRenderer);
+    }
+
+    /**
+     * Advances the game graph in constant steps of mFixedTimeStep seconds, running as many steps
+     * as are needed to consume the elapsed time.  Only the draw commands from the last step are
+     * kept, and the render system is told how far between the last two steps the frame falls so
+     * that it can interpolate positions.
+     * @return true if at least one step was run and a new draw queue is ready to be swapped.
+     */
+    private boolean stepFixed(float secondsDelta) {
+        final float step = mFixedTimeStep;
+        mAccumulator += secondsDelta;
+        int steps = (int)(mAccumulator / step);
+        if (steps > MAX_FIXED_STEPS_PER_FRAME) {
+            steps = MAX_FIXED_STEPS_PER_FRAME;
+            mAccumulator = steps * step;
+        }
+        mAccumulator -= steps * step;
+        
+        RenderSystem render = BaseObject.getSystemRegistry().renderSystem;
+        render.setInterpolation(mAccumulator / step);
+        for (int x = 0; x < steps; x++) {
+            if (x > 0) {
+                // Only the final step's draw commands are handed to the renderer.
+                render.clearActiveQueue();
+            }
+            mGameRoot.update(step, null);
+        }
+        return steps > 0;
+    }
+
+    /** 
+     * Sets the length, in seconds, of a single simulation step.  If zero (the default), the game
+     * graph is updated once per frame with the measured frame time.
+     */
+    public void setFixedTimeStep(float seconds) {
+        mFixedTimeStep = seconds;
+        mAccumulator = 0.0f;
+        RenderSystem render = BaseObject.getSystemRegistry().renderSystem;
+        if (seconds <= 0.0f && render != null) {
+            render.setInterpolation(1.0f);
+        }
+    }
+    
+    public float getFixedTimeStep() {
+        return mFixedTimeStep;
+    }
+    
+    /** Replaces the object that decides how long to wait between frames. */
+    public void setFramePacer(FramePacer pacer) {
+        mFramePacer = pacer;
+        pacer.reset();
+    }
+    
+    public FramePacer getFramePacer() {
+        return mFramePacer;
     }
 
     public void stopGame() {
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import net.cassiolandim.crosslasers.component.GameObjectFactory;
+import net.cassiolandim.crosslasers.component.GameObjectFactory.GameObjectType;
+import net.cassiolandim.crosslasers.system.ChannelSystem;
+import net.cassiolandim.crosslasers.system.CollisionSystem;
+import net.cassiolandim.crosslasers.system.HudSystem;
+import net.cassiolandim.crosslasers.system.InputSystem;
+import net.cassiolandim.crosslasers.system.LevelSystem;
+import net.cassiolandim.crosslasers.system.OpenGLSystem;
+import net.cassiolandim.crosslasers.system.RenderSystem;
+import net.cassiolandim.crosslasers.system.SoundSystem;
+import net.cassiolandim.crosslasers.system.VibrationSystem;
+
+/**
+ * Runs the game graph without OpenGL, audio, or any Android UI.  HeadlessRunner builds the same
+ * object graph as Game.bootstrap() (MainLoop, GameObjectManager, GameObjectCollisionSystem,
+ * CollisionSystem, HudSystem and RenderSystem) but uses stand-ins for the parts that need a device:
+ * a GameRenderer that never draws, a silent SoundSystem, and TextureLibraries whose textures are
+ * allocated but never loaded.  There is no level and no background collision.  Frames are stepped
+ * with a fixed time delta as fast as the CPU allows, which makes this useful for measuring
+ * simulation throughput and for profiling on a desktop JVM.  Note that the Android classes this
+ * code links against must still be on the class path (the SDK's android.jar is sufficient, since
+ * none of the stubbed methods are called), and that DebugLog output is disabled.
+ * Each runner is a separate world with its own ObjectRegistry.  Every public method binds the
+ * calling thread to that registry, so several runners can be stepped at once as long as each is
+ * only ever used from one thread at a time.
+ */
+public class HeadlessRunner extends AllocationGuard {
+    private static final float DEFAULT_TIME_DELTA = 1.0f / 60.0f;
+
+    private final ObjectRegistry mRegistry;
+    private MainLoop mGameRoot;
+    private GameRenderer mRenderer;
+
+    public HeadlessRunner() {
+        super();
+        mRegistry = new ObjectRegistry();
+    }
+
+    /** Binds the calling thread to this runner's world. */
+    private void bind() {
+        BaseObject.setThreadSystemRegistry(mRegistry);
+    }
+
+    /** Creates core systems and the game graph.  Mirrors Game.bootstrap(). */
+    public void bootstrap(int gameWidth, int gameHeight) {
+        bind();
+        DebugLog.setDebugLogging(false);
+
+        // Stands in for the GL thread.  Queues are handed to it and then simply recycled.
+        mRenderer = new GameRenderer(null, null, gameWidth, gameHeight);
+
+        BaseObject.getSystemRegistry().openGLSystem = new OpenGLSystem();
+
+        ContextParameters params = new ContextParameters();
+        params.viewWidth = gameWidth;
+        params.viewHeight = gameHeight;
+        params.gameWidth = gameWidth;
+        params.gameHeight = gameHeight;
+        params.viewScaleX = 1.0f;
+        params.viewScaleY = 1.0f;
+        params.context = null;
+        BaseObject.getSystemRegistry().contextParameters = params;
+
+        TextureLibrary shortTermTextureLibrary = new TextureLibrary();
+        BaseObject.getSystemRegistry().shortTermTextureLibrary = shortTermTextureLibrary;
+        TextureLibrary longTermTextureLibrary = new TextureLibrary();
+        BaseObject.getSystemRegistry().longTermTextureLibrary = longTermTextureLibrary;
+        BaseObject.getSystemRegistry().bufferLibrary = new BufferLibrary();
+
+        BaseObject.getSystemRegistry().soundSystem = new SoundSystem(true);
+
+        MainLoop gameRoot = new MainLoop();
+
+        InputSystem input = new InputSystem();
+        BaseObject.getSystemRegistry().inputSystem = input;
+        BaseObject.getSystemRegistry().registerForReset(input);
+
+        InputGameInterface inputInterface = new InputGameInterface();
+        gameRoot.add(inputInterface);
+        BaseObject.getSystemRegistry().inputGameInterface = inputInterface;
+
+        BaseObject.getSystemRegistry().levelSystem = new LevelSystem();
+
+        CollisionSystem collision = new CollisionSystem();
+        BaseObject.getSystemRegistry().collisionSystem = collision;
+        BaseObject.getSystemRegistry().hitPointPool = new HitPointPool();
+
+        GameObjectManager gameManager = new GameObjectManager(params.viewWidth * 2);
+        BaseObject.getSystemRegistry().gameObjectManager = gameManager;
+
+        GameObjectFactory objectFactory = new GameObjectFactory();
+        BaseObject.getSystemRegistry().gameObjectFactory = objectFactory;
+
+        BaseObject.getSystemRegistry().levelBuilder = new LevelBuilder();
+
+        BaseObject.getSystemRegistry().channelSystem = new ChannelSystem();
+        BaseObject.getSystemRegistry().registerForReset(BaseObject.getSystemRegistry().channelSystem);
+
+        gameRoot.add(gameManager);
+
+        GameObjectCollisionSystem dynamicCollision = new GameObjectCollisionSystem();
+        gameRoot.add(dynamicCollision);
+        BaseObject.getSystemRegistry().gameObjectCollisionSystem = dynamicCollision;
+
+        BaseObject.getSystemRegistry().renderSystem = new RenderSystem();
+        BaseObject.getSystemRegistry().vectorPool = new VectorPool();
+        BaseObject.getSystemRegistry().drawableFactory = new DrawableFactory();
+
+        HudSystem hud = Game.createHudSystem(longTermTextureLibrary);
+        BaseObject.getSystemRegistry().hudSystem = hud;
+        gameRoot.add(hud);
+
+        BaseObject.getSystemRegistry().vibrationSystem = new VibrationSystem();
+        BaseObject.getSystemRegistry().eventRecorder = new EventRecorder();
+
+        gameRoot.add(collision);
+
+        objectFactory.preloadEffects();
+
+        mGameRoot = gameRoot;
+    }
+
+    /**
+     * Spawns count objects of the passed type, spread evenly across a region of the world.
+     * @return  The number of objects actually spawned (pools may run out).
+     */
+    public int spawn(GameObjectType type, int count, float width, float height) {
+        bind();
+        GameObjectFactory factory = BaseObject.getSystemRegistry().gameObjectFactory;
+        GameObjectManager manager = BaseObject.getSystemRegistry().gameObjectManager;
+        final int columns = Math.max(1, (int)Math.sqrt(count));
+        final int rows = (count + columns - 1) / columns;
+        int spawned = 0;
+        for (int x = 0; x < count; x++) {
+            final float positionX = (x % columns) * (width / columns);
+            final float positionY = (x / columns) * (height / rows);
+            GameObject object = factory.spawn(type, positionX, positionY, (x & 1) != 0);
+            if (object != null) {
+                manager.add(object);
+                if (type == GameObjectType.PLAYER) {
+                    manager.setPlayer(object);
+                }
+                spawned++;
+            }
+        }
+        return spawned;
+    }
+
+    /** Runs a single frame of the game graph and hands the result to the (null) renderer. */
+    public void step(float timeDelta) {
+        bind();
+        mGameRoot.update(timeDelta, null);
+        BaseObject.getSystemRegistry().renderSystem.swap(mRenderer);
+    }
+
+    /**
+     * Runs the passed number of frames back to back.
+     * @return  The total wall-clock time taken, in nanoseconds.
+     */
+    public long run(int frames, float timeDelta) {
+        bind();
+        final long start = System.nanoTime();
+        for (int x = 0; x < frames; x++) {
+            step(timeDelta);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /** Destroys all game objects and empties the render queues. */
+    public void shutdown() {
+        bind();
+        GameObjectManager manager = BaseObject.getSystemRegistry().gameObjectManager;
+        manager.destroyAll();
+        manager.commitUpdates();
+        BaseObject.getSystemRegistry().renderSystem.emptyQueues(mRenderer);
+        BaseObject.getSystemRegistry().gameObjectFactory.clearStaticData();
+    }
+
+    public MainLoop getGameRoot() {
+        return mGameRoot;
+    }
+
+    public ObjectRegistry getRegistry() {
+        return mRegistry;
+    }
+
+    /**
+     * Usage: HeadlessRunner [frames] [objectType] [objectCount] [warmupFrames] [worlds]
+     * e.g. HeadlessRunner 10000 BROBOT 200 600 4
+     * Each world runs on its own thread.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        final int frames = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        final GameObjectType type = args.length > 1
+                ? GameObjectType.valueOf(args[1]) : GameObjectType.BROBOT;
+        final int count = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        final int warmupFrames = args.length > 3 ? Integer.parseInt(args[3]) : 600;
+        final int worlds = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+        Thread[] threads = new Thread[worlds];
+        for (int x = 0; x < worlds; x++) {
+            final int world = x;
+            threads[x] = new Thread(new Runnable() {
+                public void run() {
+                    runWorld(world, frames, type, count, warmupFrames);
+                }
+            }, "World " + world);
+            threads[x].start();
+        }
+        for (int x = 0; x < worlds; x++) {
+            threads[x].join();
+        }
+    }
+
+    private static void runWorld(int world, int frames, GameObjectType type, int count,
+            int warmupFrames) {
+        final int gameWidth = 480;
+        final int gameHeight = 320;
+
+        HeadlessRunner runner = new HeadlessRunner();
+        runner.bootstrap(gameWidth, gameHeight);
+        runner.spawn(GameObjectType.PLAYER, 1, gameWidth, gameHeight);
+        final int spawned = runner.spawn(type, count, gameWidth * 2, gameHeight);
+
+        runner.run(warmupFrames, DEFAULT_TIME_DELTA);
+        final long elapsed = runner.run(frames, DEFAULT_TIME_DELTA);
+
+        final double seconds = elapsed / 1000000000.0;
+        synchronized (HeadlessRunner.class) {
+            System.out.println("World " + world + "  Objects: " + spawned + " x " + type
+                    + "  Active: " + BaseObject.getSystemRegistry().gameObjectManager.getCount());
+            System.out.println("World " + world + "  Frames: " + frames + " in " + seconds
+                    + "s  (" + (frames / seconds) + " frames/s, "
+                    + ((elapsed / frames) / 1000) + " us/frame)");
+        }
+
+        runner.shutdown();
+    }
+}
@@ -41,7 +41,7 @@ public class InputButton {
 	}
 	
 	public final boolean getTriggered(float currentTime) {
-		return mDown && currentTime - mDownTime <= BaseObject.sSystemRegistry.timeSystem.getFrameDelta() * 2.0f;
+		return mDown && currentTime - mDownTime <= BaseObject.getSystemRegistry().timeSystem.getFrameDelta() * 2.0f;
 	}
 	
 	public final float getPressedDuration(float currentTime) {
@@ -75,7 +75,7 @@ public class InputGameInterface extends BaseObject {
 	
 	@Override
     public void update(float timeDelta, BaseObject parent) {
-		InputSystem input = sSystemRegistry.inputSystem;
+		InputSystem input = getSystemRegistry().inputSystem;
 		final InputButton[] keys = input.getKeyboard().getKeys();
 		final InputXY orientation = input.getOrientationSensor();
 		
@@ -96,7 +96,7 @@ public class InputGameInterface extends BaseObject {
 			final float leftPressedTime = left.getLastPressedTime();
 			final float rightPressedTime = right.getLastPressedTime();
 			
-			final float gameTime = sSystemRegistry.timeSystem.getGameTime();
+			final float gameTime = getSystemRegistry().timeSystem.getGameTime();
 			
 			if (trackball.getLastPressedTime() > Math.max(leftPressedTime, rightPressedTime)) {
 				// The trackball never goes "up", so force it to turn off if it wasn't triggered in the last frame.
@@ -41,7 +41,7 @@ public class LevelBuilder extends BaseObject {
     
     public GameObject buildBackground(int backgroundImage) {
         // Generate the scrolling background.
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
         GameObject background = new GameObject();
 
@@ -81,7 +81,7 @@ public class LevelBuilder extends BaseObject {
                 RenderComponent backgroundRender = new RenderComponent();
                 backgroundRender.setPriority(SortConstants.BACKGROUND_START);
                 
-                ContextParameters params = sSystemRegistry.contextParameters;
+                ContextParameters params = getSystemRegistry().contextParameters;
                 // The background image is ideally 1.5 times the size of the largest screen axis
                 // (normally the width, but just in case, let's calculate it).
                 final int idealSize = (int)Math.max(params.gameWidth * 1.5f, params.gameHeight * 1.5f);
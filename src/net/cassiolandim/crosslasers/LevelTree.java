@@ -30,6 +30,7 @@ public final class LevelTree {
         public String name;
         public boolean completed;
         public ArrayList<EnemyEntry> enemyEntries = new ArrayList<EnemyEntry>();
+        public ArrayList<PoolEntry> poolEntries = new ArrayList<PoolEntry>();
         
         public Level(Long index, String title) {
         	this.index = index;
@@ -52,6 +53,22 @@ public final class LevelTree {
     	}
     }
     
+    /** 
+     * One line of a level's pool manifest: how many objects the named pool should hold when the
+     * level starts.  The pool is "GameObject" or the simple class name of a component.  Written
+     * in the level tree as <pool name="SpriteComponent" count="96"/>; the "peak" column of the
+     * pool report (see GameObjectFactory.sanityCheckPools()) is a good source for the counts.
+     */
+    public static class PoolEntry {
+    	public String pool;
+    	public int count;
+    	
+    	public PoolEntry(String pool, int count) {
+    		this.pool = pool;
+    		this.count = count;
+    	}
+    }
+    
     public final static ArrayList<Level> levels = new ArrayList<Level>();
     private static boolean mLoaded = false;
     
@@ -113,6 +130,22 @@ public final class LevelTree {
                     	EnemyEntry enemyEntry = new EnemyEntry(type, quantity, spawnDelay, minInterval);
                     	currentLevel.enemyEntries.add(enemyEntry);
                     }
+                    
+                    if (parser.getName().equals("pool") && currentLevel != null) {
+                    	String pool = null;
+                    	int count = 0;
+                    	for(int i = 0; i < parser.getAttributeCount(); i++) { 
+                    		if (parser.getAttributeName(i).equals("name")) {
+                    			pool = parser.getAttributeValue(i);
+                    		}
+                    		if (parser.getAttributeName(i).equals("count")) {
+                    			count = Integer.parseInt(parser.getAttributeValue(i));
+                    		}
+                        }
+                    	if (pool != null) {
+                    		currentLevel.poolEntries.add(new PoolEntry(pool, count));
+                    	}
+                    }
                 } 
                 eventType = parser.next(); 
             } 
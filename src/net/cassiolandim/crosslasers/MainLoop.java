@@ -27,16 +27,36 @@ public class MainLoop extends ObjectManager {
     // Ensures that time updates before everything else.
     public MainLoop() {
         super();
+        setOrderedRemoval(true);
         mTimeSystem = new TimeSystem();
-        sSystemRegistry.timeSystem = mTimeSystem;
-        sSystemRegistry.registerForReset(mTimeSystem);
+        getSystemRegistry().timeSystem = mTimeSystem;
+        getSystemRegistry().registerForReset(mTimeSystem);
     }
 
     @Override
     public void update(float timeDelta, BaseObject parent) {
         mTimeSystem.update(timeDelta, parent);
         final float newTimeDelta = mTimeSystem.getFrameDelta();  // The time system may warp time.
-        super.update(newTimeDelta, parent);
+        final FrameProfiler profiler = getSystemRegistry().frameProfiler;
+        if (profiler != null && profiler.isRecording()) {
+            updateProfiled(newTimeDelta, profiler);
+        } else {
+            super.update(newTimeDelta, parent);
+        }
+    }
+    
+    /** Same as ObjectManager.update(), but times each child. */
+    private void updateProfiled(float timeDelta, FrameProfiler profiler) {
+        commitUpdates();
+        final FixedSizeArray<BaseObject> objects = getObjects();
+        final int count = objects.getCount();
+        final Object[] objectArray = objects.getArray();
+        for (int i = 0; i < count; i++) {
+            BaseObject object = (BaseObject)objectArray[i];
+            final long start = System.nanoTime();
+            object.update(timeDelta, this);
+            profiler.recordRootChild(i, object, System.nanoTime() - start);
+        }
     }
 
     private TimeSystem mTimeSystem;
@@ -22,6 +22,10 @@ package net.cassiolandim.crosslasers;
  * BaseObject, so they may be strung together into a hierarchy of objects.  ObjectManager may 
  * be specialized to implement special types of traversals (e.g. PhasedObjectManager sorts its
  * children).
+ * By default children are removed by swapping the last child into their slot, which is O(1) but
+ * changes the update order.  Managers whose children must stay in order (sorted managers, or 
+ * MainLoop, whose systems run in a fixed sequence) call setOrderedRemoval(true); their removals
+ * are applied in a single order-preserving compaction pass per commit.
  */
 public class ObjectManager extends BaseObject {
     protected static final int DEFAULT_ARRAY_SIZE = 64;
@@ -29,6 +33,7 @@ public class ObjectManager extends BaseObject {
     private FixedSizeArray<BaseObject> mObjects;
     private FixedSizeArray<BaseObject> mPendingAdditions;
     private FixedSizeArray<BaseObject> mPendingRemovals;
+    private boolean mOrderedRemoval;
 
     public ObjectManager() {
         super();
@@ -60,7 +65,7 @@ public class ObjectManager extends BaseObject {
             final Object[] additionsArray = mPendingAdditions.getArray();
             for (int i = 0; i < additionCount; i++) {
                 BaseObject object = (BaseObject)additionsArray[i];
-                mObjects.add(object);
+                addImmediate(object);
             } 
             mPendingAdditions.clear();
         }
@@ -68,15 +73,74 @@ public class ObjectManager extends BaseObject {
         final int removalCount = mPendingRemovals.getCount();
         if (removalCount > 0) {
             final Object[] removalsArray = mPendingRemovals.getArray();
-    
-            for (int i = 0; i < removalCount; i++) {
-                BaseObject object = (BaseObject)removalsArray[i];
-                mObjects.remove(object, true);
-            } 
+            if (!mOrderedRemoval) {
+                for (int i = 0; i < removalCount; i++) {
+                    final int index = findSlot((BaseObject)removalsArray[i]);
+                    if (index != -1) {
+                        removeImmediate(index);
+                    }
+                }
+            } else if (removalCount == 1) {
+                mObjects.remove((BaseObject)removalsArray[0], true);
+            } else {
+                // Blank out each removed child and then close the gaps in one pass.  Removals
+                // tend to arrive in array order, so each search starts where the last one ended.
+                final Object[] objectArray = mObjects.getArray();
+                final int count = mObjects.getCount();
+                int hint = 0;
+                for (int i = 0; i < removalCount; i++) {
+                    final Object object = removalsArray[i];
+                    for (int searched = 0; searched < count; searched++) {
+                        final int index = (hint + searched) % count;
+                        if (objectArray[index] == object) {
+                            mObjects.set(index, null);
+                            hint = index + 1;
+                            break;
+                        }
+                    }
+                }
+                mObjects.removeNulls();
+            }
             mPendingRemovals.clear();
         }
     }
     
+    /** Returns the index of a child, or -1 if it is not a child of this manager. */
+    private final int findSlot(BaseObject object) {
+        final int slot = object.mManagerSlot;
+        if (slot >= 0 && slot < mObjects.getCount() && mObjects.getArray()[slot] == object) {
+            return slot;
+        }
+        return mObjects.find(object, true);
+    }
+    
+    /** Adds a child right away, bypassing the pending list.  Only safe outside of traversal. */
+    protected final void addImmediate(BaseObject object) {
+        object.mManagerSlot = mObjects.getCount();
+        mObjects.add(object);
+    }
+    
+    /** 
+     * Removes the child at the passed index right away by moving the last child into its slot.  
+     * When walking the children backwards this never skips a child.
+     */
+    protected final void removeImmediate(int index) {
+        final FixedSizeArray<BaseObject> objects = mObjects;
+        objects.swapWithLast(index);
+        objects.removeLast().mManagerSlot = -1;
+        if (index < objects.getCount()) {
+            objects.get(index).mManagerSlot = index;
+        }
+    }
+    
+    /** 
+     * Selects between O(1) swap-with-last removal (the default) and removal that preserves the
+     * order of the remaining children.
+     */
+    protected final void setOrderedRemoval(boolean ordered) {
+        mOrderedRemoval = ordered;
+    }
+    
     @Override
     public void update(float timeDelta, BaseObject parent) {
         commitUpdates();
@@ -143,6 +207,11 @@ public class ObjectManager extends BaseObject {
         return object;
     }
     
+    /** Returns true if the next commitUpdates() will add or remove children. */
+    protected final boolean hasPendingUpdates() {
+        return mPendingAdditions.getCount() > 0 || mPendingRemovals.getCount() > 0;
+    }
+    
     protected FixedSizeArray<BaseObject> getPendingObjects() {
         return mPendingAdditions;
     }
@@ -21,21 +21,54 @@ package net.cassiolandim.crosslasers;
  * Code that requests objects from the pool should return them to the pool when they are finished.
  * This class is abstract; derivations need to implement the fill() function to fill the pool, and
  * may wish to override release() to clear state on objects as they are returned to the pool.
+ * Pools keep track of their peak usage, how often they ran dry, and how many allocations they
+ * have served, and register themselves with the ObjectRegistry so that every pool can be listed
+ * with ObjectRegistry.reportPools().  By default an exhausted pool fails fast (asserts and returns
+ * null); setGrowthChunk() lets a pool grow by a chunk of new objects instead.
+ * Pools created with a lazy chunk start empty and create their objects a chunk at a time as they
+ * are first needed, up to their size.  reserve() creates objects ahead of time, for example while
+ * a level loads, so that the chunks aren't created mid-game.
  */
 public abstract class ObjectPool extends BaseObject {
     private FixedSizeArray<Object> mAvailable;
-    private int mSize;
+    private int mSize;                  // Objects created so far.
+    private int mLimit;                 // Objects the pool may create before it is exhausted.
+    private int mLazyChunk;
+    private int mGrowthChunk;
+    private int mPeakAllocated;
+    private int mExhaustedCount;
+    private int mGrowCount;
+    private long mAllocationCount;
+    private long mReportAllocationCount;
+    private long mReportTime;
 
     private static final int DEFAULT_SIZE = 32;
     
     public ObjectPool() {
         super();
         setSize(DEFAULT_SIZE);
+        getSystemRegistry().registerPool(this);
     }
 
     public ObjectPool(int size) {
         super();
         setSize(size);
+        getSystemRegistry().registerPool(this);
+    }
+
+    /** Creates a pool that starts empty and creates up to size objects, lazyChunk at a time. */
+    public ObjectPool(int size, int lazyChunk) {
+        super();
+        mLazyChunk = lazyChunk;
+        mLimit = size;
+        if (lazyChunk > 0) {
+            // Start empty; expand() replaces the array as chunks are created.
+            mSize = 0;
+            mAvailable = new FixedSizeArray<Object>(lazyChunk);
+        } else {
+            setSize(size);
+        }
+        getSystemRegistry().registerPool(this);
     }
 
     @Override
@@ -44,9 +77,28 @@ public abstract class ObjectPool extends BaseObject {
     
     /** Allocates an object from the pool */
     protected Object allocate() {
-        Object result = mAvailable.removeLast();
+        FixedSizeArray<Object> available = mAvailable;
+        if (available.getCount() == 0) {
+            if (mSize < mLimit) {
+                expand(Math.min(Math.max(mLazyChunk, 1), mLimit - mSize));
+            } else {
+                mExhaustedCount++;
+                if (mGrowthChunk > 0) {
+                    grow();
+                }
+            }
+            available = mAvailable;
+        }
+        Object result = available.removeLast();
         assert result != null : "Object pool of type " + this.getClass().getSimpleName()
                                 + " exhausted!!";
+        if (result != null) {
+            mAllocationCount++;
+            final int allocated = mSize - available.getCount();
+            if (allocated > mPeakAllocated) {
+                mPeakAllocated = allocated;
+            }
+        }
         return result;
     }
 
@@ -57,25 +109,134 @@ public abstract class ObjectPool extends BaseObject {
 
     /** Returns the number of pooled elements that have been allocated but not released. */
     public int getAllocatedCount() {
-        return mAvailable.getCapacity() - mAvailable.getCount();
+        return mSize - mAvailable.getCount();
     }
     
     private void setSize(int size) {
         mSize = size;
+        if (mLimit < size) {
+            mLimit = size;
+        }
         mAvailable = new FixedSizeArray<Object>(mSize);
 
         fill();
     }
 
+    /** 
+     * Creates objects until the pool holds at least count of them, raising its size if needed.
+     * This allocates, so call it while loading rather than during play.
+     */
+    public void reserve(int count) {
+        if (count > mLimit) {
+            mLimit = count;
+        }
+        if (count > mSize) {
+            expand(count - mSize);
+        }
+    }
+
+    /** 
+     * Adds mGrowthChunk new objects to an exhausted pool.  This allocates, so pools that grow
+     * should be resized once the report shows how large they need to be.
+     */
+    private void grow() {
+        expand(mGrowthChunk);
+        mLimit = mSize;
+        mGrowCount++;
+        DebugLog.d("ObjectPool", getName() + " grew to " + mSize);
+    }
+
+    /** Creates count new objects and makes them available. */
+    private void expand(int count) {
+        final FixedSizeArray<Object> oldAvailable = mAvailable;
+        final Object[] oldObjects = oldAvailable.getArray();
+        final int oldCount = oldAvailable.getCount();
+        final int oldSize = mSize;
+        mAvailable = new FixedSizeArray<Object>(oldSize + count);
+        for (int x = 0; x < oldCount; x++) {
+            mAvailable.add(oldObjects[x]);
+        }
+        // fill() creates getSize() objects, so temporarily shrink the size to the chunk.
+        mSize = count;
+        fill();
+        mSize = oldSize + count;
+    }
+
     protected abstract void fill();
 
     protected FixedSizeArray<Object> getAvailable() {
         return mAvailable;
     }
 
+    /** Returns the number of objects the pool has created so far. */
     public int getSize() {
         return mSize;
     }
 
-   
+    /** Returns the number of objects the pool can hand out before it is exhausted. */
+    public int getLimit() {
+        return mLimit;
+    }
+
+    /** 
+     * Sets the number of objects to add when the pool runs out.  0 (the default) means the pool
+     * fails fast instead.
+     */
+    public void setGrowthChunk(int chunk) {
+        mGrowthChunk = chunk;
+    }
+    
+    public int getGrowthChunk() {
+        return mGrowthChunk;
+    }
+
+    /** Returns the largest number of objects that have been checked out at once. */
+    public int getPeakAllocatedCount() {
+        return mPeakAllocated;
+    }
+
+    /** Returns the number of times an allocation found the pool empty. */
+    public int getExhaustedCount() {
+        return mExhaustedCount;
+    }
+
+    public int getGrowCount() {
+        return mGrowCount;
+    }
+
+    public long getTotalAllocations() {
+        return mAllocationCount;
+    }
+
+    public String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /** 
+     * Describes the pool's usage on a single line.  The allocation rate covers the time since the
+     * previous call.  Allocates, so don't call it every frame.
+     */
+    public String report() {
+        final long now = System.nanoTime();
+        final long allocations = mAllocationCount - mReportAllocationCount;
+        String rate = "";
+        if (mReportTime != 0 && now > mReportTime) {
+            rate = "  " + (int)((allocations * 1000000000.0) / (now - mReportTime)) + " allocs/s";
+        }
+        mReportAllocationCount = mAllocationCount;
+        mReportTime = now;
+        return getName() + ": size " + mSize + "/" + mLimit + "  in use " + getAllocatedCount() 
+                + "  peak " + mPeakAllocated + "  exhausted " + mExhaustedCount 
+                + "  grown " + mGrowCount + "  allocs " + mAllocationCount + rate;
+    }
+
+    /** Clears the peak, exhaustion and allocation statistics. */
+    public void resetStatistics() {
+        mPeakAllocated = getAllocatedCount();
+        mExhaustedCount = 0;
+        mGrowCount = 0;
+        mAllocationCount = 0;
+        mReportAllocationCount = 0;
+        mReportTime = 0;
+    }
 }
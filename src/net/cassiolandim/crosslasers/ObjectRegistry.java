@@ -53,6 +53,7 @@ public class ObjectRegistry extends BaseObject {
     public DebugSystem debugSystem;
     public DrawableFactory drawableFactory;
     public EventRecorder eventRecorder;
+    public FrameProfiler frameProfiler;
     public GameObjectCollisionSystem gameObjectCollisionSystem;
     public GameObjectFactory gameObjectFactory;
     public GameObjectManager gameObjectManager;
@@ -72,6 +73,7 @@ public class ObjectRegistry extends BaseObject {
     public VibrationSystem vibrationSystem;
 	
     private ArrayList<BaseObject> mItemsNeedingReset = new ArrayList<BaseObject>();
+    private ArrayList<ObjectPool> mPools = new ArrayList<ObjectPool>();
     
     public ObjectRegistry() {
         super();
@@ -85,6 +87,31 @@ public class ObjectRegistry extends BaseObject {
     	}
     }
     
+    /** Called by every ObjectPool on creation so that pools can be listed by reportPools(). */
+    public void registerPool(ObjectPool pool) {
+    	mPools.add(pool);
+    }
+    
+    public void unregisterPool(ObjectPool pool) {
+    	mPools.remove(pool);
+    }
+    
+    public int getPoolCount() {
+    	return mPools.size();
+    }
+    
+    public ObjectPool getPool(int index) {
+    	return mPools.get(index);
+    }
+    
+    /** Logs a line of usage statistics for every registered pool. */
+    public void reportPools(String tag) {
+    	final int count = mPools.size();
+    	for (int x = 0; x < count; x++) {
+    		DebugLog.d(tag, mPools.get(x).report());
+    	}
+    }
+    
     @Override
     public void reset() {
     	final int count = mItemsNeedingReset.size();
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import java.util.Comparator;
+
+/**
+ * Sorts PhasedObjects by their integer phase with a stable LSD radix sort, one byte per pass.
+ * The comparator is ignored, so this sorter only produces the same order as
+ * PhasedObjectManager's comparator and must only be used on arrays of non-null PhasedObjects.
+ * Passes over bytes that are the same in every key are skipped, so phases that fall in a narrow
+ * range usually sort in one or two linear passes.  Scratch space grows to the largest array
+ * sorted (allocating only then), and each instance must only be used by one thread at a time.
+ */
+public class PhaseRadixSorter<Type> extends Sorter<Type> {
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKET_COUNT = 1 << RADIX_BITS;
+    private static final int DIGIT_MASK = BUCKET_COUNT - 1;
+
+    private final int[] mCounts;
+    private int[] mKeys;
+    private int[] mScratchKeys;
+    private Object[] mScratch;
+
+    public PhaseRadixSorter() {
+        this(0);
+    }
+
+    public PhaseRadixSorter(int capacity) {
+        super();
+        mCounts = new int[BUCKET_COUNT];
+        mKeys = new int[capacity];
+        mScratchKeys = new int[capacity];
+        mScratch = new Object[capacity];
+    }
+
+    @Override
+    public void sort(Type[] array, int count, Comparator<Type> comparator) {
+        if (count < 2) {
+            return;
+        }
+        if (count > mKeys.length) {
+            mKeys = new int[count];
+            mScratchKeys = new int[count];
+            mScratch = new Object[count];
+        }
+
+        // Flipping the sign bit makes signed phases sort correctly as unsigned keys.
+        int[] keys = mKeys;
+        int anyBits = 0;
+        int allBits = -1;
+        for (int x = 0; x < count; x++) {
+            final int key = ((PhasedObject)array[x]).phase ^ Integer.MIN_VALUE;
+            keys[x] = key;
+            anyBits |= key;
+            allBits &= key;
+        }
+        final int varyingBits = anyBits ^ allBits;
+
+        final int[] counts = mCounts;
+        Object[] source = array;
+        Object[] destination = mScratch;
+        int[] destinationKeys = mScratchKeys;
+        for (int shift = 0; shift < 32; shift += RADIX_BITS) {
+            if (((varyingBits >>> shift) & DIGIT_MASK) == 0) {
+                continue;
+            }
+            for (int x = 0; x < BUCKET_COUNT; x++) {
+                counts[x] = 0;
+            }
+            for (int x = 0; x < count; x++) {
+                counts[(keys[x] >>> shift) & DIGIT_MASK]++;
+            }
+            int total = 0;
+            for (int x = 0; x < BUCKET_COUNT; x++) {
+                final int bucketCount = counts[x];
+                counts[x] = total;
+                total += bucketCount;
+            }
+            for (int x = 0; x < count; x++) {
+                final int key = keys[x];
+                final int index = counts[(key >>> shift) & DIGIT_MASK]++;
+                destination[index] = source[x];
+                destinationKeys[index] = key;
+            }
+
+            final Object[] swapObjects = source;
+            source = destination;
+            destination = swapObjects;
+            final int[] swapKeys = keys;
+            keys = destinationKeys;
+            destinationKeys = swapKeys;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, count);
+        }
+
+        // Don't hold on to references to objects that might be recycled.
+        final Object[] scratch = mScratch;
+        for (int x = 0; x < count; x++) {
+            scratch[x] = null;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import net.cassiolandim.crosslasers.component.GameComponent;
+import net.cassiolandim.crosslasers.component.GameComponent.ComponentPhases;
+
+/**
+ * Updates the components of a set of GameObjects phase by phase rather than object by object.
+ * Normally each GameObject runs all of its components, THINK through FRAME_END, before the next
+ * object runs.  This scheduler instead runs every THINK component of every object, then every
+ * PHYSICS component, and so on.  Within a phase, components are grouped by concrete class so that
+ * long runs of the same update() method execute back to back.
+ *
+ * Ordering guarantees:
+ * - Each object's components still run in exactly the order they would have run in
+ *   GameObject.update() (components within a phase are ranked by their position within the object,
+ *   and all rank-0 components of a phase run before any rank-1 component of that phase).
+ * - Components of the same class, phase and rank run in object order.
+ * What changes is that object A's late phases now run after object B's early phases.  Components
+ * that read state written by *other* objects in the same frame may see it one phase sooner.  Also,
+ * every object's pending component additions and removals are committed before the first phase
+ * runs, so components added to an object during the frame first run on the next frame.
+ *
+ * Scheduling is a stable counting sort on (phase, rank, type ID) and does not allocate.  If a frame
+ * has more components than the scheduler has room for, it falls back to object-major updates.
+ * Objects with more than MAX_RANK components in one phase don't fit the rank field; they are
+ * updated object-major, before the first phase runs.
+ *
+ * If a ComponentWorkerPool is set, runs of a parallel-safe component class (see
+ * GameComponent.isParallelSafe()) are split across the pool's threads.  Each run completes before
+ * the next one starts, so the ordering guarantees above still hold between runs.
+ */
+public class PhasedComponentScheduler extends AllocationGuard {
+    private static final int PHASE_COUNT = ComponentPhases.values().length;
+    private static final int MAX_RANK = 8;
+    private static final int MAX_TYPES = GameComponent.MAX_TYPE_IDS;
+    private static final int KEY_COUNT = PHASE_COUNT * MAX_RANK * MAX_TYPES;
+    private static final int DEFAULT_MAX_COMPONENTS = 4096;
+
+    private final GameComponent[] mComponents;
+    private final GameObject[] mOwners;
+    private final int[] mKeys;
+    private final int[] mSortedKeys;
+    private final GameComponent[] mSortedComponents;
+    private final GameObject[] mSortedOwners;
+    private final int[] mKeyCounts;
+    private final GameObject[] mOverflowObjects;
+    private int mOverflowCount;
+    private ComponentWorkerPool mWorkerPool;
+    private int mPostPhase;
+    private BaseObject mPostPhaseObject;
+
+    public PhasedComponentScheduler() {
+        this(DEFAULT_MAX_COMPONENTS);
+    }
+
+    public PhasedComponentScheduler(int maxComponents) {
+        super();
+        mComponents = new GameComponent[maxComponents];
+        mOwners = new GameObject[maxComponents];
+        mKeys = new int[maxComponents];
+        mSortedKeys = new int[maxComponents];
+        mSortedComponents = new GameComponent[maxComponents];
+        mSortedOwners = new GameObject[maxComponents];
+        mKeyCounts = new int[KEY_COUNT + 1];
+        // Each overflowing object has more than MAX_RANK components.
+        mOverflowObjects = new GameObject[(maxComponents / (MAX_RANK + 1)) + 1];
+    }
+
+    /** Sets the pool used to update parallel-safe components, or null to run everything serially. */
+    public void setWorkerPool(ComponentWorkerPool pool) {
+        mWorkerPool = pool;
+    }
+
+    public ComponentWorkerPool getWorkerPool() {
+        return mWorkerPool;
+    }
+
+    /**
+     * Sets an object to update once every component in the passed phase (and all earlier phases)
+     * has run, before any later phase starts.  Pass null to clear it.
+     */
+    public void setPostPhaseUpdate(int phase, BaseObject object) {
+        mPostPhase = phase;
+        mPostPhaseObject = object;
+    }
+
+    /** Returns the number of entries the scheduler can hold per frame. */
+    public int getCapacity() {
+        return mComponents.length;
+    }
+
+    /**
+     * Updates the passed objects.  Objects are visited from the end of the array to the beginning,
+     * matching GameObjectManager's object-major traversal.
+     */
+    public void update(Object[] objects, int count, float timeDelta) {
+        int componentCount = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            GameObject object = (GameObject)objects[i];
+            object.beginUpdate();
+            componentCount += object.getCount();
+        }
+
+        if (componentCount > mComponents.length) {
+            DebugLog.d("PhasedComponentScheduler", "Too many components (" + componentCount
+                    + "), falling back to object-major update.");
+            for (int i = count - 1; i >= 0; i--) {
+                ((GameObject)objects[i]).updateComponents(timeDelta);
+            }
+            if (mPostPhaseObject != null) {
+                mPostPhaseObject.update(timeDelta, null);
+            }
+            return;
+        }
+
+        final int entryCount = gather(objects, count);
+        updateOverflowObjects(timeDelta);
+        sort(entryCount);
+        execute(entryCount, timeDelta);
+    }
+
+    /**
+     * Records an entry for every component of every object and returns the number of entries.
+     * Objects that have too many components in one phase get no entries and are recorded in
+     * mOverflowObjects instead.
+     */
+    private int gather(Object[] objects, int count) {
+        int entry = 0;
+        mOverflowCount = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            GameObject object = (GameObject)objects[i];
+            final FixedSizeArray<BaseObject> components = object.getObjects();
+            final Object[] componentArray = components.getArray();
+            final int componentCount = components.getCount();
+            final int objectStart = entry;
+            int lastPhase = -1;
+            int rank = 0;
+            for (int j = 0; j < componentCount; j++) {
+                GameComponent component = (GameComponent)componentArray[j];
+                int phase = component.phase;
+                if (phase < 0) {
+                    phase = 0;
+                } else if (phase >= PHASE_COUNT) {
+                    phase = PHASE_COUNT - 1;
+                }
+                // Components are sorted by phase, so ranks restart whenever the phase changes.
+                if (phase == lastPhase) {
+                    rank++;
+                    if (rank == MAX_RANK) {
+                        // Drop this object's entries; it will be updated object-major.
+                        for (int x = objectStart; x < entry; x++) {
+                            mComponents[x] = null;
+                            mOwners[x] = null;
+                        }
+                        entry = objectStart;
+                        mOverflowObjects[mOverflowCount++] = object;
+                        break;
+                    }
+                } else {
+                    rank = 0;
+                    lastPhase = phase;
+                }
+                mComponents[entry] = component;
+                mOwners[entry] = object;
+                mKeys[entry] = (((phase * MAX_RANK) + rank) * MAX_TYPES) + component.typeId;
+                entry++;
+            }
+        }
+        return entry;
+    }
+
+    /** Updates the objects that gather() couldn't rank, in the order they were visited. */
+    private void updateOverflowObjects(float timeDelta) {
+        final GameObject[] overflowObjects = mOverflowObjects;
+        final int overflowCount = mOverflowCount;
+        for (int x = 0; x < overflowCount; x++) {
+            overflowObjects[x].updateComponents(timeDelta);
+            overflowObjects[x] = null;
+        }
+        mOverflowCount = 0;
+    }
+
+    private void sort(int entryCount) {
+        final int[] counts = mKeyCounts;
+        final int[] keys = mKeys;
+        for (int x = 0; x <= KEY_COUNT; x++) {
+            counts[x] = 0;
+        }
+        for (int x = 0; x < entryCount; x++) {
+            counts[keys[x] + 1]++;
+        }
+        for (int x = 0; x < KEY_COUNT; x++) {
+            counts[x + 1] += counts[x];
+        }
+        for (int x = 0; x < entryCount; x++) {
+            final int destination = counts[keys[x]]++;
+            mSortedKeys[destination] = keys[x];
+            mSortedComponents[destination] = mComponents[x];
+            mSortedOwners[destination] = mOwners[x];
+        }
+    }
+
+    private void execute(int entryCount, float timeDelta) {
+        final GameComponent[] components = mSortedComponents;
+        final GameObject[] owners = mSortedOwners;
+        final int[] keys = mSortedKeys;
+        final ComponentWorkerPool pool = mWorkerPool;
+        final FrameProfiler profiler = BaseObject.getSystemRegistry().frameProfiler;
+        final boolean profiling = profiler != null && profiler.isRecording();
+        final int keysPerPhase = MAX_RANK * MAX_TYPES;
+        boolean postPhaseDone = mPostPhaseObject == null;
+        int runStart = 0;
+        while (runStart < entryCount) {
+            // Entries with equal keys are one class in one phase and rank.
+            final int key = keys[runStart];
+            if (!postPhaseDone && key / keysPerPhase > mPostPhase) {
+                mPostPhaseObject.update(timeDelta, null);
+                postPhaseDone = true;
+            }
+            int runEnd = runStart + 1;
+            while (runEnd < entryCount && keys[runEnd] == key) {
+                runEnd++;
+            }
+
+            // Each owner has at most one component of each rank in a phase, so no owner appears
+            // twice in a run.
+            if (pool != null && components[runStart].isParallelSafe()) {
+                if (profiling) {
+                    // Per-component timings aren't available from the workers; record the run.
+                    final long start = System.nanoTime();
+                    pool.execute(components, owners, runStart, runEnd, timeDelta);
+                    profiler.recordComponent(components[runStart], System.nanoTime() - start);
+                } else {
+                    pool.execute(components, owners, runStart, runEnd, timeDelta);
+                }
+            } else if (profiling) {
+                for (int x = runStart; x < runEnd; x++) {
+                    final long start = System.nanoTime();
+                    components[x].update(timeDelta, owners[x]);
+                    profiler.recordComponent(components[x], System.nanoTime() - start);
+                }
+            } else {
+                for (int x = runStart; x < runEnd; x++) {
+                    components[x].update(timeDelta, owners[x]);
+                }
+            }
+            runStart = runEnd;
+        }
+        if (!postPhaseDone) {
+            mPostPhaseObject.update(timeDelta, null);
+        }
+
+        // Don't hold on to references to objects that might be recycled.
+        for (int x = 0; x < entryCount; x++) {
+            mComponents[x] = null;
+            mOwners[x] = null;
+            components[x] = null;
+            owners[x] = null;
+        }
+    }
+}
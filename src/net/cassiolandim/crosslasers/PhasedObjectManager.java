@@ -21,18 +21,20 @@ import java.util.Comparator;
 
 /**
  * A derivation of ObjectManager that sorts its children if they are of type PhasedObject.
- * Sorting is performed on add.
+ * Children are kept sorted as additions are committed: a small batch of additions is binary
+ * inserted into the sorted children, and a large batch is appended and the children re-sorted.
  */
 public class PhasedObjectManager extends ObjectManager {
 	
     private final static PhasedObjectComparator sPhasedObjectComparator 
         = new PhasedObjectComparator();
-    private boolean mDirty;
+    // Batches larger than this are cheaper to append and sort than to insert one at a time.
+    private final static int INSERTION_BATCH_LIMIT = 16;
     private PhasedObject mSearchDummy;  // A dummy object allocated up-front for searching by phase.
 
     public PhasedObjectManager() {
         super();
-        mDirty = false;
+        setOrderedRemoval(true);
         getObjects().setComparator(sPhasedObjectComparator);
         getPendingObjects().setComparator(sPhasedObjectComparator);
         mSearchDummy = new PhasedObject();
@@ -40,18 +42,42 @@ public class PhasedObjectManager extends ObjectManager {
     
     public PhasedObjectManager(int arraySize) {
         super(arraySize);
-        mDirty = false;
+        setOrderedRemoval(true);
         getObjects().setComparator(sPhasedObjectComparator);
         getPendingObjects().setComparator(sPhasedObjectComparator);
         mSearchDummy = new PhasedObject();
     }
 
+    /** 
+     * Sorts children with a radix sort on their phase instead of through the comparator.  This
+     * is linear in the number of children and worth it for large managers that are re-sorted
+     * often, like render queues.
+     */
+    public void setRadixSort(boolean radix) {
+        if (radix) {
+            getObjects().setSorter(
+                    new PhaseRadixSorter<BaseObject>(getObjects().getCapacity()));
+        } else {
+            getObjects().setSorter(new StandardSorter<BaseObject>());
+        }
+    }
+
     @Override
     public void commitUpdates() {
+        final FixedSizeArray<BaseObject> additions = getPendingObjects();
+        final int additionCount = additions.getCount();
+        if (additionCount > 0 && additionCount <= INSERTION_BATCH_LIMIT) {
+            final FixedSizeArray<BaseObject> objects = getObjects();
+            final Object[] additionArray = additions.getArray();
+            for (int i = 0; i < additionCount; i++) {
+                final BaseObject object = (BaseObject)additionArray[i];
+                object.mManagerSlot = objects.insertSorted(object);
+            }
+            additions.clear();
+        }
         super.commitUpdates();
-        if (mDirty) {
+        if (additionCount > INSERTION_BATCH_LIMIT) {
             getObjects().sort(true);
-            mDirty = false;
         }
     }
     
@@ -60,7 +86,6 @@ public class PhasedObjectManager extends ObjectManager {
         
         if (object instanceof PhasedObject) {
             super.add(object);
-            mDirty = true;
         } else {
             // The only reason to restrict PhasedObjectManager to PhasedObjects is so that
             // the PhasedObjectComparator can assume all of its contents are PhasedObjects and
@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers;
+
+import net.cassiolandim.crosslasers.GameObject.Team;
+
+/**
+ * A uniform spatial hash over the positions of a set of GameObjects, used to answer "which objects
+ * are near this point" without scanning every object.  The world is divided into square cells, and
+ * each cell is hashed into a fixed-size bucket table; objects are stored as points (their
+ * position), so queries that care about object size should pad the radius accordingly.
+ * The hash is rebuilt from scratch with rebuild(), or by update() from the array passed to
+ * setSource() (GameObjectManager does this once per frame).  Neither rebuilding nor querying
+ * allocates.  Queries test the positions objects had at the last rebuild, not where they are now,
+ * and objects added after the last rebuild are not found until the next one.
+ * A query whose radius spans more cells than there are buckets (or entries) scans the entries
+ * directly instead, since walking the cells would visit the same buckets over and over.
+ */
+public class SpatialHash extends BaseObject {
+    private static final int DEFAULT_CELL_SIZE = 64;
+    private static final int DEFAULT_BUCKET_COUNT = 256;   // Must be a power of two.
+
+    private final float mCellSize;
+    private final float mInverseCellSize;
+    private final int mBucketMask;
+    private final int[] mBucketHeads;
+    private final GameObject[] mEntries;
+    private final int[] mEntryCellX;
+    private final int[] mEntryCellY;
+    private final float[] mEntryX;
+    private final float[] mEntryY;
+    private final int[] mNextEntry;
+    private int mEntryCount;
+    private FixedSizeArray<BaseObject> mSource;
+
+    public SpatialHash(int maxObjects) {
+        this(maxObjects, DEFAULT_CELL_SIZE, DEFAULT_BUCKET_COUNT);
+    }
+
+    public SpatialHash(int maxObjects, float cellSize, int bucketCount) {
+        super();
+        assert (bucketCount & (bucketCount - 1)) == 0 : "Bucket count must be a power of two";
+        mCellSize = cellSize;
+        mInverseCellSize = 1.0f / cellSize;
+        mBucketMask = bucketCount - 1;
+        mBucketHeads = new int[bucketCount];
+        mEntries = new GameObject[maxObjects];
+        mEntryCellX = new int[maxObjects];
+        mEntryCellY = new int[maxObjects];
+        mEntryX = new float[maxObjects];
+        mEntryY = new float[maxObjects];
+        mNextEntry = new int[maxObjects];
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        for (int x = 0; x < mBucketHeads.length; x++) {
+            mBucketHeads[x] = -1;
+        }
+        for (int x = 0; x < mEntryCount; x++) {
+            mEntries[x] = null;
+        }
+        mEntryCount = 0;
+    }
+
+    /** Sets the array of GameObjects that update() indexes. */
+    public void setSource(FixedSizeArray<BaseObject> objects) {
+        mSource = objects;
+    }
+
+    @Override
+    public void update(float timeDelta, BaseObject parent) {
+        if (mSource != null) {
+            rebuild(mSource);
+        }
+    }
+
+    /** Rebuilds the hash from the GameObjects in the passed array. */
+    public void rebuild(FixedSizeArray<BaseObject> objects) {
+        reset();
+        final Object[] objectArray = objects.getArray();
+        final int count = objects.getCount();
+        for (int x = 0; x < count; x++) {
+            insert((GameObject)objectArray[x]);
+        }
+    }
+
+    private void insert(GameObject object) {
+        if (mEntryCount < mEntries.length) {
+            final Vector2 position = object.getPosition();
+            final int cellX = toCell(position.x);
+            final int cellY = toCell(position.y);
+            final int bucket = hash(cellX, cellY);
+            final int entry = mEntryCount;
+            mEntries[entry] = object;
+            mEntryCellX[entry] = cellX;
+            mEntryCellY[entry] = cellY;
+            mEntryX[entry] = position.x;
+            mEntryY[entry] = position.y;
+            mNextEntry[entry] = mBucketHeads[bucket];
+            mBucketHeads[bucket] = entry;
+            mEntryCount++;
+        }
+    }
+
+    /**
+     * Finds the objects whose positions lie within radius of (x, y).
+     * @param team  Only objects on this team are returned, or objects on any team if null.
+     * @param exclude  An object to leave out of the results (typically the caller), or null.
+     * @param results  Matching objects are appended to this array until it is full.
+     * @return  The number of objects appended to results.
+     */
+    public int queryRadius(float x, float y, float radius, Team team, GameObject exclude,
+            FixedSizeArray<GameObject> results) {
+        final float radius2 = radius * radius;
+        final int minCellX = toCell(x - radius);
+        final int maxCellX = toCell(x + radius);
+        final int minCellY = toCell(y - radius);
+        final int maxCellY = toCell(y + radius);
+        int found = 0;
+        if (scanEntries(minCellX, maxCellX, minCellY, maxCellY)) {
+            for (int entry = 0; entry < mEntryCount; entry++) {
+                if (matches(entry, x, y, radius2, team, exclude)) {
+                    if (results.getCount() >= results.getCapacity()) {
+                        return found;
+                    }
+                    results.add(mEntries[entry]);
+                    found++;
+                }
+            }
+            return found;
+        }
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                int entry = mBucketHeads[hash(cellX, cellY)];
+                while (entry != -1) {
+                    // Other cells can share this bucket; skip their entries.
+                    if (mEntryCellX[entry] == cellX && mEntryCellY[entry] == cellY
+                            && matches(entry, x, y, radius2, team, exclude)) {
+                        if (results.getCount() >= results.getCapacity()) {
+                            return found;
+                        }
+                        results.add(mEntries[entry]);
+                        found++;
+                    }
+                    entry = mNextEntry[entry];
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the object closest to (x, y) within radius, optionally restricted to a team, or null
+     * if there is none.
+     */
+    public GameObject findNearest(float x, float y, float radius, Team team, GameObject exclude) {
+        float closest2 = radius * radius;
+        GameObject result = null;
+        final int minCellX = toCell(x - radius);
+        final int maxCellX = toCell(x + radius);
+        final int minCellY = toCell(y - radius);
+        final int maxCellY = toCell(y + radius);
+        if (scanEntries(minCellX, maxCellX, minCellY, maxCellY)) {
+            for (int entry = 0; entry < mEntryCount; entry++) {
+                if (matches(entry, x, y, closest2, team, exclude)) {
+                    closest2 = distance2(entry, x, y);
+                    result = mEntries[entry];
+                }
+            }
+            return result;
+        }
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                int entry = mBucketHeads[hash(cellX, cellY)];
+                while (entry != -1) {
+                    if (mEntryCellX[entry] == cellX && mEntryCellY[entry] == cellY
+                            && matches(entry, x, y, closest2, team, exclude)) {
+                        closest2 = distance2(entry, x, y);
+                        result = mEntries[entry];
+                    }
+                    entry = mNextEntry[entry];
+                }
+            }
+        }
+        return result;
+    }
+
+    /** 
+     * Returns true if a query over the passed cell range should scan the entries rather than
+     * walk the cells.  A huge radius can overflow the cell count, so each side is checked first.
+     */
+    private final boolean scanEntries(int minCellX, int maxCellX, int minCellY, int maxCellY) {
+        final long limit = Math.min(mBucketHeads.length, mEntryCount);
+        final long width = (long)maxCellX - minCellX + 1;
+        final long height = (long)maxCellY - minCellY + 1;
+        return width > limit || height > limit || width * height > limit;
+    }
+
+    /** Returns true if the entry passes the query's filters and lies within radius2 of (x, y). */
+    private final boolean matches(int entry, float x, float y, float radius2, Team team, 
+            GameObject exclude) {
+        final GameObject object = mEntries[entry];
+        return object != exclude && (team == null || object.team == team) 
+                && distance2(entry, x, y) <= radius2;
+    }
+
+    private final float distance2(int entry, float x, float y) {
+        final float deltaX = mEntryX[entry] - x;
+        final float deltaY = mEntryY[entry] - y;
+        return (deltaX * deltaX) + (deltaY * deltaY);
+    }
+
+    public int getCount() {
+        return mEntryCount;
+    }
+
+    public float getCellSize() {
+        return mCellSize;
+    }
+
+    private final int toCell(float coordinate) {
+        return (int)Math.floor(coordinate * mInverseCellSize);
+    }
+
+    private final int hash(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & mBucketMask;
+    }
+}
@@ -16,8 +16,6 @@
 
 package net.cassiolandim.crosslasers;
 
-import java.util.Arrays;
-
 /**
  * Describes a single animation for a sprite.
  */
@@ -25,14 +23,14 @@ public class SpriteAnimation extends PhasedObject {
     private final static int LINEAR_SEARCH_CUTOFF = 16;
     
     private FixedSizeArray<AnimationFrame> mFrames;
-    private float[] mFrameStartTimes;
+    private FloatFixedSizeArray mFrameStartTimes;
     private boolean mLoop;
     private float mLength;
     
     public SpriteAnimation(int animationId, int frameCount) {
         super();
         mFrames = new FixedSizeArray<AnimationFrame>(frameCount);
-        mFrameStartTimes = new float[frameCount];
+        mFrameStartTimes = new FloatFixedSizeArray(frameCount);
         mLoop = false;
         mLength = 0.0f;
         setPhase(animationId);
@@ -58,12 +56,8 @@ public class SpriteAnimation extends PhasedObject {
 	            	// When there are very few frames it's actually slower to do a binary search
 	            	// of the frame list.  So we'll use a linear search for small animations
 	            	// and only pull the binary search out when the frame count is large.
-	            	if (mFrameStartTimes.length > LINEAR_SEARCH_CUTOFF) {
-		            	int index = Arrays.binarySearch(mFrameStartTimes, cycleTime);
-		            	if (index < 0) {
-		            		index = -(index + 1) - 1;
-		            	}
-		            	result = frames.get(index);
+	            	if (frameCount > LINEAR_SEARCH_CUTOFF) {
+		            	result = frames.get(mFrameStartTimes.floorIndex(cycleTime));
 	            	} else {
 		                for (int x = 0; x < frameCount; x++) {
 		                    AnimationFrame frame = frames.get(x);
@@ -81,7 +75,7 @@ public class SpriteAnimation extends PhasedObject {
     }
 
     public void addFrame(AnimationFrame frame) {
-    	mFrameStartTimes[mFrames.getCount()] = mLength;
+    	mFrameStartTimes.addInOrder(mLength);  // Start times only grow, so no sort is needed.
     	mFrames.add(frame);
         mLength += frame.holdTime;
     }
@@ -31,6 +31,10 @@ public abstract class TObjectPool<T> extends ObjectPool {
     public TObjectPool(int size) {
         super(size);
     }
+
+    public TObjectPool(int size, int lazyChunk) {
+        super(size, lazyChunk);
+    }
     
     public T allocate() {
         T object = (T)super.allocate();        
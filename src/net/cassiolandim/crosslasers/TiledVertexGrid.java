@@ -143,14 +143,14 @@ public class TiledVertexGrid extends BaseObject {
             mTilesPerColumn = tilesDown;
             
             
-            BufferLibrary bufferLibrary = sSystemRegistry.bufferLibrary;
+            BufferLibrary bufferLibrary = getSystemRegistry().bufferLibrary;
             
             Grid grid = generateGrid((int)mWorldPixelWidth, (int)mWorldPixelHeight, 0, 0);
             mTileMap = grid;
             mGenerated = true;
             if (grid != null) {
                 bufferLibrary.add(grid);
-                if (sSystemRegistry.contextParameters.supportsVBOs) {
+                if (getSystemRegistry().contextParameters.supportsVBOs) {
                 	grid.generateHardwareBuffers(gl);
                 }
             }
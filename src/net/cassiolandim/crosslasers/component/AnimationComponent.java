@@ -36,6 +36,7 @@ import net.cassiolandim.crosslasers.system.SoundSystem.Sound;
  * player's current state.  Requires the object to contain a SpriteComponent to play animations.
  */
 public class AnimationComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(AnimationComponent.class);
     
     public enum PlayerAnimations {
         IDLE,
@@ -133,7 +134,7 @@ public class AnimationComponent extends GameComponent {
             }
             
             
-            final TimeSystem time = sSystemRegistry.timeSystem;
+            final TimeSystem time = getSystemRegistry().timeSystem;
             final float gameTime = time.getGameTime();
             
             if (currentAction != ActionType.HIT_REACT && mPreviousAction == ActionType.HIT_REACT) {
@@ -147,7 +148,7 @@ public class AnimationComponent extends GameComponent {
             
             boolean visible = true;
             
-            SoundSystem sound = sSystemRegistry.soundSystem;
+            SoundSystem sound = getSystemRegistry().soundSystem;
             
             // It's usually not necessary to test to see if sound is enabled or not (when it's disabled,
             // play() is just a nop), but in this case I have a stream that is maintained for the rocket
@@ -213,7 +214,7 @@ public class AnimationComponent extends GameComponent {
             float opacity = 1.0f;
             
             if (currentAction == ActionType.MOVE) {
-                InputGameInterface input = sSystemRegistry.inputGameInterface;
+                InputGameInterface input = getSystemRegistry().inputGameInterface;
                 final InputXY dpad = input.getDirectionalPad();
                 if (dpad.getX() < 0.0f) {
                     parentObject.facingDirection.x = -1.0f; 
@@ -296,8 +297,8 @@ public class AnimationComponent extends GameComponent {
                 	// by default, explode when hit with the DEATH hit type.
                     if (parentObject.lastReceivedHitType == HitType.DEATH) {
                         mExplodingDeath = true;
-                        GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
-                        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+                        GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+                        GameObjectManager manager = getSystemRegistry().gameObjectManager;
                         if (factory != null && manager != null) {
                             GameObject explosion = factory.spawnEffectExplosionGiant(parentObject.getPosition().x, parentObject.getPosition().y);
                             if (explosion != null) {
@@ -26,6 +26,8 @@ import net.cassiolandim.crosslasers.system.TimeSystem;
 
 
 public class AttackAtDistanceComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(AttackAtDistanceComponent.class);
+    
     private static final int DEFAULT_ATTACK_DISTANCE = 100;
     private float mAttackDistance;
     private float mAttackDelay;
@@ -49,18 +51,23 @@ public class AttackAtDistanceComponent extends GameComponent {
         mRequireFacing = false;
     }
     
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+    
     @Override
     public void update(float timeDelta, BaseObject parent) {   
         GameObject parentObject = (GameObject) parent;
 
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         if (manager != null) {
             GameObject player = manager.getPlayer();
             if (player != null) {
                 mDistance.set(player.getPosition());
                 mDistance.subtract(parentObject.getPosition());
                 
-                TimeSystem time = sSystemRegistry.timeSystem;
+                TimeSystem time = getSystemRegistry().timeSystem;
                 final float currentTime = time.getGameTime();
                 final boolean facingPlayer = 
                     (Utils.sign(player.getPosition().x - parentObject.getPosition().x)
@@ -28,6 +28,7 @@ import net.cassiolandim.crosslasers.Texture;
  * to allocate fire-and-forget drawable objects every frame.
  */
 public class BackgroundComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(BackgroundComponent.class);
 	
     private int mWidth;
     private int mHeight;
@@ -67,7 +68,7 @@ public class BackgroundComponent extends GameComponent {
     
     @Override
     public void update(float timeDelta, BaseObject parent) {
-        final DrawableFactory drawableFactory = sSystemRegistry.drawableFactory;
+        final DrawableFactory drawableFactory = getSystemRegistry().drawableFactory;
         if (mRenderComponent != null && drawableFactory != null) {
             DrawableBitmap background = drawableFactory.allocateDrawableBitmap();
             background.setTexture(mTexture);
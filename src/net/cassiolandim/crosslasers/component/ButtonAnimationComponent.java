@@ -26,6 +26,8 @@ import net.cassiolandim.crosslasers.system.SoundSystem.Sound;
 
 
 public class ButtonAnimationComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(ButtonAnimationComponent.class);
+    
     public static final class Animation {
         // Animations
         public static final int UP = 0;
@@ -59,7 +61,7 @@ public class ButtonAnimationComponent extends GameComponent {
             if (parentObject.getCurrentAction() == GameObject.ActionType.HIT_REACT &&
                     parentObject.lastReceivedHitType == CollisionParameters.HitType.DEPRESS) {
             	if (mSprite.getCurrentAnimation() == Animation.UP) {
-            		SoundSystem sound = sSystemRegistry.soundSystem;
+            		SoundSystem sound = getSystemRegistry().soundSystem;
             		if (sound != null) {
             			sound.play(mDepressSound, false, SoundSystem.PRIORITY_NORMAL);
             		}
@@ -67,7 +69,7 @@ public class ButtonAnimationComponent extends GameComponent {
                 mSprite.playAnimation(Animation.DOWN);
                 parentObject.setCurrentAction(GameObject.ActionType.IDLE);
                 if (mChannel != null) {
-                    TimeSystem time = sSystemRegistry.timeSystem;
+                    TimeSystem time = getSystemRegistry().timeSystem;
                     mLastPressedTime.value = time.getGameTime();
                     mChannel.value = mLastPressedTime;
                 }
@@ -27,6 +27,8 @@ import net.cassiolandim.crosslasers.GameObject;
  * switching in and out of those modes by activating and deactivating specific game components.
  */
 public class ChangeComponentsComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(ChangeComponentsComponent.class);
+    
     private final static int MAX_COMPONENT_SWAPS = 16;
     private FixedSizeArray<GameComponent> mComponentsToInsert;
     private FixedSizeArray<GameComponent> mComponentsToRemove;
@@ -48,7 +50,7 @@ public class ChangeComponentsComponent extends GameComponent {
     @Override
     public void reset() {
         
-        GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
+        GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
         // GameComponents hanging out in the mComponentsToInsert list are not part of the object
         // hierarchy, so we need to manually release them.
         if (factory != null) {
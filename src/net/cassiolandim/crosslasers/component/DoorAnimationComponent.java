@@ -25,6 +25,7 @@ import net.cassiolandim.crosslasers.system.SoundSystem.Sound;
 
 
 public class DoorAnimationComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(DoorAnimationComponent.class);
     
     public static final class Animation {
         // Animations
@@ -99,7 +100,7 @@ public class DoorAnimationComponent extends GameComponent {
                 mSprite.setCurrentAnimationTime(timeOffset);
                 
                 if (mOpenSound != null) {
-                	SoundSystem sound = sSystemRegistry.soundSystem;
+                	SoundSystem sound = getSystemRegistry().soundSystem;
                 	if (sound != null) {
                 		sound.play(mOpenSound, false, SoundSystem.PRIORITY_NORMAL);
                 	}
@@ -129,7 +130,7 @@ public class DoorAnimationComponent extends GameComponent {
                 mSprite.playAnimation(Animation.CLOSING);
                 mSprite.setCurrentAnimationTime(timeOffset);
                 if (mCloseSound != null) {
-                	SoundSystem sound = sSystemRegistry.soundSystem;
+                	SoundSystem sound = getSystemRegistry().soundSystem;
                 	if (sound != null) {
                 		sound.play(mCloseSound, false, SoundSystem.PRIORITY_NORMAL);
                 	}
@@ -144,7 +145,7 @@ public class DoorAnimationComponent extends GameComponent {
         if (mChannel != null) {
             if (mChannel.value != null && mChannel.value instanceof ChannelSystem.ChannelFloatValue) {
                 final float lastPressedTime = ((ChannelSystem.ChannelFloatValue)mChannel.value).value;
-                TimeSystem time = sSystemRegistry.timeSystem;
+                TimeSystem time = getSystemRegistry().timeSystem;
                 final float gameTime = time.getGameTime();
                 final float delta = gameTime - lastPressedTime;
                 if (delta < mStayOpenTime 
@@ -34,6 +34,8 @@ import net.cassiolandim.crosslasers.Vector2;
  * send and receive hits to other game objects.
  */
 public class DynamicCollisionComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(DynamicCollisionComponent.class);
+    
     private FixedSizeArray<CollisionVolume> mAttackVolumes;
     private FixedSizeArray<CollisionVolume> mVulnerabilityVolumes;
     private SphereCollisionVolume mBoundingVolume;
@@ -57,7 +59,7 @@ public class DynamicCollisionComponent extends GameComponent {
     
     @Override
     public void update(float timeDelta, BaseObject parent) {
-        GameObjectCollisionSystem collision = sSystemRegistry.gameObjectCollisionSystem;
+        GameObjectCollisionSystem collision = getSystemRegistry().gameObjectCollisionSystem;
         if (collision != null && mBoundingVolume.getRadius() > 0.0f) {
             collision.registerForCollisions((GameObject)parent, mHitReactionComponent, mBoundingVolume, 
                     mAttackVolumes, mVulnerabilityVolumes);
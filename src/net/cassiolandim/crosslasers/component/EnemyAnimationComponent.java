@@ -29,6 +29,7 @@ import net.cassiolandim.crosslasers.Utils;
  * play.
  */
 public class EnemyAnimationComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(EnemyAnimationComponent.class);
     
     public enum EnemyAnimations {
         IDLE,
@@ -63,6 +64,11 @@ public class EnemyAnimationComponent extends GameComponent {
         mSprite = null;
     }
     
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+    
     @Override
     public void update(float timeDelta, BaseObject parent) {
         if (mSprite != null) {
@@ -138,7 +144,7 @@ public class EnemyAnimationComponent extends GameComponent {
     }
     
     private void facePlayer(GameObject parentObject) {
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         if (manager != null) {
             GameObject player = manager.getPlayer();
             if (player != null) {
@@ -27,6 +27,8 @@ import net.cassiolandim.crosslasers.system.TimeSystem;
 
 
 public class FadeDrawableComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(FadeDrawableComponent.class);
+    
 	public static final int LOOP_TYPE_NONE = 0;
 	public static final int LOOP_TYPE_LOOP = 1;
 	public static final int LOOP_TYPE_PING_PONG = 2;
@@ -71,7 +73,7 @@ public class FadeDrawableComponent extends GameComponent {
 	 @Override
 	 public void update(float timeDelta, BaseObject parent) {
 		 if (mRenderComponent != null) {
-			 final TimeSystem time = sSystemRegistry.timeSystem;
+			 final TimeSystem time = getSystemRegistry().timeSystem;
 			 final float currentTime = time.getGameTime();
 			 
 			 // Support repeating "phases" on top of the looping fade itself.
@@ -118,7 +120,7 @@ public class FadeDrawableComponent extends GameComponent {
 				 if (mTexture != null) {
 					 // If a texture is set then we supply a drawable to the render component.
 					 // If not, we take whatever drawable the renderer already has.
-					 final DrawableFactory factory = sSystemRegistry.drawableFactory;
+					 final DrawableFactory factory = getSystemRegistry().drawableFactory;
 		             if (factory != null) {
 		                 GameObject parentObject = ((GameObject)parent);
 		                 DrawableBitmap bitmap = factory.allocateDrawableBitmap();
@@ -20,6 +20,8 @@ import net.cassiolandim.crosslasers.BaseObject;
 import net.cassiolandim.crosslasers.GameObject;
 
 public class FixedAnimationComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(FixedAnimationComponent.class);
+    
     private int mAnimationIndex;
     
     public FixedAnimationComponent() {
@@ -33,11 +35,16 @@ public class FixedAnimationComponent extends GameComponent {
         mAnimationIndex = 0;
     }
     
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+    
     @Override
     public void update(float timeDelta, BaseObject parent) {
         // We look up the sprite component each frame so that this component can be shared.
         GameObject parentObject = (GameObject)parent;
-        SpriteComponent sprite = parentObject.findByClass(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)parentObject.findByType(SpriteComponent.TYPE_ID);
         if (sprite != null) {
             sprite.playAnimation(mAnimationIndex);
         }
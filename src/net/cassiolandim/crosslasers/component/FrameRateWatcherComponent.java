@@ -21,6 +21,8 @@ import net.cassiolandim.crosslasers.BaseObject;
 import net.cassiolandim.crosslasers.DrawableObject;
 
 public class FrameRateWatcherComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(FrameRateWatcherComponent.class);
+    
 	private RenderComponent mRenderComponent;
 	private DrawableObject mDrawable;
 	private float mMaxFrameTime = 1.0f / 30.0f;
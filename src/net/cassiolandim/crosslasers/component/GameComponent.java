@@ -16,6 +16,7 @@
 
 package net.cassiolandim.crosslasers.component;
 
+import net.cassiolandim.crosslasers.GameObject;
 import net.cassiolandim.crosslasers.PhasedObject;
 
 /**
@@ -40,11 +41,69 @@ public abstract class GameComponent extends PhasedObject {
         FRAME_END,              // final cleanup before the next update
     }
     
+    // Component classes are numbered densely, in the order they are first seen, so that per-type
+    // tables can be plain arrays indexed by type ID.  Classes are mapped to IDs with a small
+    // open-addressed hash table that is never more than half full.
+    public static final int MAX_TYPE_IDS = 64;
+    private static final int TYPE_TABLE_SIZE = MAX_TYPE_IDS * 2;   // Must be a power of two.
+    private static final Class<?>[] sTypeTableKeys = new Class<?>[TYPE_TABLE_SIZE];
+    private static final int[] sTypeTableIds = new int[TYPE_TABLE_SIZE];
+    private static final Class<?>[] sTypeClasses = new Class<?>[MAX_TYPE_IDS];
+    private static int sTypeCount;
+    
     public boolean shared;
+    public final int typeId;    // The ID of this component's concrete class.  See getTypeId().
     
     public GameComponent() {
         super();
         shared = false;
+        typeId = getTypeId(getClass());
+    }
+    
+    /** 
+     * Returns the dense integer ID of a GameComponent class, assigning a new one the first time a 
+     * class is seen.  IDs are stable for the life of the process.  Callers that look components up
+     * every frame should cache the ID in a static final field.
+     */
+    public static synchronized int getTypeId(Class<?> type) {
+        int slot = type.hashCode() & (TYPE_TABLE_SIZE - 1);
+        while (sTypeTableKeys[slot] != null) {
+            if (sTypeTableKeys[slot] == type) {
+                return sTypeTableIds[slot];
+            }
+            slot = (slot + 1) & (TYPE_TABLE_SIZE - 1);
+        }
+        assert sTypeCount < MAX_TYPE_IDS : "Too many component types; raise MAX_TYPE_IDS";
+        final int id = sTypeCount;
+        sTypeTableKeys[slot] = type;
+        sTypeTableIds[slot] = id;
+        sTypeClasses[id] = type;
+        sTypeCount++;
+        return id;
+    }
+    
+    /** Returns the number of type IDs assigned so far. */
+    public static synchronized int getTypeCount() {
+        return sTypeCount;
+    }
+    
+    public static synchronized Class<?> getTypeClass(int typeId) {
+        return sTypeClasses[typeId];
+    }
+    
+    /**
+     * Returns true if this component may be updated on a worker thread, concurrently with other
+     * components of the same class in the same phase.  Parallel-safe components may read shared
+     * state but must only write to themselves and to their parent object (and must also be safe
+     * when shared between objects).  Writes to anything else go through DeferredWrites.run().
+     */
+    public boolean isParallelSafe() {
+        return false;
+    }
+    
+    /** Performs work requested through DeferredWrites.run().  Always called on the game thread. */
+    public void runDeferred(GameObject parent) {
+        
     }
     
 }
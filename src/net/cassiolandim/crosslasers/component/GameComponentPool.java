@@ -32,6 +32,19 @@ public class GameComponentPool extends TObjectPool<GameComponent> {
         objectClass = type;
         fill();
     }
+
+    /** Creates a pool that instantiates up to size components, lazyChunk at a time, on demand. */
+    public GameComponentPool(Class<?> type, int size, int lazyChunk) {
+        super(size, lazyChunk);
+        objectClass = type;
+        fill();
+    }
+    
+    @Override
+    public String getName() {
+        return "GameComponentPool(" 
+            + (objectClass != null ? objectClass.getSimpleName() : "none") + ")";
+    }
     
     @Override
     protected void fill() {
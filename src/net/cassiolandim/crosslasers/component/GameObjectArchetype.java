@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2010 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.cassiolandim.crosslasers.component;
+
+import net.cassiolandim.crosslasers.AllocationGuard;
+import net.cassiolandim.crosslasers.CollisionVolume;
+import net.cassiolandim.crosslasers.FixedSizeArray;
+import net.cassiolandim.crosslasers.GameObject.Team;
+import net.cassiolandim.crosslasers.component.GameObjectFactory.GameObjectType;
+import net.cassiolandim.crosslasers.system.SoundSystem.Sound;
+
+/**
+ * A data description of a sprite-based game object type: its object parameters, the animations
+ * and components it shares with every other object of its type, and a list of per-instance
+ * components, each with a block of parameters (see Sprite, Lifetime, HitReaction and
+ * HitPlayer).  Archetypes are described once and registered with GameObjectFactory.  The first
+ * time an archetype is spawned (and again after GameObjectFactory.clearStaticData()) the factory
+ * compiles it: textures and sounds are looked up, the shared animations are built, and the
+ * component pools are resolved.  Spawning a compiled archetype only allocates pooled components
+ * and copies the parameters below into them.
+ *
+ * Archetypes cover effects, pickups and enemies that move on their own; objects with physics,
+ * AI or per-instance wiring to other objects still have spawn methods of their own.
+ */
+public class GameObjectArchetype extends AllocationGuard {
+    private static final int MAX_ANIMATIONS = 8;
+    private static final int MAX_SHARED_COMPONENTS = 4;
+    private static final int MAX_SPRITES = 2;
+
+    public final GameObjectType type;
+
+    // Object parameters.
+    public int width;
+    public int height;
+    public float activationRadius;
+    public boolean destroyOnDeactivation;
+    public boolean flippable;           // Face left when spawned with horizontal flip.
+    public boolean optional;            // Skip the spawn (return null) if render pools are low.
+    public Team team;
+    public int life;
+    public float speed;                 // Initial horizontal speed in the facing direction.
+    public boolean shortTermTextures;   // Load textures per level rather than look them up.
+
+    // Per-instance components.  Every archetype gets a lifetime; the others are optional.
+    final FixedSizeArray<Sprite> sprites;
+    public final Lifetime lifetime;
+    public boolean collision;           // Add a DynamicCollisionComponent fed by the first sprite.
+    public HitReaction hitReaction;
+    public HitPlayer hitPlayer;
+    public boolean enemyAnimation;      // Add an EnemyAnimationComponent driving the first sprite.
+    public int soundResource;           // Played once on spawn, or -1 for none.
+
+    // Shared data.
+    final FixedSizeArray<Animation> animations;
+    final FixedSizeArray<Class<?>> sharedComponents;
+
+    // Compiled spawn plan; see GameObjectFactory.compileArchetype().
+    boolean compiled;
+    GameComponentPool renderPool;
+    GameComponentPool spritePool;
+    GameComponentPool lifetimePool;
+    GameComponentPool collisionPool;
+    GameComponentPool hitReactionPool;
+    GameComponentPool hitPlayerPool;
+    GameComponentPool enemyAnimationPool;
+    GameComponentPool soundPool;
+    Sound sound;
+    Sound deathSound;
+    Sound takeHitSound;
+
+    public GameObjectArchetype(GameObjectType objectType) {
+        super();
+        type = objectType;
+        sprites = new FixedSizeArray<Sprite>(MAX_SPRITES);
+        lifetime = new Lifetime();
+        animations = new FixedSizeArray<Animation>(MAX_ANIMATIONS);
+        sharedComponents = new FixedSizeArray<Class<?>>(MAX_SHARED_COMPONENTS);
+        team = Team.NONE;
+        life = 1;
+        soundResource = -1;
+    }
+
+    /**
+     * Adds a render and sprite pair that draws at renderPriority.  Every sprite can play every
+     * shared animation.
+     */
+    public Sprite addSprite(int renderPriority) {
+        Sprite sprite = new Sprite(renderPriority);
+        sprites.add(sprite);
+        return sprite;
+    }
+
+    /** Adds a HitReactionComponent, which the collision (if any) reports hits to. */
+    public HitReaction addHitReaction() {
+        hitReaction = new HitReaction();
+        return hitReaction;
+    }
+
+    /** Adds a HitPlayerComponent that hits the player with hitType within distance. */
+    public HitPlayer addHitPlayer(float distance, int hitType) {
+        hitPlayer = new HitPlayer(distance, hitType);
+        return hitPlayer;
+    }
+
+    /**
+     * Adds a shared animation.  Frame i shows the texture with resource ID frames[i] for
+     * frameTimes[i] frames at 24 frames per second.  Every frame uses the same attack volumes.
+     */
+    public void addAnimation(int id, int[] frames, int[] frameTimes, boolean loop,
+            FixedSizeArray<CollisionVolume> attackVolumes) {
+        addAnimation(id, frames, frameTimes, loop, attackVolumes, null);
+    }
+
+    /** Adds a shared animation whose frames also share a set of vulnerability volumes. */
+    public void addAnimation(int id, int[] frames, int[] frameTimes, boolean loop,
+            FixedSizeArray<CollisionVolume> attackVolumes,
+            FixedSizeArray<CollisionVolume> vulnerabilityVolumes) {
+        assert frames.length == frameTimes.length;
+        animations.add(new Animation(id, frames, frameTimes, loop, attackVolumes,
+                vulnerabilityVolumes));
+    }
+
+    /** Adds a component that is allocated once and shared by every object of this type. */
+    public void addSharedComponent(Class<?> componentType) {
+        sharedComponents.add(componentType);
+    }
+
+    /** Parameters for a render and sprite pair. */
+    public static final class Sprite {
+        public final int renderPriority;
+        public int initialAnimation;
+        public boolean randomAnimation;     // Start a random animation instead.
+
+        Sprite(int priority) {
+            renderPriority = priority;
+        }
+    }
+
+    /** Parameters for the LifetimeComponent. */
+    public static final class Lifetime {
+        public float timeUntilDeath;        // Seconds to live, or < 0 to live forever.
+        public boolean untilAnimationEnds;  // Live as long as one sprite's starting animation.
+        public int animationSprite;         // The sprite whose animation untilAnimationEnds uses.
+        public boolean dieWhenInvisible;
+        public GameObjectType spawnOnDeath;
+        public int deathSoundResource;
+
+        Lifetime() {
+            timeUntilDeath = -1.0f;
+            spawnOnDeath = GameObjectType.INVALID;
+            deathSoundResource = -1;
+        }
+    }
+
+    /** Parameters for the HitReactionComponent. */
+    public static final class HitReaction {
+        public boolean dieWhenCollected;
+        public boolean invincible;
+        public InventoryComponent.UpdateRecord inventoryUpdate;
+        public int takeHitSoundResource;
+        public int takeHitSoundHitType;
+
+        HitReaction() {
+            takeHitSoundResource = -1;
+        }
+    }
+
+    /** Parameters for the HitPlayerComponent. */
+    public static final class HitPlayer {
+        public final float distance;
+        public final int hitType;
+
+        HitPlayer(float hitDistance, int type) {
+            distance = hitDistance;
+            hitType = type;
+        }
+    }
+
+    /** A description of a shared animation, turned into a SpriteAnimation on compile. */
+    static final class Animation {
+        final int id;
+        final int[] frames;
+        final int[] frameTimes;
+        final boolean loop;
+        final FixedSizeArray<CollisionVolume> attackVolumes;
+        final FixedSizeArray<CollisionVolume> vulnerabilityVolumes;
+
+        Animation(int animationId, int[] frameResources, int[] frameHoldTimes, boolean looping,
+                FixedSizeArray<CollisionVolume> attack,
+                FixedSizeArray<CollisionVolume> vulnerability) {
+            id = animationId;
+            frames = frameResources;
+            frameTimes = frameHoldTimes;
+            loop = looping;
+            attackVolumes = attack;
+            vulnerabilityVolumes = vulnerability;
+        }
+    }
+}
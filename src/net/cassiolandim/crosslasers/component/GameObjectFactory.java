@@ -16,8 +16,6 @@
 
 package net.cassiolandim.crosslasers.component;
 
-import java.util.Comparator;
-
 import net.cassiolandim.crosslasers.AABoxCollisionVolume;
 import net.cassiolandim.crosslasers.AnimationFrame;
 import net.cassiolandim.crosslasers.BaseObject;
@@ -28,7 +26,9 @@ import net.cassiolandim.crosslasers.DrawableBitmap;
 import net.cassiolandim.crosslasers.FixedSizeArray;
 import net.cassiolandim.crosslasers.GameFlowEvent;
 import net.cassiolandim.crosslasers.GameObject;
+import net.cassiolandim.crosslasers.GameObjectHandleTable;
 import net.cassiolandim.crosslasers.GameObjectManager;
+import net.cassiolandim.crosslasers.LevelTree;
 import net.cassiolandim.crosslasers.R;
 import net.cassiolandim.crosslasers.SortConstants;
 import net.cassiolandim.crosslasers.SphereCollisionVolume;
@@ -57,10 +57,11 @@ import net.cassiolandim.crosslasers.system.SoundSystem;
 public class GameObjectFactory extends BaseObject {
 
 	private final static int MAX_GAME_OBJECTS = 384;
-    private final static ComponentPoolComparator sComponentPoolComparator = new ComponentPoolComparator();
+    private final static int LAZY_POOL_CHUNK = 16;
     private FixedSizeArray<FixedSizeArray<BaseObject>> mStaticData;
     private FixedSizeArray<GameComponentPool> mComponentPools;
-    private GameComponentPool mPoolSearchDummy;
+    private GameComponentPool[] mPoolsByType;  // Indexed by GameComponent type ID.
+    private GameObjectArchetype[] mArchetypes;  // Indexed by GameObjectType ordinal.
     private GameObjectPool mGameObjectPool;
     
     private float mTightActivationRadius;
@@ -191,7 +192,7 @@ public class GameObjectFactory extends BaseObject {
     public GameObjectFactory() {
         super();
         
-        mGameObjectPool = new GameObjectPool(MAX_GAME_OBJECTS);
+        mGameObjectPool = new GameObjectPool(MAX_GAME_OBJECTS, LAZY_POOL_CHUNK);
         
         final int objectTypeCount = GameObjectType.OBJECT_COUNT.ordinal();
         mStaticData = new FixedSizeArray<FixedSizeArray<BaseObject>>(objectTypeCount);
@@ -200,7 +201,7 @@ public class GameObjectFactory extends BaseObject {
             mStaticData.add(null);
         }
         
-        final ContextParameters context = sSystemRegistry.contextParameters;
+        final ContextParameters context = getSystemRegistry().contextParameters;
         final float halfHeight2 = (context.gameHeight * 0.5f) * (context.gameHeight * 0.5f);
         final float halfWidth2 = (context.gameWidth * 0.5f) * (context.gameWidth * 0.5f);
         final float screenSizeRadius = (float)Math.sqrt(halfHeight2 + halfWidth2);
@@ -261,14 +262,18 @@ public class GameObjectFactory extends BaseObject {
                 new ComponentClass(TheSourceComponent.class, 1),
         };
         
-        mComponentPools = new FixedSizeArray<GameComponentPool>(componentTypes.length, sComponentPoolComparator);
+        mComponentPools = new FixedSizeArray<GameComponentPool>(componentTypes.length);
+        mPoolsByType = new GameComponentPool[GameComponent.MAX_TYPE_IDS];
         for (int x = 0; x < componentTypes.length; x++) {
             ComponentClass component = componentTypes[x];
-            mComponentPools.add(new GameComponentPool(component.type, component.poolSize));
+            GameComponentPool pool = new GameComponentPool(component.type, component.poolSize,
+                    LAZY_POOL_CHUNK);
+            mComponentPools.add(pool);
+            mPoolsByType[GameComponent.getTypeId(component.type)] = pool;
         }
-        mComponentPools.sort(true);
         
-        mPoolSearchDummy = new GameComponentPool(Object.class, 1);
+        mArchetypes = new GameObjectArchetype[objectTypeCount];
+        registerArchetypes();
         
     }
     
@@ -278,17 +283,21 @@ public class GameObjectFactory extends BaseObject {
     }
     
     protected GameComponentPool getComponentPool(Class<?> componentType) {
-        GameComponentPool pool = null;
-        mPoolSearchDummy.objectClass = componentType;
-        final int index = mComponentPools.find(mPoolSearchDummy, false);
-        if (index != -1) {
-            pool = mComponentPools.get(index);
-        }
-        return pool;
+        return mPoolsByType[GameComponent.getTypeId(componentType)];
+    }
+    
+    /** Returns the pool for a component class by its TYPE_ID, without a class lookup. */
+    protected GameComponentPool getComponentPool(int typeId) {
+        return mPoolsByType[typeId];
     }
     
     protected GameComponent allocateComponent(Class<?> componentType) {
-        GameComponentPool pool = getComponentPool(componentType);
+        return allocateComponent(GameComponent.getTypeId(componentType));
+    }
+    
+    /** Allocates a component by its class's TYPE_ID.  Spawn methods should use this overload. */
+    protected GameComponent allocateComponent(int typeId) {
+        GameComponentPool pool = mPoolsByType[typeId];
         assert pool != null;
         GameComponent component = null;
         if (pool != null) {
@@ -297,8 +306,16 @@ public class GameObjectFactory extends BaseObject {
         return component;
     }
     
+    /** 
+     * Returns the live object a handle (see GameObject.getHandle()) refers to, or null if that
+     * object has been destroyed and recycled.
+     */
+    public GameObject resolve(int handle) {
+        return mGameObjectPool.resolve(handle);
+    }
+    
     public void releaseComponent(GameComponent component) {
-        GameComponentPool pool = getComponentPool(component.getClass());
+        GameComponentPool pool = mPoolsByType[component.typeId];
         assert pool != null;
         if (pool != null) {
             component.reset();
@@ -308,18 +325,61 @@ public class GameObjectFactory extends BaseObject {
     }
     
     protected boolean componentAvailable(Class<?> componentType, int count) {
+        return componentAvailable(GameComponent.getTypeId(componentType), count);
+    }
+    
+    protected boolean componentAvailable(int typeId, int count) {
     	boolean canAllocate = false;
-        GameComponentPool pool = getComponentPool(componentType);
+        GameComponentPool pool = mPoolsByType[typeId];
         assert pool != null;
         if (pool != null) {
-        	canAllocate = pool.getAllocatedCount() + count < pool.getSize();
+        	canAllocate = pool.getAllocatedCount() + count < pool.getLimit();
         }
         return canAllocate;
     }
     
+    /** 
+     * Creates pooled objects and components up front for a level, so that the pools don't have to
+     * create them in chunks during play.  See LevelTree.PoolEntry.  A level without a pool
+     * manifest gets every pool filled to its full size, as the pools were before they became
+     * lazy.  Allocates.
+     */
+    public void reservePools(LevelTree.Level level) {
+        final int entryCount = level.poolEntries.size();
+        if (entryCount == 0) {
+            mGameObjectPool.reserve(mGameObjectPool.getLimit());
+            final int poolCount = mComponentPools.getCount();
+            for (int x = 0; x < poolCount; x++) {
+                final GameComponentPool pool = mComponentPools.get(x);
+                pool.reserve(pool.getLimit());
+            }
+            return;
+        }
+        for (int x = 0; x < entryCount; x++) {
+            final LevelTree.PoolEntry entry = level.poolEntries.get(x);
+            if (entry.pool.equals("GameObject")) {
+                mGameObjectPool.reserve(entry.count);
+            } else {
+                GameComponentPool pool = null;
+                final int poolCount = mComponentPools.getCount();
+                for (int y = 0; y < poolCount; y++) {
+                    if (mComponentPools.get(y).objectClass.getSimpleName().equals(entry.pool)) {
+                        pool = mComponentPools.get(y);
+                        break;
+                    }
+                }
+                if (pool != null) {
+                    pool.reserve(entry.count);
+                } else {
+                    DebugLog.d("GameObjectFactory", "No pool for manifest entry " + entry.pool);
+                }
+            }
+        }
+    }
+    
     public void preloadEffects() {
         // These textures appear in every level, so they are long-term.
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().longTermTextureLibrary;
         textureLibrary.allocateTexture(R.drawable.dust01);
         textureLibrary.allocateTexture(R.drawable.dust02);
         textureLibrary.allocateTexture(R.drawable.dust03);
@@ -393,12 +453,6 @@ public class GameObjectFactory extends BaseObject {
             case PLAYER:
                 newObject = spawnPlayer(x, y);
                 break;
-            case COIN:
-                newObject = spawnCoin(x, y);
-                break;
-            case RUBY:
-                newObject = spawnRuby(x, y);
-                break;
             case WANDA:
                 newObject = spawnEnemyWanda(x, y, true);
                 break;
@@ -447,12 +501,6 @@ public class GameObjectFactory extends BaseObject {
             case PINK_NAMAZU:
                 newObject = spawnEnemyPinkNamazu(x, y, horzFlip);
                 break;
-            case BAT:
-                newObject = spawnEnemyBat(x, y, horzFlip);
-                break;
-            case STING:
-                newObject = spawnEnemySting(x, y, horzFlip);
-                break;
             case ONION:
                 newObject = spawnEnemyOnion(x, y, horzFlip);
                 break;
@@ -494,15 +542,6 @@ public class GameObjectFactory extends BaseObject {
             case THE_SOURCE:
             	newObject = spawnObjectTheSource(x, y);
             	break;
-            case DUST:
-                newObject = spawnDust(x, y, horzFlip);
-                break;
-            case EXPLOSION_SMALL:
-                newObject = spawnEffectExplosionSmall(x, y);
-                break;
-            case EXPLOSION_LARGE:
-                newObject = spawnEffectExplosionLarge(x, y);
-                break;
             case EXPLOSION_GIANT:
                 newObject = spawnEffectExplosionGiant(x, y);
                 break;
@@ -515,18 +554,6 @@ public class GameObjectFactory extends BaseObject {
             case INFINITE_SPAWNER:
             	newObject = spawnObjectInfiniteSpawner(x, y);
             	break;
-            case SMOKE_BIG:
-                newObject = spawnEffectSmokeBig(x, y);
-                break;
-            case SMOKE_SMALL:
-                newObject = spawnEffectSmokeSmall(x, y);
-                break;
-            case CRUSH_FLASH:
-                newObject = spawnEffectCrushFlash(x, y);
-                break;
-            case FLASH:
-                newObject = spawnEffectFlash(x, y);
-                break;
             
             case ENERGY_BALL:
                 newObject = spawnEnergyBall(x, y, horzFlip);
@@ -558,13 +585,17 @@ public class GameObjectFactory extends BaseObject {
             case GEM_EFFECT_SPAWNER:
             	newObject = spawnGemEffectSpawner(x, y);
             	break;
+            default:
+                // Types without a spawn method of their own are described by archetypes.
+                newObject = spawnArchetype(type, x, y, horzFlip);
+                break;
         }
         
         return newObject;
     }
 
 	public void spawnFromWorld(TiledWorld world) {
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         if (manager != null) {
             GameObjectType typePlayer = GameObjectType.indexToType(0);
             GameObject player = spawn(typePlayer, 100, 100, false);
@@ -614,6 +645,463 @@ public class GameObjectFactory extends BaseObject {
         }
     }
     
+    /** Describes the object types that are spawned from archetypes rather than spawn methods. */
+    private void registerArchetypes() {
+        registerEffectArchetypes();
+        registerPickupArchetypes();
+        registerEnemyArchetypes();
+    }
+    
+    private void registerEffectArchetypes() {
+        GameObjectArchetype dust = new GameObjectArchetype(GameObjectType.DUST);
+        dust.width = 32;
+        dust.height = 32;
+        dust.activationRadius = mTightActivationRadius;
+        dust.destroyOnDeactivation = true;
+        dust.flippable = true;
+        dust.addSprite(SortConstants.EFFECT);
+        dust.lifetime.timeUntilDeath = 0.30f;
+        dust.addAnimation(0, 
+                new int[] { R.drawable.dust01, R.drawable.dust02, R.drawable.dust03, 
+                        R.drawable.dust04, R.drawable.dust05 }, 
+                new int[] { 1, 1, 1, 1, 1 }, false, null);
+        registerArchetype(dust);
+        
+        FixedSizeArray<CollisionVolume> smallExplosionAttackVolume = 
+            new FixedSizeArray<CollisionVolume>(1);
+        smallExplosionAttackVolume.add(new SphereCollisionVolume(16, 16, 16, HitType.HIT));
+        
+        GameObjectArchetype smallExplosion = 
+            new GameObjectArchetype(GameObjectType.EXPLOSION_SMALL);
+        smallExplosion.width = 32;
+        smallExplosion.height = 32;
+        smallExplosion.activationRadius = mAlwaysActive;
+        smallExplosion.addSprite(SortConstants.EFFECT);
+        smallExplosion.collision = true;
+        smallExplosion.lifetime.untilAnimationEnds = true;
+        smallExplosion.addAnimation(0, 
+                new int[] { R.drawable.effect_explosion_small01, R.drawable.effect_explosion_small02,
+                        R.drawable.effect_explosion_small03, R.drawable.effect_explosion_small04,
+                        R.drawable.effect_explosion_small05, R.drawable.effect_explosion_small06,
+                        R.drawable.effect_explosion_small07 }, 
+                new int[] { 1, 1, 1, 1, 1, 1, 1 }, false, smallExplosionAttackVolume);
+        registerArchetype(smallExplosion);
+        
+        FixedSizeArray<CollisionVolume> largeExplosionAttackVolume = 
+            new FixedSizeArray<CollisionVolume>(1);
+        largeExplosionAttackVolume.add(new SphereCollisionVolume(32, 32, 32, HitType.HIT));
+        
+        GameObjectArchetype largeExplosion = 
+            new GameObjectArchetype(GameObjectType.EXPLOSION_LARGE);
+        largeExplosion.width = 64;
+        largeExplosion.height = 64;
+        largeExplosion.activationRadius = mAlwaysActive;
+        largeExplosion.addSprite(SortConstants.EFFECT);
+        largeExplosion.collision = true;
+        largeExplosion.lifetime.untilAnimationEnds = true;
+        largeExplosion.soundResource = R.raw.quick_explosion;
+        largeExplosion.addAnimation(0, 
+                new int[] { R.drawable.effect_explosion_big01, R.drawable.effect_explosion_big02,
+                        R.drawable.effect_explosion_big03, R.drawable.effect_explosion_big04,
+                        R.drawable.effect_explosion_big05, R.drawable.effect_explosion_big06,
+                        R.drawable.effect_explosion_big07, R.drawable.effect_explosion_big08,
+                        R.drawable.effect_explosion_big09 }, 
+                new int[] { 1, 1, 1, 1, 1, 1, 1, 1, 1 }, false, largeExplosionAttackVolume);
+        registerArchetype(largeExplosion);
+        
+        GameObjectArchetype smallSmoke = new GameObjectArchetype(GameObjectType.SMOKE_SMALL);
+        smallSmoke.width = 16;
+        smallSmoke.height = 16;
+        smallSmoke.activationRadius = mAlwaysActive;
+        smallSmoke.destroyOnDeactivation = true;
+        smallSmoke.optional = true;
+        smallSmoke.addSprite(SortConstants.EFFECT);
+        smallSmoke.lifetime.untilAnimationEnds = true;
+        smallSmoke.lifetime.dieWhenInvisible = true;
+        smallSmoke.addSharedComponent(MovementComponent.class);
+        smallSmoke.addAnimation(0, 
+                new int[] { R.drawable.effect_smoke_small01, R.drawable.effect_smoke_small02,
+                        R.drawable.effect_smoke_small03, R.drawable.effect_smoke_small04,
+                        R.drawable.effect_smoke_small05 }, 
+                new int[] { 10, 1, 1, 1, 1 }, false, null);
+        registerArchetype(smallSmoke);
+        
+        // Big smoke picks one of five animations that differ only in how long the first frame
+        // holds, so that a burst of smoke doesn't vanish all at once.
+        GameObjectArchetype bigSmoke = new GameObjectArchetype(GameObjectType.SMOKE_BIG);
+        bigSmoke.width = 32;
+        bigSmoke.height = 32;
+        bigSmoke.activationRadius = mTightActivationRadius;
+        bigSmoke.destroyOnDeactivation = true;
+        bigSmoke.optional = true;
+        bigSmoke.addSprite(SortConstants.EFFECT).randomAnimation = true;
+        bigSmoke.lifetime.untilAnimationEnds = true;
+        bigSmoke.lifetime.dieWhenInvisible = true;
+        bigSmoke.addSharedComponent(MovementComponent.class);
+        final int[] bigSmokeFrames = new int[] { R.drawable.effect_smoke_big01, 
+                R.drawable.effect_smoke_big02, R.drawable.effect_smoke_big03, 
+                R.drawable.effect_smoke_big04, R.drawable.effect_smoke_big05 };
+        final int[] bigSmokeFirstFrameTimes = new int[] { 10, 13, 8, 5, 15 };
+        for (int x = 0; x < bigSmokeFirstFrameTimes.length; x++) {
+            bigSmoke.addAnimation(x, bigSmokeFrames, 
+                    new int[] { bigSmokeFirstFrameTimes[x], 1, 1, 1, 1 }, false, null);
+        }
+        registerArchetype(bigSmoke);
+        
+        GameObjectArchetype flash = new GameObjectArchetype(GameObjectType.FLASH);
+        flash.width = 64;
+        flash.height = 64;
+        flash.activationRadius = mAlwaysActive;
+        flash.optional = true;
+        flash.addSprite(SortConstants.EFFECT);
+        flash.lifetime.untilAnimationEnds = true;
+        flash.addAnimation(0, 
+                new int[] { R.drawable.effect_crush_back01, R.drawable.effect_crush_back02,
+                        R.drawable.effect_crush_back03 }, 
+                new int[] { 1, 1, 1 }, false, null);
+        registerArchetype(flash);
+        
+        // The crush flash is the flash above with a second layer drawn over the victim.
+        GameObjectArchetype crushFlash = new GameObjectArchetype(GameObjectType.CRUSH_FLASH);
+        crushFlash.width = 64;
+        crushFlash.height = 64;
+        crushFlash.activationRadius = mAlwaysActive;
+        crushFlash.optional = true;
+        crushFlash.addSprite(SortConstants.EFFECT).initialAnimation = 0;
+        crushFlash.addSprite(SortConstants.FOREGROUND_EFFECT).initialAnimation = 1;
+        crushFlash.lifetime.untilAnimationEnds = true;
+        crushFlash.lifetime.animationSprite = 1;
+        crushFlash.addAnimation(0, 
+                new int[] { R.drawable.effect_crush_back01, R.drawable.effect_crush_back02,
+                        R.drawable.effect_crush_back03 }, 
+                new int[] { 1, 1, 1 }, false, null);
+        crushFlash.addAnimation(1, 
+                new int[] { R.drawable.effect_crush_front01, R.drawable.effect_crush_front02,
+                        R.drawable.effect_crush_front03, R.drawable.effect_crush_front04,
+                        R.drawable.effect_crush_front05, R.drawable.effect_crush_front06,
+                        R.drawable.effect_crush_front07 }, 
+                new int[] { 1, 1, 1, 1, 1, 1, 1 }, false, null);
+        registerArchetype(crushFlash);
+    }
+    
+    private void registerPickupArchetypes() {
+        InventoryComponent.UpdateRecord addCoin = new InventoryComponent.UpdateRecord();
+        addCoin.coinCount = 1;
+        
+        GameObjectArchetype coin = new GameObjectArchetype(GameObjectType.COIN);
+        coin.width = 16;
+        coin.height = 16;
+        coin.activationRadius = mTightActivationRadius;
+        coin.shortTermTextures = true;
+        coin.addSprite(SortConstants.GENERAL_OBJECT);
+        GameObjectArchetype.HitReaction coinReaction = coin.addHitReaction();
+        coinReaction.dieWhenCollected = true;
+        coinReaction.invincible = true;
+        coinReaction.inventoryUpdate = addCoin;
+        coinReaction.takeHitSoundResource = R.raw.ding;
+        coinReaction.takeHitSoundHitType = HitType.COLLECT;
+        // Coins are collected by distance rather than by collision volume.
+        coin.addHitPlayer(32, HitType.COLLECT);
+        coin.addAnimation(0, 
+                new int[] { R.drawable.object_coin01, R.drawable.object_coin02, 
+                        R.drawable.object_coin03, R.drawable.object_coin04, 
+                        R.drawable.object_coin05 }, 
+                new int[] { 30, 2, 2, 1, 2 }, true, null);
+        registerArchetype(coin);
+        
+        InventoryComponent.UpdateRecord addRuby = new InventoryComponent.UpdateRecord();
+        addRuby.rubyCount = 1;
+        
+        FixedSizeArray<CollisionVolume> rubyVulnerabilityVolume = 
+            new FixedSizeArray<CollisionVolume>(1);
+        rubyVulnerabilityVolume.add(new SphereCollisionVolume(16, 16, 16));
+        rubyVulnerabilityVolume.get(0).setHitType(HitType.COLLECT);
+        
+        GameObjectArchetype ruby = new GameObjectArchetype(GameObjectType.RUBY);
+        ruby.width = 32;
+        ruby.height = 32;
+        ruby.activationRadius = mTightActivationRadius;
+        ruby.shortTermTextures = true;
+        ruby.addSprite(SortConstants.GENERAL_OBJECT);
+        ruby.collision = true;
+        GameObjectArchetype.HitReaction rubyReaction = ruby.addHitReaction();
+        rubyReaction.dieWhenCollected = true;
+        rubyReaction.invincible = true;
+        rubyReaction.inventoryUpdate = addRuby;
+        ruby.lifetime.spawnOnDeath = GameObjectType.GEM_EFFECT_SPAWNER;
+        ruby.addAnimation(0, 
+                new int[] { R.drawable.object_ruby01, R.drawable.object_ruby02, 
+                        R.drawable.object_ruby03, R.drawable.object_ruby04, 
+                        R.drawable.object_ruby05 }, 
+                new int[] { 48, 2, 1, 1, 2 }, true, null, rubyVulnerabilityVolume);
+        registerArchetype(ruby);
+    }
+    
+    private void registerEnemyArchetypes() {
+        // Bats and stings are hit anywhere on their bodies and hurt the player the same way.
+        FixedSizeArray<CollisionVolume> flyerVulnerabilityVolume = 
+            new FixedSizeArray<CollisionVolume>(1);
+        flyerVulnerabilityVolume.add(new SphereCollisionVolume(16, 32, 16));
+        flyerVulnerabilityVolume.get(0).setHitType(HitType.HIT);
+        
+        FixedSizeArray<CollisionVolume> flyerAttackVolume = 
+            new FixedSizeArray<CollisionVolume>(1);
+        flyerAttackVolume.add(new SphereCollisionVolume(16, 32, 16, HitType.HIT));
+        
+        GameObjectArchetype bat = new GameObjectArchetype(GameObjectType.BAT);
+        bat.width = 64;
+        bat.height = 32;
+        registerFlyingEnemy(bat, 75.0f, new int[] { R.drawable.enemy_bat01, 
+                R.drawable.enemy_bat02, R.drawable.enemy_bat03, R.drawable.enemy_bat04 }, 
+                flyerAttackVolume, flyerVulnerabilityVolume);
+        
+        GameObjectArchetype sting = new GameObjectArchetype(GameObjectType.STING);
+        sting.width = 64;
+        sting.height = 64;
+        registerFlyingEnemy(sting, 25.0f, new int[] { R.drawable.enemy_sting01, 
+                R.drawable.enemy_sting02, R.drawable.enemy_sting03 }, 
+                flyerAttackVolume, flyerVulnerabilityVolume);
+    }
+    
+    /** 
+     * Fills in and registers an enemy that flies back and forth at speed, playing a looping
+     * animation with one frame per 24th of a second, and dies in a puff of smoke.
+     */
+    private void registerFlyingEnemy(GameObjectArchetype enemy, float speed, int[] frames,
+            FixedSizeArray<CollisionVolume> attackVolume, 
+            FixedSizeArray<CollisionVolume> vulnerabilityVolume) {
+        enemy.activationRadius = mNormalActivationRadius;
+        enemy.flippable = true;
+        enemy.team = Team.ENEMY;
+        // HACK.  These guys originally moved on their own, so let's keep them that way.
+        enemy.speed = speed;
+        enemy.shortTermTextures = true;
+        enemy.addSprite(SortConstants.GENERAL_ENEMY);
+        enemy.collision = true;
+        enemy.addHitReaction();
+        enemy.enemyAnimation = true;
+        enemy.lifetime.spawnOnDeath = GameObjectType.SMOKE_POOF;
+        enemy.lifetime.deathSoundResource = R.raw.sound_stomp;
+        enemy.addSharedComponent(MovementComponent.class);
+        final int[] frameTimes = new int[frames.length];
+        for (int x = 0; x < frameTimes.length; x++) {
+            frameTimes[x] = 1;
+        }
+        enemy.addAnimation(0, frames, frameTimes, true, attackVolume, vulnerabilityVolume);
+        registerArchetype(enemy);
+    }
+    
+    private void registerArchetype(GameObjectArchetype archetype) {
+        assert mArchetypes[archetype.type.ordinal()] == null;
+        assert archetype.sprites.getCount() > 0;
+        mArchetypes[archetype.type.ordinal()] = archetype;
+    }
+    
+    /** 
+     * Turns an archetype into a spawn plan: resolves its component pools (once) and builds its 
+     * shared animations and components and loads its sounds (whenever the static data has been
+     * cleared).
+     */
+    private void compileArchetype(GameObjectArchetype archetype) {
+        if (!archetype.compiled) {
+            archetype.renderPool = getComponentPool(RenderComponent.TYPE_ID);
+            archetype.spritePool = getComponentPool(SpriteComponent.TYPE_ID);
+            archetype.lifetimePool = getComponentPool(LifetimeComponent.TYPE_ID);
+            if (archetype.collision) {
+                archetype.collisionPool = getComponentPool(DynamicCollisionComponent.TYPE_ID);
+            }
+            if (archetype.hitReaction != null) {
+                archetype.hitReactionPool = getComponentPool(HitReactionComponent.TYPE_ID);
+            }
+            if (archetype.hitPlayer != null) {
+                archetype.hitPlayerPool = getComponentPool(HitPlayerComponent.TYPE_ID);
+            }
+            if (archetype.enemyAnimation) {
+                archetype.enemyAnimationPool = getComponentPool(EnemyAnimationComponent.TYPE_ID);
+            }
+            if (archetype.soundResource != -1) {
+                archetype.soundPool = getComponentPool(PlaySingleSoundComponent.TYPE_ID);
+            }
+            archetype.compiled = true;
+        }
+        
+        if (getStaticData(archetype.type) == null) {
+            // Level-specific textures are loaded with the level; the rest are preloaded.
+            final boolean shortTerm = archetype.shortTermTextures;
+            TextureLibrary textureLibrary = shortTerm 
+                ? getSystemRegistry().shortTermTextureLibrary 
+                : getSystemRegistry().longTermTextureLibrary;
+            final FixedSizeArray<Class<?>> sharedComponents = archetype.sharedComponents;
+            final FixedSizeArray<GameObjectArchetype.Animation> animations = archetype.animations;
+            FixedSizeArray<BaseObject> staticData = new FixedSizeArray<BaseObject>(
+                    sharedComponents.getCount() + animations.getCount());
+            
+            for (int x = 0; x < sharedComponents.getCount(); x++) {
+                staticData.add(allocateComponent(sharedComponents.get(x)));
+            }
+            
+            for (int x = 0; x < animations.getCount(); x++) {
+                final GameObjectArchetype.Animation description = animations.get(x);
+                SpriteAnimation animation = 
+                    new SpriteAnimation(description.id, description.frames.length);
+                for (int y = 0; y < description.frames.length; y++) {
+                    final int resource = description.frames[y];
+                    animation.addFrame(new AnimationFrame(
+                            shortTerm ? textureLibrary.allocateTexture(resource) 
+                                    : textureLibrary.getTextureByResource(resource),
+                            Utils.framesToTime(24, description.frameTimes[y]), 
+                            description.attackVolumes, description.vulnerabilityVolumes));
+                }
+                animation.setLoop(description.loop);
+                staticData.add(animation);
+            }
+            setStaticData(archetype.type, staticData);
+            
+            SoundSystem sound = getSystemRegistry().soundSystem;
+            archetype.sound = null;
+            archetype.deathSound = null;
+            archetype.takeHitSound = null;
+            if (sound != null) {
+                if (archetype.soundResource != -1) {
+                    archetype.sound = sound.load(archetype.soundResource);
+                }
+                if (archetype.lifetime.deathSoundResource != -1) {
+                    archetype.deathSound = sound.load(archetype.lifetime.deathSoundResource);
+                }
+                if (archetype.hitReaction != null 
+                        && archetype.hitReaction.takeHitSoundResource != -1) {
+                    archetype.takeHitSound = 
+                        sound.load(archetype.hitReaction.takeHitSoundResource);
+                }
+            }
+        }
+    }
+    
+    /** Spawns an object from its type's archetype.  See registerArchetypes(). */
+    private GameObject spawnArchetype(GameObjectType type, float positionX, float positionY, 
+            boolean flipHorizontal) {
+        final GameObjectArchetype archetype = mArchetypes[type.ordinal()];
+        assert archetype != null : "No spawn method or archetype for " + type;
+        GameObject object = null;
+        // Optional objects are just effects, so we can live without them if our pools are 
+        // exhausted.
+        if (archetype != null && (!archetype.optional 
+                || componentAvailable(RenderComponent.TYPE_ID, archetype.sprites.getCount()))) {
+            compileArchetype(archetype);
+            
+            object = mGameObjectPool.allocate();
+            object.getPosition().set(positionX, positionY);
+            object.activationRadius = archetype.activationRadius;
+            object.width = archetype.width;
+            object.height = archetype.height;
+            object.destroyOnDeactivation = archetype.destroyOnDeactivation;
+            object.team = archetype.team;
+            object.life = archetype.life;
+            if (archetype.flippable && flipHorizontal) {
+                object.facingDirection.x = -1.0f;
+            }
+            if (archetype.speed != 0.0f) {
+                object.getVelocity().x = archetype.speed * object.facingDirection.x;
+                object.getTargetVelocity().x = archetype.speed * object.facingDirection.x;
+            }
+            
+            final GameObjectArchetype.Lifetime lifetimeParameters = archetype.lifetime;
+            LifetimeComponent lifetime = (LifetimeComponent)archetype.lifetimePool.allocate();
+            lifetime.setTimeUntilDeath(lifetimeParameters.timeUntilDeath);
+            lifetime.setDieWhenInvisible(lifetimeParameters.dieWhenInvisible);
+            lifetime.setObjectToSpawnOnDeath(lifetimeParameters.spawnOnDeath);
+            lifetime.setDeathSound(archetype.deathSound);
+            // As in the hand-written spawn methods, objects that can be hit check their lifetime
+            // after their hit components, so a killing hit takes effect the same frame.
+            final boolean canBeHit = 
+                archetype.hitReactionPool != null || archetype.hitPlayerPool != null;
+            if (!canBeHit) {
+                object.add(lifetime);
+            }
+            
+            // Every sprite gets every shared animation; the object takes the shared components.
+            SpriteComponent firstSprite = null;
+            final FixedSizeArray<GameObjectArchetype.Sprite> sprites = archetype.sprites;
+            final int spriteCount = sprites.getCount();
+            for (int x = 0; x < spriteCount; x++) {
+                final GameObjectArchetype.Sprite spriteParameters = sprites.get(x);
+                RenderComponent render = (RenderComponent)archetype.renderPool.allocate();
+                render.setPriority(spriteParameters.renderPriority);
+                
+                SpriteComponent sprite = (SpriteComponent)archetype.spritePool.allocate();
+                sprite.setSize(archetype.width, archetype.height);
+                sprite.setRenderComponent(render);
+                object.add(render);
+                object.add(sprite);
+                addStaticData(type, x == 0 ? object : null, sprite);
+                
+                int animation = spriteParameters.initialAnimation;
+                if (spriteParameters.randomAnimation) {
+                    animation = (int)(Math.random() * sprite.getAnimationCount());
+                }
+                sprite.playAnimation(animation);
+                if (lifetimeParameters.untilAnimationEnds 
+                        && x == lifetimeParameters.animationSprite) {
+                    final SpriteAnimation playing = sprite.findAnimation(animation);
+                    if (playing != null) {
+                        lifetime.setTimeUntilDeath(playing.getLength());
+                    }
+                }
+                if (firstSprite == null) {
+                    firstSprite = sprite;
+                }
+            }
+            
+            HitReactionComponent hitReact = null;
+            if (archetype.hitReactionPool != null) {
+                final GameObjectArchetype.HitReaction hitParameters = archetype.hitReaction;
+                hitReact = (HitReactionComponent)archetype.hitReactionPool.allocate();
+                hitReact.setDieWhenCollected(hitParameters.dieWhenCollected);
+                hitReact.setInvincible(hitParameters.invincible);
+                if (hitParameters.inventoryUpdate != null) {
+                    hitReact.setInventoryUpdate(hitParameters.inventoryUpdate);
+                }
+                if (archetype.takeHitSound != null) {
+                    hitReact.setTakeHitSound(hitParameters.takeHitSoundHitType, 
+                            archetype.takeHitSound);
+                }
+                object.add(hitReact);
+            }
+            if (archetype.collisionPool != null) {
+                DynamicCollisionComponent collision = 
+                    (DynamicCollisionComponent)archetype.collisionPool.allocate();
+                firstSprite.setCollisionComponent(collision);
+                if (hitReact != null) {
+                    collision.setHitReactionComponent(hitReact);
+                }
+                object.add(collision);
+            }
+            if (archetype.hitPlayerPool != null) {
+                HitPlayerComponent hitPlayer = 
+                    (HitPlayerComponent)archetype.hitPlayerPool.allocate();
+                hitPlayer.setup(archetype.hitPlayer.distance, hitReact, 
+                        archetype.hitPlayer.hitType, false);
+                object.add(hitPlayer);
+            }
+            if (archetype.enemyAnimationPool != null) {
+                EnemyAnimationComponent animation = 
+                    (EnemyAnimationComponent)archetype.enemyAnimationPool.allocate();
+                animation.setSprite(firstSprite);
+                object.add(animation);
+            }
+            if (archetype.soundPool != null) {
+                PlaySingleSoundComponent soundEffect = 
+                    (PlaySingleSoundComponent)archetype.soundPool.allocate();
+                soundEffect.setSound(archetype.sound);
+                object.add(soundEffect);
+            }
+            if (canBeHit) {
+                object.add(lifetime);
+            }
+        }
+        return object;
+    }
+    
     public void clearStaticData() {
         final int typeCount = mStaticData.getCount();
         for (int x = 0; x < typeCount; x++) {
@@ -653,10 +1141,12 @@ public class GameObjectFactory extends BaseObject {
                 //assert false;
             }
         }
+        
+        getSystemRegistry().reportPools("Pool Usage");
     }
     
     public GameObject spawnPlayer(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(positionX, positionY - 300);
@@ -670,8 +1160,8 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 13;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent movement = allocateComponent(PlayerMovementComponent.class);
-            PhysicsComponent physics = (PhysicsComponent)allocateComponent(PhysicsComponent.class);
+            GameComponent movement = allocateComponent(PlayerMovementComponent.TYPE_ID);
+            PhysicsComponent physics = (PhysicsComponent)allocateComponent(PhysicsComponent.TYPE_ID);
 
             physics.setMass(9.1f);   // ~90kg w/ earth gravity
             physics.setDynamicFrictionCoeffecient(0.2f);
@@ -828,14 +1318,14 @@ public class GameObjectFactory extends BaseObject {
         }
         
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.PLAYER);
-        PlayerComponent player = (PlayerComponent)allocateComponent(PlayerComponent.class);
+        PlayerComponent player = (PlayerComponent)allocateComponent(PlayerComponent.TYPE_ID);
         AnimationComponent animation =
-            (AnimationComponent)allocateComponent(AnimationComponent.class);
+            (AnimationComponent)allocateComponent(AnimationComponent.TYPE_ID);
 
         animation.setPlayer(player);
-        SoundSystem sound = sSystemRegistry.soundSystem;
+        SoundSystem sound = getSystemRegistry().soundSystem;
         if (sound != null) {
             animation.setLandThump(sound.load(R.raw.thump));
             animation.setRocketSound(sound.load(R.raw.rockets));
@@ -844,7 +1334,7 @@ public class GameObjectFactory extends BaseObject {
         }
         
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         animation.setSprite(sprite);
@@ -852,10 +1342,10 @@ public class GameObjectFactory extends BaseObject {
 
         
         DynamicCollisionComponent dynamicCollision 
-            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         hitReact.setBounceOnHit(true);
         hitReact.setPauseOnAttack(true);
         hitReact.setInvincibleTime(3.0f);
@@ -869,16 +1359,16 @@ public class GameObjectFactory extends BaseObject {
         
         player.setHitReactionComponent(hitReact);
         
-        InventoryComponent inventory = (InventoryComponent)allocateComponent(InventoryComponent.class);
+        InventoryComponent inventory = (InventoryComponent)allocateComponent(InventoryComponent.TYPE_ID);
 
         player.setInventory(inventory);
         animation.setInventory(inventory);
         
-        ChangeComponentsComponent damageSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.class);
+        ChangeComponentsComponent damageSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.TYPE_ID);
         animation.setDamageSwap(damageSwap);
         
         LaunchProjectileComponent smokeGun 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         smokeGun.setDelayBetweenShots(0.25f);
         smokeGun.setObjectTypeToSpawn(GameObjectType.SMOKE_BIG);
         smokeGun.setOffsetX(32);
@@ -888,7 +1378,7 @@ public class GameObjectFactory extends BaseObject {
         smokeGun.setThetaError(0.1f);
         
         LaunchProjectileComponent smokeGun2 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         smokeGun2.setDelayBetweenShots(0.35f);
         smokeGun2.setObjectTypeToSpawn(GameObjectType.SMOKE_SMALL);
         smokeGun2.setOffsetX(16);
@@ -901,7 +1391,7 @@ public class GameObjectFactory extends BaseObject {
         damageSwap.addSwapInComponent(smokeGun2);
         damageSwap.setPingPongBehavior(true);
         
-        ChangeComponentsComponent invincibleSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.class);
+        ChangeComponentsComponent invincibleSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.TYPE_ID);
         invincibleSwap.setPingPongBehavior(true);
         player.setInvincibleSwap(invincibleSwap);
 
@@ -909,7 +1399,7 @@ public class GameObjectFactory extends BaseObject {
         object.team = Team.PLAYER;
         
         // Very very basic DDA.  Make the game easier if we've died on this level too much.
-        LevelSystem level = sSystemRegistry.levelSystem;
+        LevelSystem level = getSystemRegistry().levelSystem;
         if (level != null) { 
         	player.adjustDifficulty(object, level.getAttemptsCount());
         }
@@ -950,10 +1440,10 @@ public class GameObjectFactory extends BaseObject {
                 setStaticData(GameObjectType.PLAYER_JETS, jetStaticData);
             }
             
-            RenderComponent jetRender = (RenderComponent)allocateComponent(RenderComponent.class);
+            RenderComponent jetRender = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
             jetRender.setPriority(SortConstants.PLAYER - 1);
             jetRender.setDrawOffset(0.0f, -16.0f);
-            SpriteComponent jetSprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+            SpriteComponent jetSprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
             jetSprite.setSize(64, 64);
             jetSprite.setRenderComponent(jetRender);
             
@@ -990,9 +1480,9 @@ public class GameObjectFactory extends BaseObject {
                 setStaticData(GameObjectType.PLAYER_SPARKS, sparksStaticData);
             }
             
-            RenderComponent sparksRender = (RenderComponent)allocateComponent(RenderComponent.class);
+            RenderComponent sparksRender = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
             sparksRender.setPriority(SortConstants.PLAYER + 1);
-            SpriteComponent sparksSprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+            SpriteComponent sparksSprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
             sparksSprite.setSize(64, 64);
             sparksSprite.setRenderComponent(sparksRender);
             
@@ -1033,18 +1523,18 @@ public class GameObjectFactory extends BaseObject {
                 setStaticData(GameObjectType.PLAYER_GLOW, glowStaticData);
             }
             
-            RenderComponent glowRender = (RenderComponent)allocateComponent(RenderComponent.class);
+            RenderComponent glowRender = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
             glowRender.setPriority(SortConstants.PLAYER + 1);
             glowRender.setDrawOffset(0, -5.0f);
-            SpriteComponent glowSprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+            SpriteComponent glowSprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
             glowSprite.setSize(64, 64);
             glowSprite.setRenderComponent(glowRender);
             
             DynamicCollisionComponent glowCollision 
-                = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+                = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
             glowSprite.setCollisionComponent(glowCollision);
             
-            FadeDrawableComponent glowFade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.class);
+            FadeDrawableComponent glowFade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.TYPE_ID);
             glowFade.setupFade(1.0f, 0.0f, 0.15f, 
             		FadeDrawableComponent.LOOP_TYPE_PING_PONG, 
             		FadeDrawableComponent.FADE_EASE, 
@@ -1072,7 +1562,7 @@ public class GameObjectFactory extends BaseObject {
         FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.ENEMY_SPARKS);
         if (staticData == null) {
             staticData = new FixedSizeArray<BaseObject>(1);
-            TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+            TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
             SpriteAnimation sparksAnim = new SpriteAnimation(0, 13);
             AnimationFrame frame1 = 
@@ -1106,7 +1596,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemyBrobot(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -1120,9 +1610,9 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 5;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.4f);
 
             
@@ -1173,47 +1663,47 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.BROBOT, staticData);
             
         }
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_ENEMY);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
  
         EnemyAnimationComponent animation 
-            = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
+            = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
         DynamicCollisionComponent collision 
-            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
         HitReactionComponent hitReact 
-            = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+            = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setObjectToSpawnOnDeath(GameObjectType.EXPLOSION_GIANT);
         lifetime.setVulnerableToDeathTiles(true);
         
-        GhostComponent ghost = (GhostComponent)allocateComponent(GhostComponent.class);
+        GhostComponent ghost = (GhostComponent)allocateComponent(GhostComponent.TYPE_ID);
         ghost.setMovementSpeed(500.0f);
         ghost.setAcceleration(1000.0f);
         ghost.setJumpImpulse(300.0f);
         ghost.setKillOnRelease(true);
         ghost.setDelayOnRelease(1.5f);
         
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	ghost.setAmbientSound(sound.load(R.raw.sound_possession));
         }
         
         ChangeComponentsComponent ghostSwap 
-            = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.class);
+            = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.TYPE_ID);
         ghostSwap.addSwapInComponent(ghost);
         
-        SimplePhysicsComponent ghostPhysics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+        SimplePhysicsComponent ghostPhysics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
         ghostPhysics.setBounciness(0.0f);
         
         object.add(render);
@@ -1247,9 +1737,9 @@ public class GameObjectFactory extends BaseObject {
         // Sparks
         setupEnemySparks();
         
-        RenderComponent sparksRender = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent sparksRender = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         sparksRender.setPriority(render.getPriority() + 1);
-        SpriteComponent sparksSprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sparksSprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sparksSprite.setSize(64, 64);
         sparksSprite.setRenderComponent(sparksRender);
         
@@ -1268,7 +1758,7 @@ public class GameObjectFactory extends BaseObject {
     
     public GameObject spawnEnemySnailBomb(float positionX, float positionY, boolean flipHorizontal) {
         
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         // Make sure related textures are loaded.
@@ -1285,9 +1775,9 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 6;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
-            GameComponent physics = allocateComponent(SimplePhysicsComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
+            GameComponent physics = allocateComponent(SimplePhysicsComponent.TYPE_ID);
 
             // Animations
             FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = 
@@ -1340,35 +1830,35 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.SNAILBOMB, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_ENEMY);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
 
         EnemyAnimationComponent animation 
-            = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
+            = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
         DynamicCollisionComponent collision 
-            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
         HitReactionComponent hitReact 
-            = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+            = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setVulnerableToDeathTiles(true);
         lifetime.setObjectToSpawnOnDeath(GameObjectType.SMOKE_POOF);
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	lifetime.setDeathSound(sound.load(R.raw.sound_stomp));
         }
         
         LaunchProjectileComponent gun 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         gun.setSetsPerActivation(1);
         gun.setShotsPerSet(3);
         gun.setDelayBeforeFirstSet(1.0f);
@@ -1407,7 +1897,7 @@ public class GameObjectFactory extends BaseObject {
     
     public GameObject spawnEnemyShadowSlime(float positionX, float positionY, boolean flipHorizontal) {
         
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         // Make sure related textures are loaded.
@@ -1427,7 +1917,7 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 5;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
              
-            PopOutComponent popOut = (PopOutComponent)allocateComponent(PopOutComponent.class);
+            PopOutComponent popOut = (PopOutComponent)allocateComponent(PopOutComponent.TYPE_ID);
             popOut.setAppearDistance(150);
             popOut.setHideDistance(190);
             
@@ -1534,10 +2024,10 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.SHADOWSLIME, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_ENEMY);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
 
@@ -1545,28 +2035,28 @@ public class GameObjectFactory extends BaseObject {
         sprite.playAnimation(0);
                 
         EnemyAnimationComponent animation 
-            = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
+            = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         animation.setFacePlayer(true);
         
 
         DynamicCollisionComponent collision 
-            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
         HitReactionComponent hitReact 
-            = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+            = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setObjectToSpawnOnDeath(GameObjectType.SMOKE_POOF);
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	lifetime.setDeathSound(sound.load(R.raw.sound_stomp));
         }
         
         LaunchProjectileComponent gun 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         
       
         gun.setShotsPerSet(1);
@@ -1610,7 +2100,7 @@ public class GameObjectFactory extends BaseObject {
     }
 
     public GameObject spawnEnemyMudman(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
     
         GameObject object = mGameObjectPool.allocate();
@@ -1624,13 +2114,13 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 7;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            GameComponent physics = allocateComponent(SimplePhysicsComponent.class);
+            GameComponent physics = allocateComponent(SimplePhysicsComponent.TYPE_ID);
             
             SolidSurfaceComponent solidSurface 
-                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.class);
+                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.TYPE_ID);
             solidSurface.inititalize(4);
             // house shape:
             // / \      1/ \2
@@ -1736,26 +2226,26 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.MUDMAN, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_ENEMY);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
     
         sprite.playAnimation(0);
             
-        EnemyAnimationComponent animation = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
+        EnemyAnimationComponent animation = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
 
         object.team = Team.ENEMY;
         object.life = 1;
@@ -1779,7 +2269,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemySkeleton(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -1793,12 +2283,12 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 7;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            GameComponent physics = allocateComponent(SimplePhysicsComponent.class);
+            GameComponent physics = allocateComponent(SimplePhysicsComponent.TYPE_ID);
 
-            SolidSurfaceComponent solidSurface = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.class);
+            SolidSurfaceComponent solidSurface = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.TYPE_ID);
             solidSurface.inititalize(4);
          
             Vector2 surface1Start = new Vector2(25, 0);
@@ -1871,26 +2361,26 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.SKELETON, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_ENEMY);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        EnemyAnimationComponent animation = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
+        EnemyAnimationComponent animation = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setVulnerableToDeathTiles(true);
         lifetime.setObjectToSpawnOnDeath(GameObjectType.SMOKE_POOF);
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	lifetime.setDeathSound(sound.load(R.raw.sound_stomp));
         }
@@ -1917,7 +2407,7 @@ public class GameObjectFactory extends BaseObject {
     
     
     public GameObject spawnEnemyKaraguin(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -1931,7 +2421,7 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 2;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
            
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
             FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = 
                 new FixedSizeArray<CollisionVolume>(1);
@@ -1961,27 +2451,27 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.KARAGUIN, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_ENEMY);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
          
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setObjectToSpawnOnDeath(GameObjectType.SMOKE_POOF);
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	lifetime.setDeathSound(sound.load(R.raw.sound_stomp));
         }
         
-        EnemyAnimationComponent animation = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
+        EnemyAnimationComponent animation = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
         object.team = Team.ENEMY;
@@ -2008,7 +2498,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemyPinkNamazu(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
     
         GameObject object = mGameObjectPool.allocate();
@@ -2022,13 +2512,13 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 7;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            GameComponent physics = allocateComponent(SimplePhysicsComponent.class);
+            GameComponent physics = allocateComponent(SimplePhysicsComponent.TYPE_ID);
             
             SolidSurfaceComponent solidSurface 
-                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.class);
+                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.TYPE_ID);
             solidSurface.inititalize(5);
             // circle shape:
             //  __        __3
@@ -2119,25 +2609,25 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.PINK_NAMAZU, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_ENEMY);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
                    
         GenericAnimationComponent animation = 
-            (GenericAnimationComponent)allocateComponent(GenericAnimationComponent.class);
+            (GenericAnimationComponent)allocateComponent(GenericAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
-        SleeperComponent sleeper = (SleeperComponent)allocateComponent(SleeperComponent.class);
+        SleeperComponent sleeper = (SleeperComponent)allocateComponent(SleeperComponent.TYPE_ID);
         sleeper.setAttackImpulse(100.0f, 170.0f);
         sleeper.setSlam(0.3f, 25.0f);
         
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
 
@@ -2168,196 +2658,8 @@ public class GameObjectFactory extends BaseObject {
         return object;
     }
     
-    public GameObject spawnEnemyBat(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
-        
-
-        GameObject object = mGameObjectPool.allocate();
-        object.getPosition().set(positionX, positionY);
-        object.activationRadius = mNormalActivationRadius;
-        object.width = 64;
-        object.height = 32;
-        
-        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.BAT);
-        if (staticData == null) {
-            final int staticObjectCount = 2;
-            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-           
-            GameComponent movement = allocateComponent(MovementComponent.class);
-            
-            FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = 
-                new FixedSizeArray<CollisionVolume>(1);
-            basicVulnerabilityVolume.add(new SphereCollisionVolume(16, 32, 16));
-            basicVulnerabilityVolume.get(0).setHitType(HitType.HIT);
-            
-            FixedSizeArray<CollisionVolume> basicAttackVolume = 
-                new FixedSizeArray<CollisionVolume>(1);
-            basicAttackVolume.add(new SphereCollisionVolume(16, 32, 16, HitType.HIT));
-            
-            SpriteAnimation idle = new SpriteAnimation(0, 4);
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.enemy_bat01), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.enemy_bat02), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.enemy_bat03), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.enemy_bat04), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, basicVulnerabilityVolume));
-            idle.setLoop(true);
-           
-            staticData.add(movement);
-            staticData.add(idle);
-            
-            
-            setStaticData(GameObjectType.BAT, staticData);
-        }
-        
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-        render.setPriority(SortConstants.GENERAL_ENEMY);
-        
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-        sprite.setSize((int)object.width, (int)object.height);
-        sprite.setRenderComponent(render);
-         
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
-        sprite.setCollisionComponent(collision);
-        
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
-        collision.setHitReactionComponent(hitReact);
-        
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-        lifetime.setObjectToSpawnOnDeath(GameObjectType.SMOKE_POOF);
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
-        if (sound != null) {
-        	lifetime.setDeathSound(sound.load(R.raw.sound_stomp));
-        }
-
-        EnemyAnimationComponent animation = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
-        animation.setSprite(sprite);
-        
-        object.team = Team.ENEMY;
-        
-        if (flipHorizontal) {
-            object.facingDirection.x = -1.0f;
-        }
-                
-        // HACK.  These guys originally moved on their own, so let's keep them that way.
-        object.getVelocity().x = 75.0f * object.facingDirection.x;
-        object.getTargetVelocity().x = 75.0f * object.facingDirection.x;
-        
-        object.add(render);
-        object.add(animation);
-        object.add(sprite);
-        object.add(collision);
-        object.add(hitReact);
-        object.add(lifetime);
-        
-        addStaticData(GameObjectType.BAT, object, sprite);
-        
-        sprite.playAnimation(0);
-
-        return object;
-    }
-    
-    public GameObject spawnEnemySting(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
-        
-
-        GameObject object = mGameObjectPool.allocate();
-        object.getPosition().set(positionX, positionY);
-        object.activationRadius = mNormalActivationRadius;
-        object.width = 64;
-        object.height = 64;
-        
-        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.STING);
-        if (staticData == null) {
-            final int staticObjectCount = 2;
-            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-           
-            GameComponent movement = allocateComponent(MovementComponent.class);
-            
-            FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = 
-                new FixedSizeArray<CollisionVolume>(1);
-            basicVulnerabilityVolume.add(new SphereCollisionVolume(16, 32, 16));
-            basicVulnerabilityVolume.get(0).setHitType(HitType.HIT);
-            
-            FixedSizeArray<CollisionVolume> basicAttackVolume = 
-                new FixedSizeArray<CollisionVolume>(1);
-            basicAttackVolume.add(new SphereCollisionVolume(16, 32, 16, HitType.HIT));
-            
-            SpriteAnimation idle = new SpriteAnimation(0, 3);
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.enemy_sting01), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.enemy_sting02), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.enemy_sting03), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, basicVulnerabilityVolume));
-           
-            idle.setLoop(true);
-           
-            staticData.add(movement);
-            staticData.add(idle);
-            
-            
-            setStaticData(GameObjectType.STING, staticData);
-        }
-        
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-        render.setPriority(SortConstants.GENERAL_ENEMY);
-        
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-        sprite.setSize((int)object.width, (int)object.height);
-        sprite.setRenderComponent(render);
-         
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
-        sprite.setCollisionComponent(collision);
-        
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
-        collision.setHitReactionComponent(hitReact);
-        
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-        lifetime.setObjectToSpawnOnDeath(GameObjectType.SMOKE_POOF);
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
-        if (sound != null) {
-        	lifetime.setDeathSound(sound.load(R.raw.sound_stomp));
-        }
-        
-        EnemyAnimationComponent animation = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
-        animation.setSprite(sprite);
-        
-        object.team = Team.ENEMY;
-        
-        if (flipHorizontal) {
-            object.facingDirection.x = -1.0f;
-        }
-                
-        // HACK.  These guys originally moved on their own, so let's keep them that way.
-        object.getVelocity().x = 25.0f * object.facingDirection.x;
-        object.getTargetVelocity().x = 25.0f * object.facingDirection.x;
-        
-        object.add(render);
-        object.add(animation);
-        object.add(sprite);
-        object.add(collision);
-        object.add(hitReact);
-        object.add(lifetime);
-        
-        addStaticData(GameObjectType.STING, object, sprite);
-        
-        sprite.playAnimation(0);
-
-        return object;
-    }
-    
     public GameObject spawnEnemyOnion(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(positionX, positionY);
@@ -2370,9 +2672,9 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 5;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.2f);
 
             
@@ -2413,29 +2715,29 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.ONION, staticData);
             
         }
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_ENEMY);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
  
         EnemyAnimationComponent animation 
-            = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.class);
+            = (EnemyAnimationComponent)allocateComponent(EnemyAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
         DynamicCollisionComponent collision 
-            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
         HitReactionComponent hitReact 
-            = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+            = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setVulnerableToDeathTiles(true);
         lifetime.setObjectToSpawnOnDeath(GameObjectType.SMOKE_POOF);
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	lifetime.setDeathSound(sound.load(R.raw.sound_stomp));
         }
@@ -2463,7 +2765,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemyWanda(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         // Make sure related textures are loaded.
@@ -2483,10 +2785,10 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 9;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.0f);
 
             
@@ -2628,28 +2930,28 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.WANDA, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.NPC);
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.class);
+        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
-        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.class);
+        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.TYPE_ID);
       
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        SoundSystem sound = sSystemRegistry.soundSystem;
+        SoundSystem sound = getSystemRegistry().soundSystem;
         
         LaunchProjectileComponent gun 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         gun.setShotsPerSet(1);
         gun.setSetsPerActivation(1); 
         gun.setDelayBeforeFirstSet(Utils.framesToTime(24, 11));
@@ -2685,7 +2987,7 @@ public class GameObjectFactory extends BaseObject {
     
     
     public GameObject spawnEnemyKyle(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         
@@ -2700,10 +3002,10 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 9;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.0f);
             
             FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = 
@@ -2807,31 +3109,31 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.KYLE, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.NPC);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.class);
+        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         animation.setStopAtWalls(false); // Kyle can run through walls
         
-        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.class);
+        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.TYPE_ID);
         patrol.setSpeeds(350.0f, 50.0f, 400.0f, -10.0f, 400.0f);
         patrol.setGameEvent(GameFlowEvent.EVENT_SHOW_ANIMATION, AnimationPlayerActivity.KYLE_DEATH, false);
 
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        MotionBlurComponent motionBlur = (MotionBlurComponent)allocateComponent(MotionBlurComponent.class);
+        MotionBlurComponent motionBlur = (MotionBlurComponent)allocateComponent(MotionBlurComponent.TYPE_ID);
         motionBlur.setTarget(render);
         
-        LauncherComponent launcher = (LauncherComponent)allocateComponent(LauncherComponent.class);
+        LauncherComponent launcher = (LauncherComponent)allocateComponent(LauncherComponent.TYPE_ID);
         launcher.setup((float)(Math.PI * 0.45f), 1000.0f, 0.0f, 0.0f, false);
         launcher.setLaunchEffect(GameObjectType.FLASH, 70.0f, 50.0f);
         hitReact.setLauncherComponent(launcher, HitType.HIT);
@@ -2861,7 +3163,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemyKyleDead(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -2892,17 +3194,17 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.KYLE_DEAD, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_OBJECT);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
 
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         dynamicCollision.setHitReactionComponent(hitReact);
         
         
@@ -2923,7 +3225,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemyAndouDead(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -2950,15 +3252,15 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.ANDOU_DEAD, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_OBJECT);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
 
         LaunchProjectileComponent smokeGun 
-	        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+	        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
 	    smokeGun.setDelayBetweenShots(0.25f);
 	    smokeGun.setObjectTypeToSpawn(GameObjectType.SMOKE_BIG);
 	    smokeGun.setOffsetX(32);
@@ -2968,7 +3270,7 @@ public class GameObjectFactory extends BaseObject {
 	    smokeGun.setThetaError(0.1f);
 	    
 	    LaunchProjectileComponent smokeGun2 
-	        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+	        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
 	    smokeGun2.setDelayBetweenShots(0.35f);
 	    smokeGun2.setObjectTypeToSpawn(GameObjectType.SMOKE_SMALL);
 	    smokeGun2.setOffsetX(16);
@@ -2991,7 +3293,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemyKabocha(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -3005,10 +3307,10 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 5;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.0f);
             
             FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = 
@@ -3059,22 +3361,22 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.KABOCHA, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.NPC);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.class);
+        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
-        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.class);
+        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.TYPE_ID);
         
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
         object.team = Team.ENEMY;
@@ -3100,7 +3402,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnRokudouTerminal(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -3154,17 +3456,17 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.ROKUDOU_TERMINAL, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_OBJECT);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
 
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         dynamicCollision.setHitReactionComponent(hitReact);
         
         object.add(render);
@@ -3180,7 +3482,7 @@ public class GameObjectFactory extends BaseObject {
     
     
     public GameObject spawnKabochaTerminal(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -3234,17 +3536,17 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.KABOCHA_TERMINAL, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_OBJECT);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
 
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         dynamicCollision.setHitReactionComponent(hitReact);
         
         object.add(render);
@@ -3259,7 +3561,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemyEvilKabocha(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -3273,10 +3575,10 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 8;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.0f);
             
             FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = 
@@ -3361,34 +3663,34 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.EVIL_KABOCHA, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.NPC);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.class);
+        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
         ChannelSystem.Channel surpriseChannel = null;
-        ChannelSystem channelSystem = BaseObject.sSystemRegistry.channelSystem;
+        ChannelSystem channelSystem = BaseObject.getSystemRegistry().channelSystem;
         surpriseChannel = channelSystem.registerChannel(sSurprisedNPCChannel);
         animation.setChannel(surpriseChannel);
         animation.setChannelTrigger(NPCAnimationComponent.SURPRISED);
         
-        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.class);
+        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.TYPE_ID);
         patrol.setSpeeds(50.0f, 50.0f, 0.0f, -10.0f, 200.0f);
         patrol.setReactToHits(true);
         patrol.setGameEvent(GameFlowEvent.EVENT_SHOW_ANIMATION, AnimationPlayerActivity.ROKUDOU_ENDING, true);
 
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        SoundSystem sound = sSystemRegistry.soundSystem;
+        SoundSystem sound = getSystemRegistry().soundSystem;
         if (sound != null) {
         	hitReact.setTakeHitSound(HitType.HIT, sound.load(R.raw.sound_kabocha_hit));
         }
@@ -3416,7 +3718,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnemyRokudou(float positionX, float positionY, boolean flipHorizontal) {
-    	TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+    	TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
     	// Make sure related textures are loaded.
         textureLibrary.allocateTexture(R.drawable.energy_ball01);
@@ -3439,9 +3741,9 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 8;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.0f);
             
             FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = 
@@ -3526,47 +3828,47 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.ROKUDOU, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.NPC);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.class);
+        NPCAnimationComponent animation = (NPCAnimationComponent)allocateComponent(NPCAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         animation.setFlying(true);
         
         ChannelSystem.Channel surpriseChannel = null;
-        ChannelSystem channelSystem = BaseObject.sSystemRegistry.channelSystem;
+        ChannelSystem channelSystem = BaseObject.getSystemRegistry().channelSystem;
         surpriseChannel = channelSystem.registerChannel(sSurprisedNPCChannel);
         animation.setChannel(surpriseChannel);
         animation.setChannelTrigger(NPCAnimationComponent.SURPRISED);
         
-        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.class);
+        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.TYPE_ID);
         patrol.setSpeeds(500.0f, 100.0f, 100.0f, -100.0f, 400.0f);
         patrol.setFlying(true);
         patrol.setReactToHits(true);
         patrol.setGameEvent(GameFlowEvent.EVENT_SHOW_ANIMATION, AnimationPlayerActivity.KABOCHA_ENDING, true);
         patrol.setPauseOnAttack(false);
         
-        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        SoundSystem sound = sSystemRegistry.soundSystem;
+        SoundSystem sound = getSystemRegistry().soundSystem;
         if (sound != null) {
         	hitReact.setTakeHitSound(HitType.HIT, sound.load(R.raw.sound_rokudou_hit));
         }
         
-        ChangeComponentsComponent deathSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.class);
-        deathSwap.addSwapInComponent(allocateComponent(GravityComponent.class));
+        ChangeComponentsComponent deathSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.TYPE_ID);
+        deathSwap.addSwapInComponent(allocateComponent(GravityComponent.TYPE_ID));
         deathSwap.setSwapAction(ActionType.DEATH);
                 
         LaunchProjectileComponent gun 
-	        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+	        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
 	    gun.setShotsPerSet(1);
 	    gun.setSetsPerActivation(-1); 
 	    gun.setDelayBetweenSets(1.5f);
@@ -3580,7 +3882,7 @@ public class GameObjectFactory extends BaseObject {
 
 	    
 	    LaunchProjectileComponent gun2
-        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
 	    gun2.setShotsPerSet(5);
 	    gun2.setDelayBetweenShots(0.1f);
 	    gun2.setSetsPerActivation(-1); 
@@ -3625,7 +3927,7 @@ public class GameObjectFactory extends BaseObject {
     
     
     public GameObject spawnPlayerGhost(float positionX, float positionY, GameObject player, float lifeTime) {  
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().longTermTextureLibrary;
         
         
         GameObject object = mGameObjectPool.allocate();
@@ -3639,20 +3941,20 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 4;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            //GravityComponent gravity = (GravityComponent)allocateComponent(GravityComponent.class);
+            //GravityComponent gravity = (GravityComponent)allocateComponent(GravityComponent.TYPE_ID);
             //gravity.setGravityMultiplier(0.1f);
             
-            GameComponent movement = allocateComponent(MovementComponent.class);
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.6f);
 
-            GhostComponent ghost = (GhostComponent)allocateComponent(GhostComponent.class);
+            GhostComponent ghost = (GhostComponent)allocateComponent(GhostComponent.TYPE_ID);
             ghost.setMovementSpeed(2000.0f);
             ghost.setAcceleration(700.0f);	//300
             ghost.setUseOrientationSensor(true);
             ghost.setKillOnRelease(true);
             
-            SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+            SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
             if (sound != null) {
             	ghost.setAmbientSound(sound.load(R.raw.sound_possession));
             }
@@ -3685,22 +3987,22 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.GHOST, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.PROJECTILE);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
  
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         hitReact.setDieOnAttack(true);
         
         dynamicCollision.setHitReactionComponent(hitReact);
-        LifetimeComponent life = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent life = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         // when the ghost dies it either releases itself or passes control to another object, so we
         // don't want control to return to the player.
         
@@ -3729,7 +4031,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnEnergyBall(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -3743,7 +4045,7 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 2;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
             FixedSizeArray<CollisionVolume> basicAttackVolume = 
                 new FixedSizeArray<CollisionVolume>(1);
@@ -3771,20 +4073,20 @@ public class GameObjectFactory extends BaseObject {
 
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.PROJECTILE);
 
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(5.0f);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         hitReact.setDieOnAttack(true);
         
         dynamicCollision.setHitReactionComponent(hitReact);
@@ -3811,7 +4113,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnWandaShot(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -3825,7 +4127,7 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 2;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
             FixedSizeArray<CollisionVolume> basicAttackVolume = 
                 new FixedSizeArray<CollisionVolume>(1);
@@ -3853,20 +4155,20 @@ public class GameObjectFactory extends BaseObject {
 
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.PROJECTILE);
 
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(5.0f);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         //hitReact.setDieOnAttack(true);
         
         dynamicCollision.setHitReactionComponent(hitReact);
@@ -3893,7 +4195,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnCannonBall(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -3907,7 +4209,7 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 2;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
             FixedSizeArray<CollisionVolume> basicAttackVolume = 
                 new FixedSizeArray<CollisionVolume>(1);
@@ -3923,26 +4225,26 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.CANNON_BALL, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.PROJECTILE);
 
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(3.0f);
         lifetime.setDieOnHitBackground(true);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
  
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         hitReact.setDieOnAttack(true);
         
         dynamicCollision.setHitReactionComponent(hitReact);
 
-        SimpleCollisionComponent collision = (SimpleCollisionComponent)allocateComponent(SimpleCollisionComponent.class);
+        SimpleCollisionComponent collision = (SimpleCollisionComponent)allocateComponent(SimpleCollisionComponent.TYPE_ID);
         
         
         object.life = 1;
@@ -3968,7 +4270,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnTurretBullet(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -3982,7 +4284,7 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 2;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
             FixedSizeArray<CollisionVolume> basicAttackVolume = 
                 new FixedSizeArray<CollisionVolume>(1);
@@ -4001,20 +4303,20 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.TURRET_BULLET, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.PROJECTILE);
 
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(3.0f);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
  
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         hitReact.setDieOnAttack(true);
         
         dynamicCollision.setHitReactionComponent(hitReact);
@@ -4042,7 +4344,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnBrobotBullet(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
         
 
         GameObject object = mGameObjectPool.allocate();
@@ -4056,7 +4358,7 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 2;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
             SpriteAnimation idle = new SpriteAnimation(0, 3);
             idle.addFrame(new AnimationFrame(
@@ -4076,13 +4378,13 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.BROBOT_BULLET, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.PROJECTILE);
 
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(3.0f);
 
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
              
@@ -4106,199 +4408,18 @@ public class GameObjectFactory extends BaseObject {
         return object;
     }
     
-    public GameObject spawnCoin(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
-        
+    public GameObject spawnObjectDoor(float positionX, float positionY, GameObjectType type, boolean solid) {
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(positionX, positionY);
         object.activationRadius = mTightActivationRadius;
-        object.width = 16;
-        object.height = 16;
+        object.width = 32;
+        object.height = 64;
         
-        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.COIN);
+        FixedSizeArray<BaseObject> staticData = getStaticData(type);
         if (staticData == null) {
-            final int staticObjectCount = 2;
-            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-            
-            FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = null; /*new FixedSizeArray<CollisionVolume>(1);
-            basicVulnerabilityVolume.add(new SphereCollisionVolume(8, 8, 8));
-            basicVulnerabilityVolume.get(0).setHitType(HitType.COLLECT);*/
-            
-            SpriteAnimation idle = new SpriteAnimation(0, 5);
-            idle.addFrame(new AnimationFrame(textureLibrary.allocateTexture(R.drawable.object_coin01), 
-                    Utils.framesToTime(24, 30), null, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(textureLibrary.allocateTexture(R.drawable.object_coin02), 
-                    Utils.framesToTime(24, 2), null, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(textureLibrary.allocateTexture(R.drawable.object_coin03), 
-                    Utils.framesToTime(24, 2), null, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(textureLibrary.allocateTexture(R.drawable.object_coin04), 
-                    Utils.framesToTime(24, 1), null, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(textureLibrary.allocateTexture(R.drawable.object_coin05), 
-                    Utils.framesToTime(24, 2), null, basicVulnerabilityVolume));
-            idle.setLoop(true);
-            
-            InventoryComponent.UpdateRecord addCoin = new InventoryComponent.UpdateRecord();
-            addCoin.coinCount = 1;
-            
-            staticData.add(addCoin);
-            staticData.add(idle);
-            
-            setStaticData(GameObjectType.COIN, staticData);
-        }
-        
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-        render.setPriority(SortConstants.GENERAL_OBJECT);
-
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-		sprite.setSize((int)object.width, (int)object.height);
-        sprite.setRenderComponent(render);
-
-        //DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
-        //sprite.setCollisionComponent(dynamicCollision);
-        
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
-        hitReact.setDieWhenCollected(true);
-        hitReact.setInvincible(true);
-        
-        HitPlayerComponent hitPlayer = (HitPlayerComponent)allocateComponent(HitPlayerComponent.class);
-        hitPlayer.setup(32, hitReact, HitType.COLLECT, false);
-        
-        SoundSystem sound = sSystemRegistry.soundSystem;
-        if (sound != null) {
-            hitReact.setTakeHitSound(HitType.COLLECT, sound.load(R.raw.ding));
-        }
-        
-        // TODO: this is pretty dumb.  The static data binding needs to be made generic.
-        final int staticDataSize = staticData.getCount();
-        for (int x = 0; x < staticDataSize; x++) {
-            final BaseObject entry = staticData.get(x);
-            if (entry instanceof InventoryComponent.UpdateRecord) {
-                hitReact.setInventoryUpdate((InventoryComponent.UpdateRecord)entry);
-                break;
-            }
-        }
-        
-        //dynamicCollision.setHitReactionComponent(hitReact);
-
-        LifetimeComponent life = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-
-        object.life = 1;
-            
-        object.add(render);
-        object.add(sprite);
-        //object.add(dynamicCollision);
-        object.add(hitPlayer);
-        object.add(hitReact);
-        object.add(life);
-        
-        addStaticData(GameObjectType.COIN, object, sprite);
-        sprite.playAnimation(0);
-
-        return object;
-    }
-    
-    public GameObject spawnRuby(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
-        
-
-        GameObject object = mGameObjectPool.allocate();
-        object.getPosition().set(positionX, positionY);
-        object.activationRadius = mTightActivationRadius;
-        object.width = 32;
-        object.height = 32;
-        
-        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.RUBY);
-        if (staticData == null) {
-            final int staticObjectCount = 2;
-            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-            
-            FixedSizeArray<CollisionVolume> basicVulnerabilityVolume = new FixedSizeArray<CollisionVolume>(1);
-            basicVulnerabilityVolume.add(new SphereCollisionVolume(16, 16, 16));
-            basicVulnerabilityVolume.get(0).setHitType(HitType.COLLECT);
-            
-            SpriteAnimation idle = new SpriteAnimation(0, 5);
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.object_ruby01), 
-                    2.0f, null, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.object_ruby02), 
-                    Utils.framesToTime(24, 2), null, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.object_ruby03), 
-                    Utils.framesToTime(24, 1), null, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.object_ruby04), 
-                    Utils.framesToTime(24, 1), null, basicVulnerabilityVolume));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.allocateTexture(R.drawable.object_ruby05), 
-                    Utils.framesToTime(24, 2), null, basicVulnerabilityVolume));
-            idle.setLoop(true);
-            
-            InventoryComponent.UpdateRecord addRuby = new InventoryComponent.UpdateRecord();
-            addRuby.rubyCount = 1;
-            
-            staticData.add(addRuby);
-            
-            staticData.add(idle);
-            setStaticData(GameObjectType.RUBY, staticData);
-        }
-        
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-        render.setPriority(SortConstants.GENERAL_OBJECT);
-
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-		sprite.setSize((int)object.width, (int)object.height);
-        sprite.setRenderComponent(render);
-
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
-        sprite.setCollisionComponent(dynamicCollision);
-        
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
-        hitReact.setDieWhenCollected(true);
-        hitReact.setInvincible(true);
-        // TODO: this is pretty dumb.  The static data binding needs to be made generic.
-        final int staticDataSize = staticData.getCount();
-        for (int x = 0; x < staticDataSize; x++) {
-            final BaseObject entry = staticData.get(x);
-            if (entry instanceof InventoryComponent.UpdateRecord) {
-                hitReact.setInventoryUpdate((InventoryComponent.UpdateRecord)entry);
-                break;
-            }
-        }
-        
-        dynamicCollision.setHitReactionComponent(hitReact);
-
-        LifetimeComponent life = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-        life.setObjectToSpawnOnDeath(GameObjectType.GEM_EFFECT_SPAWNER);
-        
-        object.life = 1;
-            
-        object.add(render);
-        object.add(sprite);
-        object.add(dynamicCollision);
-        object.add(hitReact);
-        object.add(life);
-        
-        addStaticData(GameObjectType.RUBY, object, sprite);
-        
-        sprite.playAnimation(0);
-        
-        return object;
-    }
-    
-    public GameObject spawnObjectDoor(float positionX, float positionY, GameObjectType type, boolean solid) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
-
-        GameObject object = mGameObjectPool.allocate();
-        object.getPosition().set(positionX, positionY);
-        object.activationRadius = mTightActivationRadius;
-        object.width = 32;
-        object.height = 64;
-        
-        FixedSizeArray<BaseObject> staticData = getStaticData(type);
-        if (staticData == null) {
-            final int staticObjectCount = 5;
+            final int staticObjectCount = 5;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
             final int red_frames[] = { 
@@ -4368,7 +4489,7 @@ public class GameObjectFactory extends BaseObject {
             close.addFrame(closeFrame2);
             
             SolidSurfaceComponent solidSurface 
-                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.class);
+                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.TYPE_ID);
             solidSurface.inititalize(4);
             // box shape:
             // ___       ___1
@@ -4406,23 +4527,23 @@ public class GameObjectFactory extends BaseObject {
         }
         
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.FOREGROUND_OBJECT);
        
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        DoorAnimationComponent doorAnim = (DoorAnimationComponent)allocateComponent(DoorAnimationComponent.class);
+        DoorAnimationComponent doorAnim = (DoorAnimationComponent)allocateComponent(DoorAnimationComponent.TYPE_ID);
         doorAnim.setSprite(sprite);
         
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	doorAnim.setSounds(sound.load(R.raw.sound_open), sound.load(R.raw.sound_close));
         }
         
         ChannelSystem.Channel doorChannel = null;
-        ChannelSystem channelSystem = BaseObject.sSystemRegistry.channelSystem;
+        ChannelSystem channelSystem = BaseObject.getSystemRegistry().channelSystem;
         switch (type) {
             case DOOR_RED:
                 doorChannel = channelSystem.registerChannel(sRedButtonChannel);
@@ -4436,11 +4557,11 @@ public class GameObjectFactory extends BaseObject {
         }
         doorAnim.setChannel(doorChannel);
              
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
         HitReactionComponent hitReact 
-            = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+            = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         dynamicCollision.setHitReactionComponent(hitReact);
        
         
@@ -4469,7 +4590,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnObjectButton(float positionX, float positionY, GameObjectType type) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(positionX, positionY);
@@ -4528,23 +4649,23 @@ public class GameObjectFactory extends BaseObject {
         }
         
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_OBJECT);
        
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        ButtonAnimationComponent button = (ButtonAnimationComponent)allocateComponent(ButtonAnimationComponent.class);
+        ButtonAnimationComponent button = (ButtonAnimationComponent)allocateComponent(ButtonAnimationComponent.TYPE_ID);
         button.setSprite(sprite);
         
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	button.setDepressSound(sound.load(R.raw.sound_button));
         }
         
         ChannelSystem.Channel buttonChannel = null;
-        ChannelSystem channelSystem = BaseObject.sSystemRegistry.channelSystem;
+        ChannelSystem channelSystem = BaseObject.getSystemRegistry().channelSystem;
         switch (type) {
             case BUTTON_RED:
                 buttonChannel = channelSystem.registerChannel(sRedButtonChannel);
@@ -4558,10 +4679,10 @@ public class GameObjectFactory extends BaseObject {
         }
         button.setChannel(buttonChannel);
         
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         hitReact.setInvincible(false);
         
         
@@ -4584,7 +4705,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnObjectCannon(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(positionX, positionY);
@@ -4623,32 +4744,32 @@ public class GameObjectFactory extends BaseObject {
         }
         
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.FOREGROUND_OBJECT);
        
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
-        LauncherComponent launcher = (LauncherComponent)allocateComponent(LauncherComponent.class);
+        LauncherComponent launcher = (LauncherComponent)allocateComponent(LauncherComponent.TYPE_ID);
         launcher.setLaunchEffect(GameObjectType.SMOKE_POOF, 32.0f, 85.0f);
         
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	launcher.setLaunchSound(sound.load(R.raw.sound_cannon));
         }
         
         
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+        HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         hitReact.setInvincible(false);
         hitReact.setLauncherComponent(launcher, HitType.LAUNCH);
         
         dynamicCollision.setHitReactionComponent(hitReact);
         
-        GenericAnimationComponent anim = (GenericAnimationComponent)allocateComponent(GenericAnimationComponent.class);
+        GenericAnimationComponent anim = (GenericAnimationComponent)allocateComponent(GenericAnimationComponent.TYPE_ID);
         anim.setSprite(sprite);
         
         object.team = Team.NONE;
@@ -4669,7 +4790,7 @@ public class GameObjectFactory extends BaseObject {
     
     public GameObject spawnObjectBrobotSpawner(float positionX, float positionY, boolean flipHorizontal) {
         
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
         // This is pretty heavy-handed.
         // TODO: figure out a general solution for objects that depend on other objects.
@@ -4702,7 +4823,7 @@ public class GameObjectFactory extends BaseObject {
                     1.0f, null, basicVulnerabilityVolume));
             
             SolidSurfaceComponent solidSurface 
-                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.class);
+                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.TYPE_ID);
             solidSurface.inititalize(3);
             /*
                 0:2,0:8,59:-0.99532399996093,0.09659262446878
@@ -4732,11 +4853,11 @@ public class GameObjectFactory extends BaseObject {
             solidSurface.addSurface(surface2Start, surface2End, surface2Normal);
             solidSurface.addSurface(surface3Start, surface3End, surface3Normal);
         
-            GhostComponent ghost = (GhostComponent)allocateComponent(GhostComponent.class);
+            GhostComponent ghost = (GhostComponent)allocateComponent(GhostComponent.TYPE_ID);
             ghost.setTargetAction(ActionType.IDLE);
             ghost.changeActionOnButton(ActionType.ATTACK);
             
-            SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+            SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
             if (sound != null) {
             	ghost.setAmbientSound(sound.load(R.raw.sound_possession));
             }
@@ -4749,24 +4870,24 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.BROBOT_SPAWNER, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_OBJECT);
 
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
         DynamicCollisionComponent collision 
-            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
         HitReactionComponent hitReact 
-            = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+            = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
        
         LaunchProjectileComponent gun 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         gun.setDelayBeforeFirstSet(3.0f);
         gun.setObjectTypeToSpawn(GameObjectType.BROBOT);
         gun.setOffsetX(36);
@@ -4776,7 +4897,7 @@ public class GameObjectFactory extends BaseObject {
         gun.enableProjectileTracking(1);
         
         LaunchProjectileComponent possessedGun 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         possessedGun.setRequiredAction(ActionType.ATTACK);
         possessedGun.setDelayBeforeFirstSet(0.0f);
         possessedGun.setObjectTypeToSpawn(GameObjectType.BROBOT_BULLET);
@@ -4786,7 +4907,7 @@ public class GameObjectFactory extends BaseObject {
         possessedGun.setVelocityY(600.0f);
         possessedGun.setThetaError(0.3f);
         
-        ChangeComponentsComponent componentSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.class);
+        ChangeComponentsComponent componentSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.TYPE_ID);
         componentSwap.addSwapOutComponent(gun);
         componentSwap.addSwapInComponent(possessedGun);
         componentSwap.setPingPongBehavior(true);
@@ -4838,7 +4959,7 @@ public class GameObjectFactory extends BaseObject {
     
     public GameObject spawnObjectBreakableBlock(float positionX, float positionY) {
         
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
         // Preload block piece texture.
         textureLibrary.allocateTexture(R.drawable.object_debris_piece);
@@ -4864,7 +4985,7 @@ public class GameObjectFactory extends BaseObject {
                     1.0f, null, basicVulnerabilityVolume));
             
             SolidSurfaceComponent solidSurface 
-                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.class);
+                = (SolidSurfaceComponent)allocateComponent(SolidSurfaceComponent.TYPE_ID);
             solidSurface.inititalize(4);
             
             // box shape:
@@ -4902,25 +5023,25 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.BREAKABLE_BLOCK, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_OBJECT);
 
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
         
         DynamicCollisionComponent collision 
-            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
         HitReactionComponent hitReact 
-            = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+            = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
        
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setObjectToSpawnOnDeath(GameObjectType.BREAKABLE_BLOCK_PIECE_SPAWNER);
-        SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         if (sound != null) {
         	lifetime.setDeathSound(sound.load(R.raw.sound_break_block));
         }
@@ -4944,7 +5065,7 @@ public class GameObjectFactory extends BaseObject {
 
 	public GameObject spawnObjectTheSource(float positionX, float positionY) {
 	    
-	    final TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+	    final TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 	    
 	    GameObject object = mGameObjectPool.allocate();
 	    object.activationRadius = mAlwaysActive;
@@ -4952,46 +5073,46 @@ public class GameObjectFactory extends BaseObject {
 	    object.height = 512;
         object.getPosition().set(positionX, positionY);
 	    
-	    RenderComponent layer1Render = (RenderComponent)allocateComponent(RenderComponent.class);
+	    RenderComponent layer1Render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
 	    layer1Render.setPriority(SortConstants.THE_SOURCE_START);
-	    FadeDrawableComponent layer1Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.class);
+	    FadeDrawableComponent layer1Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.TYPE_ID);
 	    layer1Fade.setRenderComponent(layer1Render);
 	    layer1Fade.setTexture(textureLibrary.allocateTexture(R.drawable.enemy_source_spikes));
 	    layer1Fade.setupFade(1.0f, 0.2f, 1.9f, FadeDrawableComponent.LOOP_TYPE_PING_PONG, FadeDrawableComponent.FADE_EASE, 0.0f);
 
-	    RenderComponent layer2Render = (RenderComponent)allocateComponent(RenderComponent.class);
+	    RenderComponent layer2Render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
 	    layer2Render.setPriority(SortConstants.THE_SOURCE_START + 1);
-	    FadeDrawableComponent layer2Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.class);
+	    FadeDrawableComponent layer2Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.TYPE_ID);
 	    layer2Fade.setRenderComponent(layer2Render);
 	    layer2Fade.setTexture(textureLibrary.allocateTexture(R.drawable.enemy_source_body));
 	    layer2Fade.setupFade(1.0f, 0.8f, 5.0f, FadeDrawableComponent.LOOP_TYPE_PING_PONG, FadeDrawableComponent.FADE_EASE, 0.0f);
 	    
-	    RenderComponent layer3Render = (RenderComponent)allocateComponent(RenderComponent.class);
+	    RenderComponent layer3Render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
 	    layer3Render.setPriority(SortConstants.THE_SOURCE_START + 2);
-	    FadeDrawableComponent layer3Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.class);
+	    FadeDrawableComponent layer3Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.TYPE_ID);
 	    layer3Fade.setRenderComponent(layer3Render);
 	    layer3Fade.setTexture(textureLibrary.allocateTexture(R.drawable.enemy_source_black));
 	    layer3Fade.setupFade(0.0f, 1.0f, 6.0f, FadeDrawableComponent.LOOP_TYPE_PING_PONG, FadeDrawableComponent.FADE_LINEAR, 0.0f);
 	  
-	    RenderComponent layer4Render = (RenderComponent)allocateComponent(RenderComponent.class);
+	    RenderComponent layer4Render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
 	    layer4Render.setPriority(SortConstants.THE_SOURCE_START + 3);
-	    FadeDrawableComponent layer4Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.class);
+	    FadeDrawableComponent layer4Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.TYPE_ID);
 	    layer4Fade.setRenderComponent(layer4Render);
 	    layer4Fade.setTexture(textureLibrary.allocateTexture(R.drawable.enemy_source_spots));
 	    layer4Fade.setupFade(0.0f, 1.0f, 2.3f, FadeDrawableComponent.LOOP_TYPE_PING_PONG, FadeDrawableComponent.FADE_EASE, 0.0f);
 	    
-	    RenderComponent layer5Render = (RenderComponent)allocateComponent(RenderComponent.class);
+	    RenderComponent layer5Render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
 	    layer5Render.setPriority(SortConstants.THE_SOURCE_START + 4);
-	    FadeDrawableComponent layer5Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.class);
+	    FadeDrawableComponent layer5Fade = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.TYPE_ID);
 	    layer5Fade.setRenderComponent(layer5Render);
 	    layer5Fade.setTexture(textureLibrary.allocateTexture(R.drawable.enemy_source_core));
 	    layer5Fade.setupFade(0.2f, 1.0f, 1.2f, FadeDrawableComponent.LOOP_TYPE_PING_PONG, FadeDrawableComponent.FADE_EASE, 0.0f);
 	    
 	    
-	    OrbitalMagnetComponent orbit = (OrbitalMagnetComponent)allocateComponent(OrbitalMagnetComponent.class);
+	    OrbitalMagnetComponent orbit = (OrbitalMagnetComponent)allocateComponent(OrbitalMagnetComponent.TYPE_ID);
 	    orbit.setup(320.0f, 220.0f);
 	    
-	    DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+	    DynamicCollisionComponent collision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
 	    FixedSizeArray<CollisionVolume> vulnerabilityVolume = 
             new FixedSizeArray<CollisionVolume>(1);
 	    vulnerabilityVolume.add(new SphereCollisionVolume(256, 256, 256, HitType.HIT));
@@ -5000,13 +5121,13 @@ public class GameObjectFactory extends BaseObject {
 	    attackVolume.add(new SphereCollisionVolume(256, 256, 256, HitType.HIT));
 	    collision.setCollisionVolumes(attackVolume, vulnerabilityVolume);
         
-	    HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+	    HitReactionComponent hitReact = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         hitReact.setInvincibleTime(TheSourceComponent.SHAKE_TIME);
         
-        TheSourceComponent theSource = (TheSourceComponent)allocateComponent(TheSourceComponent.class);
+        TheSourceComponent theSource = (TheSourceComponent)allocateComponent(TheSourceComponent.TYPE_ID);
         ChannelSystem.Channel surpriseChannel = null;
-        ChannelSystem channelSystem = BaseObject.sSystemRegistry.channelSystem;
+        ChannelSystem channelSystem = BaseObject.getSystemRegistry().channelSystem;
         surpriseChannel = channelSystem.registerChannel(sSurprisedNPCChannel);
         theSource.setChannel(surpriseChannel);
         theSource.setGameEvent(GameFlowEvent.EVENT_SHOW_ANIMATION, AnimationPlayerActivity.WANDA_ENDING);
@@ -5037,7 +5158,7 @@ public class GameObjectFactory extends BaseObject {
 
     public GameObject spawnObjectTurret(float positionX, float positionY, boolean flipHorizontal) {
         
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
         // Make sure related textures are loaded.
         textureLibrary.allocateTexture(R.drawable.effect_bullet01);
@@ -5085,7 +5206,7 @@ public class GameObjectFactory extends BaseObject {
                     Utils.framesToTime(24, 1), null, basicVulnerabilityVolume));
             attack.setLoop(true);
             
-            GhostComponent ghost = (GhostComponent)allocateComponent(GhostComponent.class);
+            GhostComponent ghost = (GhostComponent)allocateComponent(GhostComponent.TYPE_ID);
             ghost.setTargetAction(ActionType.IDLE);
             ghost.changeActionOnButton(ActionType.ATTACK);
 
@@ -5097,38 +5218,38 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.TURRET, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.GENERAL_OBJECT);
 
         
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
         sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
   
         GenericAnimationComponent animation
-            = (GenericAnimationComponent)allocateComponent(GenericAnimationComponent.class);
+            = (GenericAnimationComponent)allocateComponent(GenericAnimationComponent.TYPE_ID);
         animation.setSprite(sprite);
         
         AttackAtDistanceComponent attack = (AttackAtDistanceComponent)
-            allocateComponent(AttackAtDistanceComponent.class);
+            allocateComponent(AttackAtDistanceComponent.TYPE_ID);
         attack.setupAttack(300, 0.0f, 1.0f, true);
 
         
         DynamicCollisionComponent collision 
-            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(collision);
         
         HitReactionComponent hitReact 
-            = (HitReactionComponent)allocateComponent(HitReactionComponent.class);
+            = (HitReactionComponent)allocateComponent(HitReactionComponent.TYPE_ID);
         collision.setHitReactionComponent(hitReact);
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setObjectToSpawnOnDeath(GameObjectType.EXPLOSION_LARGE);
 
-        SoundSystem sound = sSystemRegistry.soundSystem;
+        SoundSystem sound = getSystemRegistry().soundSystem;
         
         LaunchProjectileComponent gun 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         gun.setShotsPerSet(1);
         gun.setDelayBetweenShots(0.0f);
         gun.setDelayBetweenSets(0.3f);
@@ -5142,7 +5263,7 @@ public class GameObjectFactory extends BaseObject {
         
         // Components for possession
         
-        ChangeComponentsComponent componentSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.class);
+        ChangeComponentsComponent componentSwap = (ChangeComponentsComponent)allocateComponent(ChangeComponentsComponent.TYPE_ID);
         componentSwap.addSwapOutComponent(attack);
         componentSwap.setPingPongBehavior(true);
         
@@ -5181,229 +5302,8 @@ public class GameObjectFactory extends BaseObject {
         return object;
     }
 
-    public GameObject spawnDust(float positionX, float positionY, boolean flipHorizontal) {
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
-
-        GameObject object = mGameObjectPool.allocate();
-        object.getPosition().set(positionX, positionY);
-        object.activationRadius = mTightActivationRadius;
-        object.width = 32;
-        object.height = 32;
-        
-        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.DUST);
-        if (staticData == null) {
-            final int staticObjectCount = 1;
-            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-            
-            SpriteAnimation idle = new SpriteAnimation(0, 5);
-            idle.addFrame(new AnimationFrame(textureLibrary.getTextureByResource(R.drawable.dust01), 
-                    Utils.framesToTime(24, 1)));
-            idle.addFrame(new AnimationFrame(textureLibrary.getTextureByResource(R.drawable.dust02), 
-                    Utils.framesToTime(24, 1)));
-            idle.addFrame(new AnimationFrame(textureLibrary.getTextureByResource(R.drawable.dust03), 
-                    Utils.framesToTime(24, 1)));
-            idle.addFrame(new AnimationFrame(textureLibrary.getTextureByResource(R.drawable.dust04), 
-                    Utils.framesToTime(24, 1)));
-            idle.addFrame(new AnimationFrame(textureLibrary.getTextureByResource(R.drawable.dust05), 
-                    Utils.framesToTime(24, 1)));
-            
-            staticData.add(idle);
-            setStaticData(GameObjectType.DUST, staticData);
-        }
-        
-        
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-        render.setPriority(SortConstants.EFFECT);
-
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-        lifetime.setTimeUntilDeath(0.30f);
-    
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-		sprite.setSize((int)object.width, (int)object.height);
-        sprite.setRenderComponent(render);
-        
-        
-        if (flipHorizontal) {
-            object.facingDirection.x = -1.0f;
-        }        
-        object.destroyOnDeactivation = true;
-        
-        object.add(lifetime);
-        object.add(render);
-        object.add(sprite);
-           
-        addStaticData(GameObjectType.DUST, object, sprite);
-        
-        sprite.playAnimation(0);
-        
-        return object;
-    }
-    
-    public GameObject spawnEffectExplosionSmall(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
-
-        GameObject object = mGameObjectPool.allocate();
-        object.getPosition().set(positionX, positionY);
-        object.activationRadius = mAlwaysActive;
-        object.width = 32;
-        object.height = 32;
-        
-        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.EXPLOSION_SMALL);
-        if (staticData == null) {
-            final int staticObjectCount = 1;
-            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-            
-            FixedSizeArray<CollisionVolume> basicAttackVolume = 
-                new FixedSizeArray<CollisionVolume>(1);
-            basicAttackVolume.add(new SphereCollisionVolume(16, 16, 16, HitType.HIT));
-
-            SpriteAnimation idle = new SpriteAnimation(0, 7);
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_small01), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_small02), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_small03), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_small04), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_small05), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_small06), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_small07), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            
-            staticData.add(idle);
-            setStaticData(GameObjectType.EXPLOSION_SMALL, staticData);
-        }
-        
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-        render.setPriority(SortConstants.EFFECT);
-
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-		sprite.setSize((int)object.width, (int)object.height);
-        sprite.setRenderComponent(render);
-     
-
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-        
-        DynamicCollisionComponent dynamicCollision = (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
-        sprite.setCollisionComponent(dynamicCollision);
-                      
-        object.add(dynamicCollision);
-        object.add(lifetime);
-        object.add(render);
-        object.add(sprite);
-          
-        addStaticData(GameObjectType.EXPLOSION_SMALL, object, sprite);
-        
-        final SpriteAnimation idle = sprite.findAnimation(0);
-        if (idle != null) {
-            lifetime.setTimeUntilDeath(idle.getLength());
-        }
-        
-        sprite.playAnimation(0);
-
-        return object;
-    }
-    
-    public GameObject spawnEffectExplosionLarge(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
-
-        GameObject object = mGameObjectPool.allocate();
-        object.getPosition().set(positionX, positionY);
-        object.activationRadius = mAlwaysActive;
-        object.width = 64;
-        object.height = 64;
-        
-        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.EXPLOSION_LARGE);
-        if (staticData == null) {
-            final int staticObjectCount = 1;
-            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-            
-            FixedSizeArray<CollisionVolume> basicAttackVolume = 
-                new FixedSizeArray<CollisionVolume>(1);
-            basicAttackVolume.add(new SphereCollisionVolume(32, 32, 32, HitType.HIT));
-
-            SpriteAnimation idle = new SpriteAnimation(0, 9);
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big01), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big02), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big03), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big04), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big05), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big06), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big07), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big08), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            idle.addFrame(new AnimationFrame(
-                    textureLibrary.getTextureByResource(R.drawable.effect_explosion_big09), 
-                    Utils.framesToTime(24, 1), basicAttackVolume, null));
-            
-            
-            staticData.add(idle);            
-            setStaticData(GameObjectType.EXPLOSION_LARGE, staticData);
-        }
-        
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-        render.setPriority(SortConstants.EFFECT);
-        
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-		sprite.setSize((int)object.width, (int)object.height);
-        sprite.setRenderComponent(render);
-        
-
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-         
-        DynamicCollisionComponent dynamicCollision = 
-            (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
-        sprite.setCollisionComponent(dynamicCollision);
-        
-        PlaySingleSoundComponent soundEffect = (PlaySingleSoundComponent)allocateComponent(PlaySingleSoundComponent.class);
-        soundEffect.setSound(sSystemRegistry.soundSystem.load(R.raw.quick_explosion));
-        
-        
-        object.add(soundEffect);            
-        object.add(dynamicCollision);
-        object.add(lifetime);
-        object.add(render);
-        object.add(sprite);
-        
-        addStaticData(GameObjectType.EXPLOSION_LARGE, object, sprite);
-        
-        final SpriteAnimation idle = sprite.findAnimation(0);
-        if (idle != null) {
-            lifetime.setTimeUntilDeath(idle.getLength());
-        }
-        
-        sprite.playAnimation(0);
-        
-        return object;
-    }
-    
     public GameObject spawnEffectExplosionGiant(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().longTermTextureLibrary;
 
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(positionX, positionY);
@@ -5509,9 +5409,9 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.EXPLOSION_GIANT, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.EFFECT);
-        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		sprite.setSize((int)object.width, (int)object.height);
         sprite.setRenderComponent(render);
 
@@ -5526,34 +5426,34 @@ public class GameObjectFactory extends BaseObject {
         sprite.addAnimation(idle);
         sprite.playAnimation(0);
 
-        RenderComponent blast1Render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent blast1Render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.EFFECT);
-        SpriteComponent blast1Sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent blast1Sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		blast1Sprite.setSize(32, 32);
         blast1Sprite.setRenderComponent(blast1Render);
         blast1Render.setDrawOffset(40, 50);
         blast1Sprite.addAnimation(smallBlast1);
         blast1Sprite.playAnimation(0);
         
-        RenderComponent blast2Render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent blast2Render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.EFFECT);
-        SpriteComponent blast2Sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent blast2Sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		blast2Sprite.setSize(32, 32);
         blast2Sprite.setRenderComponent(blast2Render);
         blast2Render.setDrawOffset(-10, 0);
         blast2Sprite.addAnimation(smallBlast2);
         blast2Sprite.playAnimation(0);
         
-        RenderComponent blast3Render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent blast3Render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.EFFECT);
-        SpriteComponent blast3Sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
+        SpriteComponent blast3Sprite = (SpriteComponent)allocateComponent(SpriteComponent.TYPE_ID);
 		blast3Sprite.setSize(32, 32);
         blast3Sprite.setRenderComponent(blast3Render);
         blast3Render.setDrawOffset(0, 32);
         blast3Sprite.addAnimation(smallBlast3);
         blast3Sprite.playAnimation(0);
 
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(Math.max(
                 Math.max(
                         Math.max(idle.getLength(), smallBlast1.getLength()), 
@@ -5561,11 +5461,11 @@ public class GameObjectFactory extends BaseObject {
                 smallBlast3.getLength()));
         
         DynamicCollisionComponent dynamicCollision = 
-            (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.class);
+            (DynamicCollisionComponent)allocateComponent(DynamicCollisionComponent.TYPE_ID);
         sprite.setCollisionComponent(dynamicCollision);
         
-        PlaySingleSoundComponent soundEffect = (PlaySingleSoundComponent)allocateComponent(PlaySingleSoundComponent.class);
-        soundEffect.setSound(sSystemRegistry.soundSystem.load(R.raw.quick_explosion));
+        PlaySingleSoundComponent soundEffect = (PlaySingleSoundComponent)allocateComponent(PlaySingleSoundComponent.TYPE_ID);
+        soundEffect.setSound(getSystemRegistry().soundSystem.load(R.raw.quick_explosion));
         
         
               
@@ -5605,8 +5505,8 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 2;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
             staticData.add(gravity);
             staticData.add(movement);
@@ -5615,8 +5515,8 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.GHOST_NPC, staticData);
         }
         
-        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.class);
-        LifetimeComponent life = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        NPCComponent patrol = (NPCComponent)allocateComponent(NPCComponent.TYPE_ID);
+        LifetimeComponent life = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         
         object.team = Team.NONE;  
         object.life = 1;
@@ -5628,361 +5528,9 @@ public class GameObjectFactory extends BaseObject {
         return object;
     }
     
-    public GameObject spawnEffectSmokeBig(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
-
-        GameObject object = null;
-        // This is just an effect, so we can live without it if our pools are exhausted.
-        if (componentAvailable(RenderComponent.class, 1)) { 
-        	object = mGameObjectPool.allocate();
-	        
-	        object.getPosition().set(positionX, positionY);
-	        object.activationRadius = mTightActivationRadius;
-	        object.width = 32;
-	        object.height = 32;
-	        
-	        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.SMOKE_BIG);
-	        if (staticData == null) {
-	            final int staticObjectCount = 6;
-	            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-	            
-	            GameComponent movement = allocateComponent(MovementComponent.class);
-	            
-	             
-	            AnimationFrame frame2 = new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big02), 
-	                    Utils.framesToTime(24, 1), null, null);
-	            
-	            AnimationFrame frame3 = new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big03), 
-	                    Utils.framesToTime(24, 1), null, null);
-	            
-	            AnimationFrame frame4 = new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big04), 
-	                    Utils.framesToTime(24, 1), null, null);
-	            
-	            AnimationFrame frame5 = new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big05), 
-	                    Utils.framesToTime(24, 1), null, null);
-	            
-	            SpriteAnimation idle = new SpriteAnimation(0, 5);
-	            idle.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big01), 
-	                    Utils.framesToTime(24, 10), null, null));
-	            idle.addFrame(frame2);
-	            idle.addFrame(frame3);
-	            idle.addFrame(frame4);
-	            idle.addFrame(frame5);
-	            
-	            SpriteAnimation idle2 = new SpriteAnimation(1, 5);
-	            idle2.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big01), 
-	                    Utils.framesToTime(24, 13), null, null));
-	            idle2.addFrame(frame2);
-	            idle2.addFrame(frame3);
-	            idle2.addFrame(frame4);
-	            idle2.addFrame(frame5);
-	            
-	            SpriteAnimation idle3 = new SpriteAnimation(2, 5);
-	            idle3.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big01), 
-	                    Utils.framesToTime(24, 8), null, null));
-	            idle3.addFrame(frame2);
-	            idle3.addFrame(frame3);
-	            idle3.addFrame(frame4);
-	            idle3.addFrame(frame5);
-	
-	            SpriteAnimation idle4 = new SpriteAnimation(3, 5);
-	            idle4.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big01), 
-	                    Utils.framesToTime(24, 5), null, null));
-	            idle4.addFrame(frame2);
-	            idle4.addFrame(frame3);
-	            idle4.addFrame(frame4);
-	            idle4.addFrame(frame5);
-	            
-	            SpriteAnimation idle5 = new SpriteAnimation(4, 5);
-	            idle5.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_big01), 
-	                    Utils.framesToTime(24, 15), null, null));
-	            idle5.addFrame(frame2);
-	            idle5.addFrame(frame3);
-	            idle5.addFrame(frame4);
-	            idle5.addFrame(frame5);
-	            
-	            staticData.add(idle);
-	            staticData.add(idle2);
-	            staticData.add(idle3);
-	            staticData.add(idle4);
-	            staticData.add(idle5);
-	            staticData.add(movement);
-	            setStaticData(GameObjectType.SMOKE_BIG, staticData);
-	        }
-	        
-	        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-	        render.setPriority(SortConstants.EFFECT);
-	
-	        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-	        sprite.setSize((int)object.width, (int)object.height);
-	        sprite.setRenderComponent(render);
-	     
-	        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-	        lifetime.setDieWhenInvisible(true);
-	                      
-	        object.destroyOnDeactivation = true;
-	        
-	        object.add(lifetime);
-	        object.add(render);
-	        object.add(sprite);
-	          
-	        addStaticData(GameObjectType.SMOKE_BIG, object, sprite);
-	        
-	        final int animIndex = (int)(Math.random() * sprite.getAnimationCount());
-	        final SpriteAnimation idle = sprite.findAnimation(animIndex);
-	        if (idle != null) {
-	            lifetime.setTimeUntilDeath(idle.getLength());
-	            sprite.playAnimation(animIndex);
-	        }
-	        
-        
-        }
-        return object;
-    }
-    
-    public GameObject spawnEffectSmokeSmall(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
-
-        GameObject object = null;
-        // This is just an effect, so we can live without it if our pools are exhausted.
-        if (componentAvailable(RenderComponent.class, 1)) {
-	        object = mGameObjectPool.allocate();
-	        object.getPosition().set(positionX, positionY);
-	        object.activationRadius = mAlwaysActive;
-	        object.width = 16;
-	        object.height = 16;
-	        
-	        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.SMOKE_SMALL);
-	        if (staticData == null) {
-	            final int staticObjectCount = 2;
-	            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-	            
-	            GameComponent movement = allocateComponent(MovementComponent.class);
-	
-	            SpriteAnimation idle = new SpriteAnimation(0, 5);
-	            idle.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_small01), 
-	                    Utils.framesToTime(24, 10), null, null));
-	            idle.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_small02), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            idle.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_small03), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            idle.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_small04), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            idle.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_smoke_small05), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            
-	            staticData.add(idle);
-	            staticData.add(movement);
-	            setStaticData(GameObjectType.SMOKE_SMALL, staticData);
-	        }
-	        
-	        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
-	        render.setPriority(SortConstants.EFFECT);
-	
-	        SpriteComponent sprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-	        sprite.setSize((int)object.width, (int)object.height);
-	        sprite.setRenderComponent(render);
-	     
-	        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-	        lifetime.setDieWhenInvisible(true);
-	                      
-	        object.destroyOnDeactivation = true;
-	        
-	        object.add(lifetime);
-	        object.add(render);
-	        object.add(sprite);
-	          
-	        addStaticData(GameObjectType.SMOKE_SMALL, object, sprite);
-	        
-	        final SpriteAnimation idle = sprite.findAnimation(0);
-	        if (idle != null) {
-	            lifetime.setTimeUntilDeath(idle.getLength());
-	        }
-	        
-	        sprite.playAnimation(0);
-        }
-
-        return object;
-    }
-    
-    public GameObject spawnEffectCrushFlash(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
-
-        GameObject object = null;
-        // This is just an effect, so we can live without it if our pools are exhausted.
-        if (componentAvailable(RenderComponent.class, 1)) {
-	        object = mGameObjectPool.allocate();
-	        object.getPosition().set(positionX, positionY);
-	        object.activationRadius = mAlwaysActive;
-	        object.width = 64;
-	        object.height = 64;
-	        
-	        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.CRUSH_FLASH);
-	        if (staticData == null) {
-	            final int staticObjectCount = 2;
-	            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-	            
-	            SpriteAnimation back = new SpriteAnimation(0, 3);
-	            back.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_back01), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            back.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_back02), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            back.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_back03), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            
-	            SpriteAnimation front = new SpriteAnimation(1, 7);
-	            front.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_front01), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            front.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_front02), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            front.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_front03), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            front.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_front04), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            front.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_front05), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            front.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_front06), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            front.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_front07), 
-	                    Utils.framesToTime(24, 1), null, null));
-	           
-	            
-	            staticData.add(back);
-	            staticData.add(front);
-	            setStaticData(GameObjectType.CRUSH_FLASH, staticData);
-	        }
-	        
-	        
-	        RenderComponent backRender = (RenderComponent)allocateComponent(RenderComponent.class);
-	        backRender.setPriority(SortConstants.EFFECT);
-	        
-	        SpriteComponent backSprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-	        backSprite.setSize((int)object.width, (int)object.height);
-	        backSprite.setRenderComponent(backRender);
-	        
-	        RenderComponent foreRender = (RenderComponent)allocateComponent(RenderComponent.class);
-	        foreRender.setPriority(SortConstants.FOREGROUND_EFFECT);
-	        
-	        SpriteComponent foreSprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-	        foreSprite.setSize((int)object.width, (int)object.height);
-	        foreSprite.setRenderComponent(foreRender);
-	
-	        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-	
-	    
-	        object.add(lifetime);
-	        object.add(backRender);
-	        object.add(foreRender);
-	        object.add(foreSprite);
-	        object.add(backSprite);
-	          
-	        addStaticData(GameObjectType.CRUSH_FLASH, object, backSprite);
-	        addStaticData(GameObjectType.CRUSH_FLASH, null, foreSprite);
-	
-	        
-	        final SpriteAnimation idle = foreSprite.findAnimation(1);
-	        if (idle != null) {
-	            lifetime.setTimeUntilDeath(idle.getLength());
-	        }
-	        
-	        backSprite.playAnimation(0);
-	        foreSprite.playAnimation(1);
-        }
-        
-        return object;
-    }
-    
-    public GameObject spawnEffectFlash(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.longTermTextureLibrary;
-        GameObject object = null;
-        // This is just an effect, so we can live without it if our pools are exhausted.
-        if (componentAvailable(RenderComponent.class, 1)) {
-	        object = mGameObjectPool.allocate();
-	        object.getPosition().set(positionX, positionY);
-	        object.activationRadius = mAlwaysActive;
-	        object.width = 64;
-	        object.height = 64;
-	        
-	        FixedSizeArray<BaseObject> staticData = getStaticData(GameObjectType.FLASH);
-	        if (staticData == null) {
-	            final int staticObjectCount = 1;
-	            staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
-	            
-	            SpriteAnimation back = new SpriteAnimation(0, 3);
-	            back.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_back01), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            back.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_back02), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            back.addFrame(new AnimationFrame(
-	                    textureLibrary.getTextureByResource(R.drawable.effect_crush_back03), 
-	                    Utils.framesToTime(24, 1), null, null));
-	            
-	         
-	            staticData.add(back);
-	            setStaticData(GameObjectType.FLASH, staticData);
-	        }
-	        
-	        
-	        RenderComponent backRender = (RenderComponent)allocateComponent(RenderComponent.class);
-	        backRender.setPriority(SortConstants.EFFECT);
-	        
-	        SpriteComponent backSprite = (SpriteComponent)allocateComponent(SpriteComponent.class);
-	        backSprite.setSize((int)object.width, (int)object.height);
-	        backSprite.setRenderComponent(backRender);
-	        
-	   
-	
-	        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
-	
-	    
-	        object.add(lifetime);
-	        object.add(backRender);
-	        object.add(backSprite);
-	          
-	        addStaticData(GameObjectType.FLASH, object, backSprite);
-	
-	        
-	        final SpriteAnimation idle = backSprite.findAnimation(0);
-	        if (idle != null) {
-	            lifetime.setTimeUntilDeath(idle.getLength());
-	        }
-	        
-	        backSprite.playAnimation(0);
-        }
-        
-        return object;
-    }
-    
-
     public GameObject spawnFrameRateWatcher(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
-        ContextParameters params = sSystemRegistry.contextParameters;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
+        ContextParameters params = getSystemRegistry().contextParameters;
         
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(250, 0);	// HACK!
@@ -5997,10 +5545,10 @@ public class GameObjectFactory extends BaseObject {
         
         indicator.setCrop(0, 8, 8, 8); // hack!  this shouldn't be hard-coded.
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.OVERLAY);
         
-        FrameRateWatcherComponent watcher = (FrameRateWatcherComponent)allocateComponent(FrameRateWatcherComponent.class);
+        FrameRateWatcherComponent watcher = (FrameRateWatcherComponent)allocateComponent(FrameRateWatcherComponent.TYPE_ID);
         watcher.setup(render, indicator);
         
         object.add(render);
@@ -6011,7 +5559,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnBreakableBlockPiece(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(positionX, positionY);
@@ -6024,10 +5572,10 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 4;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent gravity = allocateComponent(GravityComponent.class);
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent gravity = allocateComponent(GravityComponent.TYPE_ID);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
             
-            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.class);
+            SimplePhysicsComponent physics = (SimplePhysicsComponent)allocateComponent(SimplePhysicsComponent.TYPE_ID);
             physics.setBounciness(0.3f);
             
             DrawableBitmap piece = new DrawableBitmap(
@@ -6036,7 +5584,7 @@ public class GameObjectFactory extends BaseObject {
                     (int)object.height);
             
             
-            RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+            RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
             render.setPriority(SortConstants.GENERAL_OBJECT);
             render.setDrawable(piece);
             
@@ -6047,7 +5595,7 @@ public class GameObjectFactory extends BaseObject {
             setStaticData(GameObjectType.BREAKABLE_BLOCK_PIECE, staticData);
         }
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(3.0f);
         
         object.destroyOnDeactivation = true;
@@ -6067,11 +5615,11 @@ public class GameObjectFactory extends BaseObject {
         object.width = 1;
         object.height = 1;
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(0.5f);
         
         LaunchProjectileComponent pieceSpawner 
-            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+            = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
         pieceSpawner.setObjectTypeToSpawn(GameObjectType.BREAKABLE_BLOCK_PIECE);
         pieceSpawner.setDelayBeforeFirstSet(0.0f);
         pieceSpawner.setSetsPerActivation(1);
@@ -6096,18 +5644,18 @@ public class GameObjectFactory extends BaseObject {
         
     	GameObject object = null;
         // This is just an effect, so we can live without it if our pools are exhausted.
-        if (componentAvailable(LaunchProjectileComponent.class, 2)) {
+        if (componentAvailable(LaunchProjectileComponent.TYPE_ID, 2)) {
 	        object = mGameObjectPool.allocate();
 	        object.getPosition().set(positionX, positionY);
 	        object.activationRadius = mTightActivationRadius;
 	        object.width = 1;
 	        object.height = 1;
 	        
-	        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+	        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
 	        lifetime.setTimeUntilDeath(0.5f);
 	        
 	        LaunchProjectileComponent smokeGun 
-		        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+		        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
 	        smokeGun.setSetsPerActivation(1);
 	        smokeGun.setShotsPerSet(3);
 		    smokeGun.setDelayBetweenShots(0.0f);
@@ -6119,7 +5667,7 @@ public class GameObjectFactory extends BaseObject {
 		    smokeGun.setThetaError(1.0f);
 		    
 		    LaunchProjectileComponent smokeGun2 
-		        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+		        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
 		    smokeGun2.setSetsPerActivation(1);
 		    smokeGun2.setShotsPerSet(3);
 		    smokeGun2.setDelayBetweenShots(0.0f);
@@ -6141,7 +5689,7 @@ public class GameObjectFactory extends BaseObject {
     }
     
     public GameObject spawnGemEffect(float positionX, float positionY) {
-        TextureLibrary textureLibrary = sSystemRegistry.shortTermTextureLibrary;
+        TextureLibrary textureLibrary = getSystemRegistry().shortTermTextureLibrary;
 
         GameObject object = mGameObjectPool.allocate();
         object.getPosition().set(positionX, positionY);
@@ -6154,20 +5702,20 @@ public class GameObjectFactory extends BaseObject {
             final int staticObjectCount = 2;
             staticData = new FixedSizeArray<BaseObject>(staticObjectCount);
             
-            GameComponent movement = allocateComponent(MovementComponent.class);
+            GameComponent movement = allocateComponent(MovementComponent.TYPE_ID);
                 
             staticData.add(movement);
             
             setStaticData(GameObjectType.GEM_EFFECT, staticData);
         }
         
-        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.class);
+        RenderComponent render = (RenderComponent)allocateComponent(RenderComponent.TYPE_ID);
         render.setPriority(SortConstants.EFFECT);
 
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(0.5f);
         
-        FadeDrawableComponent fadeOut = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.class);
+        FadeDrawableComponent fadeOut = (FadeDrawableComponent)allocateComponent(FadeDrawableComponent.TYPE_ID);
         fadeOut.setupFade(1.0f, 0.0f, 0.5f, FadeDrawableComponent.LOOP_TYPE_NONE, FadeDrawableComponent.FADE_LINEAR, 0.0f);
         fadeOut.setTexture(textureLibrary.allocateTexture(R.drawable.object_ruby01));
         fadeOut.setRenderComponent(render);
@@ -6191,14 +5739,14 @@ public class GameObjectFactory extends BaseObject {
         object.width = 1;
         object.height = 1;
         
-        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.class);
+        LifetimeComponent lifetime = (LifetimeComponent)allocateComponent(LifetimeComponent.TYPE_ID);
         lifetime.setTimeUntilDeath(0.5f);
         
         final int gems = 6;
         final float angleIncrement = (float)(2.0f * Math.PI) / gems;
         for (int x = 0; x < gems; x++) {
 	        LaunchProjectileComponent gemGun 
-		        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.class);
+		        = (LaunchProjectileComponent)allocateComponent(LaunchProjectileComponent.TYPE_ID);
 	        gemGun.setSetsPerActivation(1);
 	        gemGun.setShotsPerSet(1);
 	        gemGun.setDelayBetweenShots(0.0f);
@@ -6222,22 +5770,8 @@ public class GameObjectFactory extends BaseObject {
         return object;
     }
     
-    /** Comparator for game objects objects. */
-    private final static class ComponentPoolComparator implements Comparator<GameComponentPool> {
-        public int compare(final GameComponentPool object1, final GameComponentPool object2) {
-            int result = 0;
-            if (object1 == null && object2 != null) {
-                result = 1;
-            } else if (object1 != null && object2 == null) {
-                result = -1;
-            } else if (object1 != null && object2 != null) {
-                result = object1.objectClass.hashCode() - object2.objectClass.hashCode();
-            }
-            return result;
-        }
-    }
-    
     public class GameObjectPool extends TObjectPool<GameObject> {
+        private GameObjectHandleTable mHandles;
 
         public GameObjectPool() {
             super();
@@ -6247,18 +5781,33 @@ public class GameObjectFactory extends BaseObject {
             super(size);
         }
         
+        public GameObjectPool(int size, int lazyChunk) {
+            super(size, lazyChunk);
+        }
+        
         @Override
         protected void fill() {
+            // fill() runs from the super constructor, before field initializers.
+            if (mHandles == null) {
+                mHandles = new GameObjectHandleTable(getLimit());
+            }
             for (int x = 0; x < getSize(); x++) {
-                getAvailable().add(new GameObject());
+                GameObject object = new GameObject();
+                mHandles.register(object);
+                getAvailable().add(object);
             }
         }
 
         @Override
         public void release(Object entry) {
             ((GameObject)entry).reset();
+            mHandles.retire((GameObject)entry);
             super.release(entry);
         }
+        
+        public final GameObject resolve(int handle) {
+            return mHandles.resolve(handle);
+        }
 
     }
 }
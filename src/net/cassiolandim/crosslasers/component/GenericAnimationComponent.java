@@ -21,6 +21,8 @@ import net.cassiolandim.crosslasers.GameObject;
 import net.cassiolandim.crosslasers.Utils;
 
 public class GenericAnimationComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(GenericAnimationComponent.class);
+    
     private SpriteComponent mSprite;
     
     public GenericAnimationComponent() {
@@ -34,6 +36,11 @@ public class GenericAnimationComponent extends GameComponent {
         mSprite = null;
     }
     
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+    
     @Override
     public void update(float timeDelta, BaseObject parent) {
         if (mSprite != null) {
@@ -28,6 +28,8 @@ import net.cassiolandim.crosslasers.system.SoundSystem.Sound;
 
 
 public class GhostComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(GhostComponent.class);
+    
     private float mMovementSpeed;
     private float mJumpImpulse;
     private float mAcceleration;
@@ -67,7 +69,7 @@ public class GhostComponent extends GameComponent {
     public void update(float timeDelta, BaseObject parent) {   
         GameObject parentObject = (GameObject) parent;
         boolean timeToRelease = false;
-        final InputGameInterface input = sSystemRegistry.inputGameInterface;
+        final InputGameInterface input = getSystemRegistry().inputGameInterface;
 
         if (parentObject.life > 0) {
             
@@ -77,7 +79,8 @@ public class GhostComponent extends GameComponent {
                     timeToRelease = true;
                 } else if (mLifeTime < 1.0f) {
                     // Do we have a sprite we can fade out?
-                    SpriteComponent sprite = parentObject.findByClass(SpriteComponent.class);
+                    SpriteComponent sprite =
+                            (SpriteComponent)parentObject.findByType(SpriteComponent.TYPE_ID);
                     if (sprite != null) {
                         sprite.setOpacity(mLifeTime);
                     }
@@ -113,7 +116,7 @@ public class GhostComponent extends GameComponent {
                 }
 
                 final InputButton jumpButton = input.getJumpButton();
-                final TimeSystem time = sSystemRegistry.timeSystem;
+                final TimeSystem time = getSystemRegistry().timeSystem;
                 final float gameTime = time.getGameTime();
                 
                 if (jumpButton.getTriggered(gameTime) 
@@ -133,7 +136,7 @@ public class GhostComponent extends GameComponent {
             }
             
             if (!timeToRelease && mAmbientSound != null && mAmbientSoundStream == -1) {
-            	SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+            	SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
             	if (sound != null) {
             		mAmbientSoundStream = sound.play(mAmbientSound, true, SoundSystem.PRIORITY_NORMAL);
             	}
@@ -142,7 +145,7 @@ public class GhostComponent extends GameComponent {
         
         if (parentObject.life == 0) {
         	if (mAmbientSoundStream > -1) {
-            	SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+            	SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
             	if (sound != null) {
             		sound.stop(mAmbientSoundStream);
             		mAmbientSoundStream = -1;
@@ -157,7 +160,7 @@ public class GhostComponent extends GameComponent {
     }
     
     public final void releaseControl(GameObject parentObject) {
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         GameObject player = null;
         if (manager != null) {
             player = manager.getPlayer();
@@ -169,18 +172,19 @@ public class GhostComponent extends GameComponent {
                 parentObject.life = 0;
             } else {
                 // See if there's a component swap we can run.
-                ChangeComponentsComponent swap = parentObject.findByClass(ChangeComponentsComponent.class);
+                ChangeComponentsComponent swap =
+                        (ChangeComponentsComponent)parentObject.findByType(ChangeComponentsComponent.TYPE_ID);
                 if (swap != null) {
                     swap.activate(parentObject);
                 }
             }
             
-            PlayerComponent control = player.findByClass(PlayerComponent.class);
+            PlayerComponent control = (PlayerComponent)player.findByType(PlayerComponent.TYPE_ID);
             control.deactivateGhost(mDelayOnRelease);
         }
         
         if (mAmbientSoundStream > -1) {
-        	SoundSystem sound = BaseObject.sSystemRegistry.soundSystem;
+        	SoundSystem sound = BaseObject.getSystemRegistry().soundSystem;
         	if (sound != null) {
         		sound.stop(mAmbientSoundStream);
         		mAmbientSoundStream = -1;
@@ -25,6 +25,8 @@ import net.cassiolandim.crosslasers.Vector2;
  * it to be pulled down towards the ground.
  */
 public class GravityComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(GravityComponent.class);
+    
     private Vector2 mGravity;
     private Vector2 mScaledGravity;
     private static final Vector2 sDefaultGravity = new Vector2(0.0f, -400.0f);
@@ -24,6 +24,8 @@ import net.cassiolandim.crosslasers.GameObjectManager;
 import net.cassiolandim.crosslasers.Vector2;
 
 public class HitPlayerComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(HitPlayerComponent.class);
+    
 	float mDistance2;
 	Vector2 mPlayerPosition;
 	Vector2 mMyPosition;
@@ -51,7 +53,7 @@ public class HitPlayerComponent extends GameComponent {
 
     @Override
     public void update(float timeDelta, BaseObject parent) {
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         if (manager != null && mHitReact != null) {
         	GameObject player = manager.getPlayer();
         	if (player != null && player.life > 0) {
@@ -59,7 +61,8 @@ public class HitPlayerComponent extends GameComponent {
         		GameObject parentObject = (GameObject)parent;
         		mMyPosition.set(parentObject.getCenteredPositionX(), parentObject.getCenteredPositionY());
         		if (mMyPosition.distance2(mPlayerPosition) <= mDistance2) {
-        			HitReactionComponent playerHitReact = player.findByClass(HitReactionComponent.class);
+        			HitReactionComponent playerHitReact =
+        					(HitReactionComponent)player.findByType(HitReactionComponent.TYPE_ID);
         			if (playerHitReact != null) {
         				if (!mHitDirection) {
         					// hit myself
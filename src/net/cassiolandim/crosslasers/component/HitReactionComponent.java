@@ -39,6 +39,8 @@ import net.cassiolandim.crosslasers.system.TimeSystem;
  * that object to respond to dynamic collisions.
  */
 public class HitReactionComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(HitReactionComponent.class);
+    
     private static final float ATTACK_PAUSE_DELAY = (1.0f / 60) * 4;
     private final static float DEFAULT_BOUNCE_MAGNITUDE = 200.0f;
     private final static float EVENT_SEND_DELAY = 5.0f;
@@ -113,7 +115,7 @@ public class HitReactionComponent extends GameComponent {
             boolean hitAccepted) {
         if (hitAccepted) {
             if (mPauseOnAttack && hitType == CollisionParameters.HitType.HIT) {
-                TimeSystem time = sSystemRegistry.timeSystem;
+                TimeSystem time = getSystemRegistry().timeSystem;
                 time.freeze(mPauseOnAttackTime);
             }
             
@@ -128,7 +130,7 @@ public class HitReactionComponent extends GameComponent {
             if (mDealHitSound != null && 
             		(hitType == mDealHitSoundHitType || 
             				mDealHitSoundHitType == CollisionParameters.HitType.INVALID)) {
-                SoundSystem sound = sSystemRegistry.soundSystem;
+                SoundSystem sound = getSystemRegistry().soundSystem;
                 if (sound != null) {
                     sound.play(mDealHitSound, false, SoundSystem.PRIORITY_NORMAL);
                 }
@@ -141,8 +143,8 @@ public class HitReactionComponent extends GameComponent {
                 final float y = mAlignDealHitObjectToVictimY ? 
                         victim.getPosition().y : parent.getPosition().y;     
                 
-                GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
-                GameObjectManager manager = sSystemRegistry.gameObjectManager;
+                GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+                GameObjectManager manager = getSystemRegistry().gameObjectManager;
  
                 if (factory != null) {
                     GameObject object = factory.spawn(mSpawnOnDealHitObjectType, x, 
@@ -158,13 +160,13 @@ public class HitReactionComponent extends GameComponent {
     
     /** Called when this object is hit by another object. */
     public boolean receivedHit(GameObject parent, GameObject attacker, int hitType) {
-        final TimeSystem time = sSystemRegistry.timeSystem;
+        final TimeSystem time = getSystemRegistry().timeSystem;
         final float gameTime = time.getGameTime();
          
         if (mGameEventHitType == hitType && 
                 mGameEventHitType != CollisionParameters.HitType.INVALID ) {
         	if (mLastGameEventTime < 0.0f || gameTime > mLastGameEventTime + EVENT_SEND_DELAY) {
-	            LevelSystem level = sSystemRegistry.levelSystem;
+	            LevelSystem level = getSystemRegistry().levelSystem;
 	            level.sendGameEvent(mGameEventOnHit, mGameEventIndexData, true);
 	        } else {
 	        	// special case.  If we're waiting for a hit type to spawn an event and
@@ -186,7 +188,7 @@ public class HitReactionComponent extends GameComponent {
                     parent.life -= 1;
 
                     if (mBounceOnHit && parent.life > 0) {
-                        VectorPool pool = sSystemRegistry.vectorPool;
+                        VectorPool pool = getSystemRegistry().vectorPool;
                         Vector2 newVelocity = pool.allocate(parent.getPosition());
                         newVelocity.subtract(attacker.getPosition());
                         newVelocity.set(0.5f * Utils.sign(newVelocity.x), 
@@ -213,7 +215,8 @@ public class HitReactionComponent extends GameComponent {
                 break;
             case CollisionParameters.HitType.COLLECT:
                 if (mInventoryUpdate != null && parent.life > 0) {
-                    InventoryComponent attackerInventory = attacker.findByClass(InventoryComponent.class);
+                    InventoryComponent attackerInventory =
+                            (InventoryComponent)attacker.findByType(InventoryComponent.TYPE_ID);
                     if (attackerInventory != null) {
                         attackerInventory.applyUpdate(mInventoryUpdate);
                     }
@@ -239,7 +242,7 @@ public class HitReactionComponent extends GameComponent {
         
         if (hitType != CollisionParameters.HitType.INVALID) {
             if (mTakeHitSound != null && hitType == mTakeHitSoundHitType) {
-                SoundSystem sound = sSystemRegistry.soundSystem;
+                SoundSystem sound = getSystemRegistry().soundSystem;
                 if (sound != null) {
                     sound.play(mTakeHitSound, false, SoundSystem.PRIORITY_NORMAL);
                 }
@@ -256,7 +259,7 @@ public class HitReactionComponent extends GameComponent {
     @Override
     public void update(float timeDelta, BaseObject parent) {
         GameObject parentObject = (GameObject)parent;
-        TimeSystem time = sSystemRegistry.timeSystem;
+        TimeSystem time = getSystemRegistry().timeSystem;
         
         final float gameTime = time.getGameTime();
        
@@ -21,6 +21,8 @@ import net.cassiolandim.crosslasers.system.HudSystem;
 
 
 public class InventoryComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(InventoryComponent.class);
+    
     private UpdateRecord mInventory;
     private boolean mInventoryChanged;
     
@@ -45,7 +47,7 @@ public class InventoryComponent extends GameComponent {
     @Override
     public void update(float timeDelta, BaseObject parent) {
         if (mInventoryChanged) {
-            HudSystem hud = sSystemRegistry.hudSystem;
+            HudSystem hud = getSystemRegistry().hudSystem;
             if (hud != null) {
                 hud.updateInventory(mInventory);
             }
@@ -32,6 +32,8 @@ import net.cassiolandim.crosslasers.system.TimeSystem;
  * of game object.
  */
 public class LaunchProjectileComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(LaunchProjectileComponent.class);
+    
     private GameObjectFactory.GameObjectType mObjectTypeToSpawn;
     private float mOffsetX;
     private float mOffsetY;
@@ -95,7 +97,7 @@ public class LaunchProjectileComponent extends GameComponent {
     public void update(float timeDelta, BaseObject parent) {   
         GameObject parentObject = (GameObject) parent;
         
-        final TimeSystem time = sSystemRegistry.timeSystem;
+        final TimeSystem time = getSystemRegistry().timeSystem;
         final float gameTime = time.getGameTime();
         
         if (mTrackedProjectileCount < mMaxTrackedProjectiles || !mTrackProjectiles) {
@@ -136,8 +138,8 @@ public class LaunchProjectileComponent extends GameComponent {
     
     private void launch(GameObject parentObject) {
         mLaunchedCount++;
-        GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         if (factory != null && manager != null) {
             float offsetX = mOffsetX;
             float offsetY = mOffsetY;
@@ -176,16 +178,17 @@ public class LaunchProjectileComponent extends GameComponent {
 	            
 	            if (mTrackProjectiles) {
 	                object.commitUpdates();
-	                LifetimeComponent projectileLife = object.findByClass(LifetimeComponent.class);
+	                LifetimeComponent projectileLife =
+	                		(LifetimeComponent)object.findByType(LifetimeComponent.TYPE_ID);
 	                if (projectileLife != null) {
-	                    projectileLife.setTrackingSpawner(this);
+	                    projectileLife.setTrackingSpawner(this, parentObject);
 	                    mTrackedProjectileCount++;
 	                }
 	            }
 	            manager.add(object);
 	            
 	            if (mShootSound != null) {
-	            	SoundSystem sound = sSystemRegistry.soundSystem;
+	            	SoundSystem sound = getSystemRegistry().soundSystem;
 	            	if (sound != null) {
 	            		sound.play(mShootSound, false, SoundSystem.PRIORITY_NORMAL);
 	            	}
@@ -27,10 +27,12 @@ import net.cassiolandim.crosslasers.system.SoundSystem.Sound;
 
 
 public class LauncherComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(LauncherComponent.class);
+    
     private final static float DEFAULT_LAUNCH_DELAY = 2.0f;
     private final static float DEFAULT_LAUNCH_MAGNITUDE = 2000.0f;
     private final static float DEFAULT_POST_LAUNCH_DELAY = 1.0f;
-    private GameObject mShot;
+    private int mShot;   // Handle to the loaded shot.
     private float mLaunchTime;
     private float mAngle;
     private float mLaunchDelay;
@@ -52,7 +54,7 @@ public class LauncherComponent extends GameComponent {
     
     @Override
     public void reset() {
-        mShot = null;
+        mShot = GameObject.INVALID_HANDLE;
         mLaunchTime = 0.0f;
         mAngle = 0.0f;
         mLaunchDelay = DEFAULT_LAUNCH_DELAY;
@@ -67,24 +69,24 @@ public class LauncherComponent extends GameComponent {
     
     @Override
     public void update(float timeDelta, BaseObject parent) {
-        final TimeSystem time = sSystemRegistry.timeSystem;
+        final TimeSystem time = getSystemRegistry().timeSystem;
         final float gameTime = time.getGameTime();
         GameObject parentObject = (GameObject)parent;
         
-        if (mShot != null) {
-            if (mShot.life <= 0) {
-                // Looks like the shot is dead.  Let's forget about it.
-                // TODO: this is unreliable.  We should have a "notify on death" event or something.
-                mShot = null;
+        if (mShot != GameObject.INVALID_HANDLE) {
+            final GameObject shot = getSystemRegistry().gameObjectFactory.resolve(mShot);
+            if (shot == null || shot.life <= 0) {
+                // Looks like the shot is dead (or already recycled).  Let's forget about it.
+                mShot = GameObject.INVALID_HANDLE;
             } else {
                 if (gameTime > mLaunchTime) {
-                    fire(mShot, parentObject, mAngle);
-                    mShot = null;
+                    fire(shot, parentObject, mAngle);
+                    mShot = GameObject.INVALID_HANDLE;
                     if (mDriveActions) {
                     	parentObject.setCurrentAction(ActionType.ATTACK);
                     }
                 } else {
-                    mShot.setPosition(parentObject.getPosition());
+                    shot.setPosition(parentObject.getPosition());
                 }
             }
         } else if (gameTime > mLaunchTime + mPostLaunchDelay) {
@@ -95,15 +97,17 @@ public class LauncherComponent extends GameComponent {
     } 
     
     public void prepareToLaunch(GameObject object, GameObject parentObject) {
-        if (mShot != object) {
-            if (mShot != null) {
+        final int handle = object.getHandle();
+        if (mShot != handle) {
+            final GameObject shot = getSystemRegistry().gameObjectFactory.resolve(mShot);
+            if (shot != null) {
                 // We already have a shot loaded and we are asked to shoot something else.
                 // Shoot the current shot off and then load the new one.
-                fire(mShot, parentObject, mAngle);
+                fire(shot, parentObject, mAngle);
             }
-            final TimeSystem time = sSystemRegistry.timeSystem;
+            final TimeSystem time = getSystemRegistry().timeSystem;
             final float gameTime = time.getGameTime();
-            mShot = object;    
+            mShot = handle;    
             mLaunchTime = gameTime + mLaunchDelay;
         }
     }
@@ -118,15 +122,15 @@ public class LauncherComponent extends GameComponent {
         object.setVelocity(mLaunchDirection);
         
         if (mLaunchSound != null) {
-        	SoundSystem sound = sSystemRegistry.soundSystem;
+        	SoundSystem sound = getSystemRegistry().soundSystem;
         	if (sound != null) {
         		sound.play(mLaunchSound, false, SoundSystem.PRIORITY_NORMAL);
         	}
         }
         
         if (mLaunchEffect != GameObjectFactory.GameObjectType.INVALID) {
-        	GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
-        	GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        	GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+        	GameObjectManager manager = getSystemRegistry().gameObjectManager;
         	if (factory != null && manager != null) {
         		final Vector2 position = parentObject.getPosition();
         		
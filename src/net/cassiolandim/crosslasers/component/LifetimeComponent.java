@@ -30,10 +30,13 @@ import net.cassiolandim.crosslasers.system.SoundSystem.Sound;
  * meet other configurable criteria.
  */
 public class LifetimeComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(LifetimeComponent.class);
+    
     private boolean mDieWhenInvisible;
     private float mTimeUntilDeath;
     private GameObjectFactory.GameObjectType mSpawnOnDeathType;
     private LaunchProjectileComponent mTrackingSpawner;
+    private int mTrackingSpawnerObject;     // Handle to the owner of mTrackingSpawner.
     private Vector2 mHotSpotTestPoint;
     private boolean mReleaseGhostOnDeath;
     private boolean mVulnerableToDeathTiles;
@@ -53,6 +56,7 @@ public class LifetimeComponent extends GameComponent {
         mTimeUntilDeath = -1;
         mSpawnOnDeathType = GameObjectFactory.GameObjectType.INVALID;
         mTrackingSpawner = null;
+        mTrackingSpawnerObject = GameObject.INVALID_HANDLE;
         mHotSpotTestPoint.zero();
         mReleaseGhostOnDeath = true;
         mVulnerableToDeathTiles = false;
@@ -84,7 +88,7 @@ public class LifetimeComponent extends GameComponent {
         }
         
         if (mDieWhenInvisible) {
-            ContextParameters context = sSystemRegistry.contextParameters;
+            ContextParameters context = getSystemRegistry().contextParameters;
             final float dx = Math.abs(parentObject.getPosition().x);
             final float dy = Math.abs(parentObject.getPosition().y);
             if (dx > context.gameWidth || dy > context.gameHeight) {
@@ -102,13 +106,13 @@ public class LifetimeComponent extends GameComponent {
     }
     
     private void die(GameObject parentObject) {
-        GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         
         if (mReleaseGhostOnDeath) {
             // TODO: This is sort of a hack.  Find a better way to do this without introducing a
             // dependency between these two.  Generic on-death event or something.
-            GhostComponent ghost = parentObject.findByClass(GhostComponent.class);
+            GhostComponent ghost = (GhostComponent)parentObject.findByType(GhostComponent.TYPE_ID);
             if (ghost != null) {
                 ghost.releaseControl(parentObject);
             }
@@ -124,7 +128,10 @@ public class LifetimeComponent extends GameComponent {
             
         }
         
-        if (mTrackingSpawner != null) {
+        // If the spawner's object has been destroyed, its component may already belong to another
+        // object.
+        if (mTrackingSpawner != null && factory != null
+                && factory.resolve(mTrackingSpawnerObject) != null) {
             mTrackingSpawner.trackedProjectileDestroyed();
         }
         
@@ -133,7 +140,7 @@ public class LifetimeComponent extends GameComponent {
         }
         
         if (mDeathSound != null) {
-        	SoundSystem sound = sSystemRegistry.soundSystem;
+        	SoundSystem sound = getSystemRegistry().soundSystem;
         	if (sound != null) {
         		sound.play(mDeathSound, false, SoundSystem.PRIORITY_NORMAL);
         	}
@@ -141,8 +148,10 @@ public class LifetimeComponent extends GameComponent {
 
     }
     
-    public final void setTrackingSpawner(LaunchProjectileComponent spawner) {
+    public final void setTrackingSpawner(LaunchProjectileComponent spawner, 
+            GameObject spawnerObject) {
         mTrackingSpawner = spawner;
+        mTrackingSpawnerObject = spawnerObject.getHandle();
     }
     
     public final void setReleaseGhostOnDeath(boolean release) {
@@ -25,6 +25,8 @@ import net.cassiolandim.crosslasers.system.RenderSystem;
 
 
 public class MotionBlurComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(MotionBlurComponent.class);
+    
 	private static final int STEP_COUNT = 4;
 	private static final float STEP_DELAY = 0.1f;
 	private static final float OPACITY_STEP = 1.0f / (STEP_COUNT + 1);
@@ -92,7 +94,7 @@ public class MotionBlurComponent extends GameComponent {
 			}
 			
 
-            RenderSystem renderer = sSystemRegistry.renderSystem;
+            RenderSystem renderer = getSystemRegistry().renderSystem;
             
             
 			final int startStep = mCurrentStep > 0 ? mCurrentStep - 1 : STEP_COUNT - 1;
@@ -101,7 +103,7 @@ public class MotionBlurComponent extends GameComponent {
 				final int step = (startStep - x) < 0 ? (STEP_COUNT + (startStep - x)) : (startStep - x);
 				final BlurRecord record = mHistory[step];
 				if (record.texture != null) {
-					DrawableBitmap stepImage = sSystemRegistry.drawableFactory.allocateDrawableBitmap();
+					DrawableBitmap stepImage = getSystemRegistry().drawableFactory.allocateDrawableBitmap();
 					stepImage.setTexture(record.texture);
 					stepImage.setWidth(record.width);
 					stepImage.setHeight(record.height);
@@ -25,9 +25,11 @@ import net.cassiolandim.crosslasers.Interpolator;
  * A game component that implements velocity-based movement.
  */
 public class MovementComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(MovementComponent.class);
+    
     // If multiple game components were ever running in different threads, this would need
     // to be non-static.
-    protected static Interpolator sInterpolator = new Interpolator();
+    protected final Interpolator mInterpolator = new Interpolator();
 
     public MovementComponent() {
         super();
@@ -43,17 +45,17 @@ public class MovementComponent extends GameComponent {
     public void update(float timeDelta, BaseObject parent) {
         GameObject object = (GameObject) parent;
 
-        sInterpolator.set(object.getVelocity().x, object.getTargetVelocity().x,
+        mInterpolator.set(object.getVelocity().x, object.getTargetVelocity().x,
                 object.getAcceleration().x);
-        float offsetX = sInterpolator.interpolate(timeDelta);
+        float offsetX = mInterpolator.interpolate(timeDelta);
         float newX = object.getPosition().x + offsetX;
-        float newVelocityX = sInterpolator.getCurrent();
+        float newVelocityX = mInterpolator.getCurrent();
 
-        sInterpolator.set(object.getVelocity().y, object.getTargetVelocity().y,
+        mInterpolator.set(object.getVelocity().y, object.getTargetVelocity().y,
                 object.getAcceleration().y);
-        float offsetY = sInterpolator.interpolate(timeDelta);
+        float offsetY = mInterpolator.interpolate(timeDelta);
         float newY = object.getPosition().y + offsetY;
-        float newVelocityY = sInterpolator.getCurrent();
+        float newVelocityY = mInterpolator.getCurrent();
 
         if (object.positionLocked == false) {
             object.getPosition().set(newX, newY);
@@ -26,6 +26,7 @@ import net.cassiolandim.crosslasers.system.ChannelSystem.Channel;
 
 
 public class NPCAnimationComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(NPCAnimationComponent.class);
 
     // Animations
     public static final int IDLE = 0;
@@ -125,7 +126,7 @@ public class NPCAnimationComponent extends GameComponent {
     
     protected boolean shouldFall(GameObject parentObject) {
         boolean result = false;
-        TimeSystem time = sSystemRegistry.timeSystem;
+        TimeSystem time = getSystemRegistry().timeSystem;
         final float airTime = time.getGameTime() - parentObject.getLastTouchedFloorTime();
         if (!mFlying && !parentObject.touchingGround() && airTime > FALL_TIME_THRESHOLD) {
             final Vector2 velocity = parentObject.getVelocity();
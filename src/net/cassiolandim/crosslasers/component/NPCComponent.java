@@ -17,6 +17,7 @@
 package net.cassiolandim.crosslasers.component;
 
 import net.cassiolandim.crosslasers.BaseObject;
+import net.cassiolandim.crosslasers.DeferredWrites;
 import net.cassiolandim.crosslasers.GameObject;
 import net.cassiolandim.crosslasers.Utils;
 import net.cassiolandim.crosslasers.Vector2;
@@ -24,6 +25,7 @@ import net.cassiolandim.crosslasers.GameObject.ActionType;
 import net.cassiolandim.crosslasers.system.HudSystem;
 
 public class NPCComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(NPCComponent.class);
 	
     private float mPauseTime;
     private float mTargetXVelocity;
@@ -105,6 +107,11 @@ public class NPCComponent extends GameComponent {
         mPauseOnAttack = true;
     }
 
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+    
     @Override
     public void update(float timeDelta, BaseObject parent) {
 
@@ -124,13 +131,8 @@ public class NPCComponent extends GameComponent {
         				&& parentObject.touchingGround()) {
 
         			if (mDeathTime < mDeathFadeDelay && mDeathTime + timeDelta >= mDeathFadeDelay) {
-        				HudSystem hud = sSystemRegistry.hudSystem;
-        	        	
-        	        	if (hud != null) {
-        	        		hud.startFade(false, 1.5f);
-        	        		hud.sendGameEventOnFadeComplete(mGameEvent, mGameEventIndex);
-        	        		mGameEvent = -1;
-        	        	}
+        				// The HUD is shared, so it's only touched on the game thread.
+        				DeferredWrites.run(this, parentObject);
         			}
         			mDeathTime += timeDelta;
 
@@ -161,6 +163,17 @@ public class NPCComponent extends GameComponent {
         mPreviousPosition.set(parentObject.getPosition());
     }
     
+    @Override
+    public void runDeferred(GameObject parent) {
+    	HudSystem hud = getSystemRegistry().hudSystem;
+    	
+    	if (hud != null) {
+    		hud.startFade(false, 1.5f);
+    		hud.sendGameEventOnFadeComplete(mGameEvent, mGameEventIndex);
+    		mGameEvent = -1;
+    	}
+    }
+    
     private void pauseMovement(GameObject parentObject) {
     	mTargetXVelocity = parentObject.getTargetVelocity().x;
     	parentObject.getTargetVelocity().x = 0.0f;
@@ -23,6 +23,8 @@ import net.cassiolandim.crosslasers.Vector2;
 
 
 public class OrbitalMagnetComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(OrbitalMagnetComponent.class);
+    
 	private final static float DEFAULT_STRENGTH = 15.0f;
 
 	private float mStrength;
@@ -56,7 +58,7 @@ public class OrbitalMagnetComponent extends GameComponent {
 
     @Override
     public void update(float timeDelta, BaseObject parent) {
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         if (manager != null) {
         	GameObject player = manager.getPlayer();
         	if (player != null) {
@@ -87,7 +89,8 @@ public class OrbitalMagnetComponent extends GameComponent {
     		
     		// remove gravity
     		final Vector2 targetVelocity = target.getVelocity();
-    		GravityComponent gravity = target.findByClass(GravityComponent.class);
+    		GravityComponent gravity =
+    				(GravityComponent)target.findByType(GravityComponent.TYPE_ID);
             final Vector2 gravityVector = gravity.getGravity();
             mVelocity.set(gravityVector);
             mVelocity.multiply(timeDelta);
@@ -27,6 +27,7 @@ import net.cassiolandim.crosslasers.VectorPool;
  * calculation based on mass, impulses, friction, and collisions.
  */
 public class PhysicsComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(PhysicsComponent.class);
 
     private float mMass;
     private float mBounciness; // 1.0 = super bouncy, 0.0 = zero bounce
@@ -70,7 +71,7 @@ public class PhysicsComponent extends GameComponent {
             resolveCollision(currentVelocity, impulseVector, surfaceNormal, impulseVector);
         }
 
-        VectorPool vectorPool = sSystemRegistry.vectorPool;
+        VectorPool vectorPool = getSystemRegistry().vectorPool;
 
         // if our speed is below inertia, we need to overcome inertia before we can move.
 
@@ -87,7 +88,8 @@ public class PhysicsComponent extends GameComponent {
 
         final boolean touchingFloor = parentObject.touchingGround();
 
-        GravityComponent gravity = parentObject.findByClass(GravityComponent.class);
+        GravityComponent gravity =
+                (GravityComponent)parentObject.findByType(GravityComponent.TYPE_ID);
 
         if (touchingFloor && currentVelocity.y <= 0.0f && Math.abs(newVelocity.x) > 0.0f
                         && gravity != null) {
@@ -134,7 +136,7 @@ public class PhysicsComponent extends GameComponent {
 
     protected void resolveCollision(Vector2 velocity, Vector2 impulse, Vector2 opposingNormal,
                     Vector2 outputImpulse) {
-        VectorPool vectorPool = sSystemRegistry.vectorPool;
+        VectorPool vectorPool = getSystemRegistry().vectorPool;
 
         outputImpulse.set(impulse);
 
@@ -175,7 +177,7 @@ public class PhysicsComponent extends GameComponent {
     protected void resolveCollision(Vector2 velocity, Vector2 impulse, Vector2 opposingNormal,
                     float otherMass, Vector2 otherVelocity, Vector2 otherImpulse,
                     float otherBounciness, Vector2 outputImpulse) {
-        VectorPool vectorPool = sSystemRegistry.vectorPool;
+        VectorPool vectorPool = getSystemRegistry().vectorPool;
 
         Vector2 collisionNormal = vectorPool.allocate(opposingNormal);
         collisionNormal.normalize();
@@ -21,6 +21,8 @@ import net.cassiolandim.crosslasers.system.SoundSystem;
 
 
 public class PlaySingleSoundComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(PlaySingleSoundComponent.class);
+    
 	private SoundSystem.Sound mSound;
 	private int mSoundHandle;
 	
@@ -43,7 +45,7 @@ public class PlaySingleSoundComponent extends GameComponent {
 	@Override
     public void update(float timeDelta, BaseObject parent) {
 		if (mSoundHandle == -1 && mSound != null) {
-			SoundSystem sound = sSystemRegistry.soundSystem;
+			SoundSystem sound = getSystemRegistry().soundSystem;
 			mSoundHandle = sound.play(mSound, false, SoundSystem.PRIORITY_NORMAL);
 		}
 	}
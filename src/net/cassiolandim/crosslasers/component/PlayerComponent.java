@@ -36,6 +36,8 @@ import net.cassiolandim.crosslasers.system.VibrationSystem;
 
 
 public class PlayerComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(PlayerComponent.class);
+    
     
     private static final float GROUND_IMPULSE_SPEED = 5000.0f;
     private static final float AIR_HORIZONTAL_IMPULSE_SPEED = 4000.0f;
@@ -134,8 +136,8 @@ public class PlayerComponent extends GameComponent {
     }
 
     protected void move(float time, float timeDelta, GameObject parentObject) {
-        VectorPool pool = sSystemRegistry.vectorPool;
-        InputGameInterface input = sSystemRegistry.inputGameInterface;
+        VectorPool pool = getSystemRegistry().vectorPool;
+        InputGameInterface input = getSystemRegistry().inputGameInterface;
         
         if (pool != null && input != null) {
 
@@ -230,7 +232,7 @@ public class PlayerComponent extends GameComponent {
     
     public void update(float timeDelta, BaseObject parent) {
 
-        TimeSystem time = sSystemRegistry.timeSystem;
+        TimeSystem time = getSystemRegistry().timeSystem;
         GameObject parentObject = (GameObject)parent;
         
         final float gameTime = time.getGameTime();
@@ -312,8 +314,8 @@ public class PlayerComponent extends GameComponent {
                 break;
         }
         
-        final HudSystem hud = sSystemRegistry.hudSystem;
-        final InputGameInterface input = sSystemRegistry.inputGameInterface;
+        final HudSystem hud = getSystemRegistry().hudSystem;
+        final InputGameInterface input = getSystemRegistry().inputGameInterface;
         if (hud != null) {
             hud.setFuelPercent(mFuel / FUEL_AMOUNT);
             hud.setButtonState(input.getJumpButton().getPressed(), input.getAttackButton().getPressed());
@@ -330,7 +332,7 @@ public class PlayerComponent extends GameComponent {
         if (!mGhostActive) {
             move(time, timeDelta, parentObject);
             
-            final InputGameInterface input = sSystemRegistry.inputGameInterface;
+            final InputGameInterface input = getSystemRegistry().inputGameInterface;
             final InputButton attackButton = input.getAttackButton();
             
             if (attackButton.getTriggered(time) && !mTouchingGround) {
@@ -339,8 +341,8 @@ public class PlayerComponent extends GameComponent {
                     && mGhostDeactivatedTime + GHOST_REACTIVATION_DELAY < time) {
                 mGhostChargeTime += timeDelta;
                 if (mGhostChargeTime > GHOST_CHARGE_TIME) {
-                    GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
-                    GameObjectManager manager = sSystemRegistry.gameObjectManager;
+                    GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+                    GameObjectManager manager = getSystemRegistry().gameObjectManager;
                     if (factory != null && manager != null) {
                         final float x = parentObject.getPosition().x;
                         final float y = parentObject.getPosition().y;
@@ -388,19 +390,21 @@ public class PlayerComponent extends GameComponent {
         
         if (mTouchingGround && mTimer2 < 0.0f) {
             mTimer2 = time;
-            VibrationSystem vibrator = sSystemRegistry.vibrationSystem;
+            VibrationSystem vibrator = getSystemRegistry().vibrationSystem;
             
             if (vibrator != null) {
                 vibrator.vibrate(STOMP_VIBRATE_TIME);
             }
             
-            GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
-            GameObjectManager manager = sSystemRegistry.gameObjectManager;
+            GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+            GameObjectManager manager = getSystemRegistry().gameObjectManager;
             if (factory != null && manager != null) {
                 final float x = parentObject.getPosition().x;
                 final float y = parentObject.getPosition().y;
-                GameObject smoke1 = factory.spawnDust(x, y - 16, true);
-                GameObject smoke2 = factory.spawnDust(x + 32, y - 16, false);
+                GameObject smoke1 = factory.spawn(GameObjectFactory.GameObjectType.DUST, 
+                        x, y - 16, true);
+                GameObject smoke2 = factory.spawn(GameObjectFactory.GameObjectType.DUST, 
+                        x + 32, y - 16, false);
                 manager.add(smoke1);
                 manager.add(smoke2);
             }
@@ -452,12 +456,12 @@ public class PlayerComponent extends GameComponent {
         
         if (parentObject.getCurrentAction() == ActionType.DEATH && mTimer > 0.0f) {
             final float elapsed = time - mTimer;
-            HudSystem hud = sSystemRegistry.hudSystem;
+            HudSystem hud = getSystemRegistry().hudSystem;
             if (hud != null && !hud.isFading()) {
                 if (elapsed > 2.0f) {
                     hud.startFade(false, 1.5f);
                     hud.sendGameEventOnFadeComplete(GameFlowEvent.EVENT_RESTART_LEVEL, 0);
-                    EventRecorder recorder = sSystemRegistry.eventRecorder;
+                    EventRecorder recorder = getSystemRegistry().eventRecorder;
                     if (recorder != null) {
                     	recorder.setLastDeathPosition(parentObject.getPosition());
                     }
@@ -469,16 +473,16 @@ public class PlayerComponent extends GameComponent {
     
     protected void gotoWin(float time) {
         mState = State.WIN;
-        TimeSystem timeSystem = sSystemRegistry.timeSystem;
+        TimeSystem timeSystem = getSystemRegistry().timeSystem;
         mTimer = timeSystem.getRealTime();
         timeSystem.appyScale(0.1f, 8.0f, true);
     }
     
     protected void stateWin(float time, float timeDelta, GameObject parentObject) {
        if (mTimer > 0.0f) {
-        	TimeSystem timeSystem = sSystemRegistry.timeSystem;
+        	TimeSystem timeSystem = getSystemRegistry().timeSystem;
             final float elapsed = timeSystem.getRealTime() - mTimer;
-            HudSystem hud = sSystemRegistry.hudSystem;
+            HudSystem hud = getSystemRegistry().hudSystem;
             if (hud != null && !hud.isFading()) {
                 if (elapsed > 2.0f) {
                     hud.startFade(false, 1.5f);
@@ -521,7 +525,7 @@ public class PlayerComponent extends GameComponent {
     
     public final void deactivateGhost(float delay) {
         mGhostActive = false;
-        mGhostDeactivatedTime = sSystemRegistry.timeSystem.getGameTime() + delay;
+        mGhostDeactivatedTime = getSystemRegistry().timeSystem.getGameTime() + delay;
         gotoPostGhostDelay();
     }
     
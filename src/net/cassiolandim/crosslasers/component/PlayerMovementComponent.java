@@ -23,6 +23,7 @@ import net.cassiolandim.crosslasers.GameObject;
  * A game component that implements velocity-based movement.
  */
 public class PlayerMovementComponent extends MovementComponent {
+    public static final int TYPE_ID = getTypeId(PlayerMovementComponent.class);
 
     public PlayerMovementComponent() {
         super();
@@ -33,17 +34,17 @@ public class PlayerMovementComponent extends MovementComponent {
     public void update(float timeDelta, BaseObject parent) {
         GameObject object = (GameObject) parent;
 
-        sInterpolator.set(object.getVelocity().x, object.getTargetVelocity().x,
+        mInterpolator.set(object.getVelocity().x, object.getTargetVelocity().x,
                 object.getAcceleration().x);
-        float offsetX = sInterpolator.interpolate(timeDelta);
+        float offsetX = mInterpolator.interpolate(timeDelta);
         float newX = object.getPosition().x + offsetX;
-        float newVelocityX = sInterpolator.getCurrent();
+        float newVelocityX = mInterpolator.getCurrent();
 
-        sInterpolator.set(object.getVelocity().y, object.getTargetVelocity().y,
+        mInterpolator.set(object.getVelocity().y, object.getTargetVelocity().y,
                 object.getAcceleration().y);
-//        float offsetY = sInterpolator.interpolate(timeDelta);
+//        float offsetY = mInterpolator.interpolate(timeDelta);
 //        float newY = object.getPosition().y + offsetY;
-//        float newVelocityY = sInterpolator.getCurrent();
+//        float newVelocityY = mInterpolator.getCurrent();
         float newY = object.getPosition().y;
         float newVelocityY = object.getVelocity().y;
 
@@ -29,6 +29,8 @@ import net.cassiolandim.crosslasers.system.TimeSystem;
  * attack.
  */
 public class PopOutComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(PopOutComponent.class);
+    
     private static final int DEFAULT_APPEAR_DISTANCE = 120;
     private static final int DEFAULT_HIDE_DISTANCE = 190;
     private static final int DEFAULT_ATTACK_DISTANCE = 0;   // No attacking by default.
@@ -68,14 +70,14 @@ public class PopOutComponent extends GameComponent {
     public void update(float timeDelta, BaseObject parent) {   
         GameObject parentObject = (GameObject) parent;
 
-        GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        GameObjectManager manager = getSystemRegistry().gameObjectManager;
         if (manager != null) {
             GameObject player = manager.getPlayer();
             if (player != null) {
                 mDistance.set(player.getPosition());
                 mDistance.subtract(parentObject.getPosition());
                 
-                TimeSystem time = sSystemRegistry.timeSystem;
+                TimeSystem time = getSystemRegistry().timeSystem;
                 final float currentTime = time.getGameTime();
                 
                 switch(mState) {
@@ -17,6 +17,7 @@
 package net.cassiolandim.crosslasers.component;
 
 import net.cassiolandim.crosslasers.BaseObject;
+import net.cassiolandim.crosslasers.DeferredWrites;
 import net.cassiolandim.crosslasers.DrawableObject;
 import net.cassiolandim.crosslasers.GameObject;
 import net.cassiolandim.crosslasers.Vector2;
@@ -31,6 +32,7 @@ import net.cassiolandim.crosslasers.system.RenderSystem;
  * the origin at the lower-left corner of the display).
  */
 public class RenderComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(RenderComponent.class);
 
 	private DrawableObject mDrawable;
     private int mPriority;
@@ -53,16 +55,39 @@ public class RenderComponent extends GameComponent {
         mDrawOffset.zero();
     }
 
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+    
     public void update(float timeDelta, BaseObject parent) {
-        if (mDrawable != null) {
-            RenderSystem system = sSystemRegistry.renderSystem;
-            if (system != null) {
-                mPositionWorkspace.set(((GameObject)parent).getPosition());
-                //mPositionWorkspace.add(mDrawOffset);
-                
-                system.scheduleForDraw(mDrawable, mPositionWorkspace, mPriority);
-            }
+        if (mDrawable != null && getSystemRegistry().renderSystem != null) {
+            DeferredWrites.run(this, (GameObject)parent);
+        }
+    }
+
+    /**
+     * Schedules the draw.  Shared instances (see GameObjectFactory.spawnBreakableBlockPiece())
+     * draw several objects in one frame, so the draw position is worked out here, where calls are
+     * serialized, rather than in update().
+     */
+    @Override
+    public void runDeferred(GameObject parent) {
+        final RenderSystem system = getSystemRegistry().renderSystem;
+        final Vector2 position = parent.getPosition();
+        final float alpha = system.getInterpolation();
+        if (alpha < 1.0f) {
+            // Draw between the last two simulation steps.
+            final Vector2 lastPosition = parent.getLastPosition();
+            mPositionWorkspace.set(
+                    lastPosition.x + ((position.x - lastPosition.x) * alpha),
+                    lastPosition.y + ((position.y - lastPosition.y) * alpha));
+        } else {
+            mPositionWorkspace.set(position);
         }
+        //mPositionWorkspace.add(mDrawOffset);
+
+        system.scheduleForDraw(mDrawable, mPositionWorkspace, mPriority);
     }
 
     public DrawableObject getDrawable() {
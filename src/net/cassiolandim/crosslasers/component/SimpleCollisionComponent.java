@@ -26,6 +26,8 @@ import net.cassiolandim.crosslasers.system.TimeSystem;
 
 // Simple collision detection component for objects not requiring complex collision (projectiles, etc)
 public class SimpleCollisionComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(SimpleCollisionComponent.class);
+    
 	private Vector2 mPreviousPosition;
 	private Vector2 mCurrentPosition;
 	private Vector2 mMovementDirection;
@@ -60,7 +62,7 @@ public class SimpleCollisionComponent extends GameComponent {
         	mMovementDirection.set(mCurrentPosition);
         	mMovementDirection.subtract(mPreviousPosition);
         	if (mMovementDirection.length2() > 0.0f) {
-        		final CollisionSystem collision = sSystemRegistry.collisionSystem;
+        		final CollisionSystem collision = getSystemRegistry().collisionSystem;
         		if (collision != null) {
         			final boolean hit = collision.castRay(mPreviousPosition, mCurrentPosition, 
         					mMovementDirection, mHitPoint, mHitNormal, parentObject);
@@ -77,7 +79,7 @@ public class SimpleCollisionComponent extends GameComponent {
         					parentObject.getPosition().y = mHitPoint.y - halfHeight;
         				}
         				
-        				final TimeSystem timeSystem = sSystemRegistry.timeSystem;
+        				final TimeSystem timeSystem = getSystemRegistry().timeSystem;
 
     	                if (timeSystem != null) {
     	                    float time = timeSystem.getGameTime();
@@ -23,6 +23,8 @@ import net.cassiolandim.crosslasers.Vector2;
 
 /** A light-weight physics implementation for use with non-complex characters (enemies, etc). */
 public class SimplePhysicsComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(SimplePhysicsComponent.class);
+    
     private static final float DEFAULT_BOUNCINESS = 0.1f;
     private float mBounciness;
     
@@ -27,6 +27,8 @@ import net.cassiolandim.crosslasers.GameObject.ActionType;
  * attack.
  */
 public class SleeperComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(SleeperComponent.class);
+    
     private final static int STATE_SLEEPING = 0;
     private final static int STATE_WAKING = 1;
     private final static int STATE_ATTACKING = 2;
@@ -57,6 +59,11 @@ public class SleeperComponent extends GameComponent {
         mAttackImpulseY = 0.0f;
     }
     
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+    
     @Override
     public void update(float timeDelta, BaseObject parent) {   
         GameObject parentObject = (GameObject) parent;
@@ -28,6 +28,8 @@ import net.cassiolandim.crosslasers.system.CollisionSystem;
  * background collision system every frame.
  */
 public class SolidSurfaceComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(SolidSurfaceComponent.class);
+    
     private FixedSizeArray<Vector2> mStartPoints;
     private FixedSizeArray<Vector2> mEndPoints;
     private FixedSizeArray<Vector2> mNormals;
@@ -87,7 +89,7 @@ public class SolidSurfaceComponent extends GameComponent {
 
     @Override
     public void update(float timeDelta, BaseObject parent) {
-        CollisionSystem collision = sSystemRegistry.collisionSystem;
+        CollisionSystem collision = getSystemRegistry().collisionSystem;
         
         final FixedSizeArray<Vector2> startPoints = mStartPoints;
         final FixedSizeArray<Vector2> endPoints = mEndPoints;
@@ -18,6 +18,7 @@ package net.cassiolandim.crosslasers.component;
 
 import net.cassiolandim.crosslasers.AnimationFrame;
 import net.cassiolandim.crosslasers.BaseObject;
+import net.cassiolandim.crosslasers.DeferredWrites;
 import net.cassiolandim.crosslasers.DrawableBitmap;
 import net.cassiolandim.crosslasers.DrawableFactory;
 import net.cassiolandim.crosslasers.GameObject;
@@ -30,6 +31,8 @@ import net.cassiolandim.crosslasers.SpriteAnimation;
  * frame.  Also manages horizontal and vertical flipping.
  */
 public class SpriteComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(SpriteComponent.class);
+    
     
     private PhasedObjectManager mAnimations;
     private float mAnimationTime;
@@ -42,6 +45,7 @@ public class SpriteComponent extends GameComponent {
     private boolean mVisible;
     private SpriteAnimation mCurrentAnimation;
     private boolean mAnimationsDirty;
+    private AnimationFrame mPendingFrame;   // Frame waiting for a bitmap, see runDeferred().
     
     public SpriteComponent(int width, int height) {
         super();
@@ -76,8 +80,14 @@ public class SpriteComponent extends GameComponent {
         mCurrentAnimation = null;
         mOpacity = 1.0f;
         mAnimationsDirty = false;
+        mPendingFrame = null;
     }
 
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+    
     @Override
     public void update(float timeDelta, BaseObject parent) {
         mAnimationTime += timeDelta;
@@ -111,18 +121,12 @@ public class SpriteComponent extends GameComponent {
                 validFrameAvailable = true;
                 final RenderComponent render = mRenderComponent;
                 if (render != null) {
-                    final DrawableFactory factory = sSystemRegistry.drawableFactory;
+                    final DrawableFactory factory = getSystemRegistry().drawableFactory;
                     if (mVisible && currentFrame.texture != null && factory != null) {
-                        // Fire and forget.  Allocate a new bitmap for this animation frame, set it up, and
-                        // pass it off to the render component for drawing.
-                        DrawableBitmap bitmap = factory.allocateDrawableBitmap();
-                        bitmap.setWidth(mWidth);
-                        bitmap.setHeight(mHeight);
-                        bitmap.setOpacity(mOpacity);
-                        updateFlip(bitmap, parentObject.facingDirection.x < 0.0f, 
-                                parentObject.facingDirection.y < 0.0f);
-                        bitmap.setTexture(currentFrame.texture);
-                        render.setDrawable(bitmap);
+                        // The drawable factory is shared, so the bitmap is allocated on the game
+                        // thread.
+                        mPendingFrame = currentFrame;
+                        DeferredWrites.run(this, parentObject);
                     } else {
                     	render.setDrawable(null);
                     }
@@ -146,6 +150,20 @@ public class SpriteComponent extends GameComponent {
         }
     }
 
+    @Override
+    public void runDeferred(GameObject parent) {
+        // Fire and forget.  Allocate a new bitmap for this animation frame, set it up, and
+        // pass it off to the render component for drawing.
+        DrawableBitmap bitmap = getSystemRegistry().drawableFactory.allocateDrawableBitmap();
+        bitmap.setWidth(mWidth);
+        bitmap.setHeight(mHeight);
+        bitmap.setOpacity(mOpacity);
+        updateFlip(bitmap, parent.facingDirection.x < 0.0f, parent.facingDirection.y < 0.0f);
+        bitmap.setTexture(mPendingFrame.texture);
+        mRenderComponent.setDrawable(bitmap);
+        mPendingFrame = null;
+    }
+
     public final void playAnimation(int index) {
         if (mCurrentAnimationIndex != index) {
             mAnimationTime = 0;
@@ -25,6 +25,7 @@ import net.cassiolandim.crosslasers.system.HudSystem;
 
 
 public class TheSourceComponent extends GameComponent {
+    public static final int TYPE_ID = getTypeId(TheSourceComponent.class);
 	
 	public final static float SHAKE_TIME = 0.6f;
 	private final static float DIE_TIME = 30.0f;
@@ -41,7 +42,7 @@ public class TheSourceComponent extends GameComponent {
 	private int mGameEventIndex;
 	private boolean mDead;
 	
-	private static ChannelSystem.ChannelBooleanValue sChannelValue = new ChannelSystem.ChannelBooleanValue();
+	private final ChannelSystem.ChannelBooleanValue mChannelValue = new ChannelSystem.ChannelBooleanValue();
 	
 	public TheSourceComponent() {
 		super();
@@ -55,7 +56,7 @@ public class TheSourceComponent extends GameComponent {
 		mExplosionTimer = 0.0f;
 		mShakeStartPosition = 0.0f;
 		mChannel = null;
-		sChannelValue.value = false;
+		mChannelValue.value = false;
 		mGameEvent = -1;
 		mGameEventIndex = -1;
 		mDead = false;
@@ -78,8 +79,8 @@ public class TheSourceComponent extends GameComponent {
 				mTimer = DIE_TIME;
 				mExplosionTimer = EXPLOSION_TIME;
 				if (mChannel != null) {
-					mChannel.value = sChannelValue;
-					sChannelValue.value = true;
+					mChannel.value = mChannelValue;
+					mChannelValue.value = true;
 				}
 				mDead = true;
 			}
@@ -89,14 +90,14 @@ public class TheSourceComponent extends GameComponent {
 		mTimer -= timeDelta;
 
 		if (mDead) {
-			GameObjectManager manager = sSystemRegistry.gameObjectManager;
+			GameObjectManager manager = getSystemRegistry().gameObjectManager;
 
 			final float offset = SINK_SPEED * timeDelta;
 			parentObject.getPosition().y += offset;
 			
 			mExplosionTimer -= timeDelta;
 			if (mExplosionTimer < 0.0f) {
-				GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
+				GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
 				if (factory != null) {
 					float x = ((float)Math.random() - 0.5f) * (parentObject.width * 0.75f);
 					float y = ((float)Math.random() - 0.5f) * (parentObject.height * 0.75f);
@@ -115,7 +116,7 @@ public class TheSourceComponent extends GameComponent {
 			if (mTimer - timeDelta <= 0.0f) {
 				mTimer = 0.0f;
 				if (mGameEvent != -1) {
-					HudSystem hud = sSystemRegistry.hudSystem;
+					HudSystem hud = getSystemRegistry().hudSystem;
     	        	if (hud != null) {
     	        		hud.startFade(false, 1.5f);
     	        		hud.sendGameEventOnFadeComplete(mGameEvent, mGameEventIndex);
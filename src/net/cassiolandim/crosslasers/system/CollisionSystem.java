@@ -132,7 +132,7 @@ public class CollisionSystem extends BaseObject {
         }
         
         if (mTemporarySegments.getCount() > 0) {
-            VectorPool vectorPool = sSystemRegistry.vectorPool;
+            VectorPool vectorPool = getSystemRegistry().vectorPool;
             Vector2 tempHitPoint = vectorPool.allocate();
             Vector2 tempHitNormal = vectorPool.allocate();
             
@@ -193,7 +193,7 @@ public class CollisionSystem extends BaseObject {
             final int startTileY = Utils.clamp((int)(startY / mTileHeight), 0, mWorld.getHeight() - 1);
             final int endTileY = Utils.clamp((int)(endY / mTileHeight), 0, mWorld.getHeight() - 1);
             
-            VectorPool vectorPool = sSystemRegistry.vectorPool;
+            VectorPool vectorPool = getSystemRegistry().vectorPool;
             Vector2 worldTileOffset = vectorPool.allocate();
             
             final int[][] tileArray = mWorld.getTiles();
@@ -494,8 +494,8 @@ public class CollisionSystem extends BaseObject {
         final int count = segments.getCount();
         final Object[] segmentArray = segments.getArray();
         
-        VectorPool vectorPool = sSystemRegistry.vectorPool;
-        HitPointPool hitPool = sSystemRegistry.hitPointPool;
+        VectorPool vectorPool = getSystemRegistry().vectorPool;
+        HitPointPool hitPool = getSystemRegistry().hitPointPool;
 
         Vector2 tempHitPoint = vectorPool.allocate();
         
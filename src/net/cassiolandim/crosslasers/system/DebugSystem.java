@@ -64,9 +64,9 @@ public final class DebugSystem extends BaseObject {
 	}
 	
 	public void drawShape(float x, float y, float width, float height, int shapeType, int colorType) {
-        final RenderSystem render = sSystemRegistry.renderSystem;
-        final DrawableFactory factory = sSystemRegistry.drawableFactory;
-        ContextParameters params = sSystemRegistry.contextParameters;
+        final RenderSystem render = getSystemRegistry().renderSystem;
+        final DrawableFactory factory = getSystemRegistry().drawableFactory;
+        ContextParameters params = getSystemRegistry().contextParameters;
         mWorkVector.set(x, y);
         mWorkVector.x = (mWorkVector.x + (params.gameWidth / 2));
         mWorkVector.y = (mWorkVector.y + (params.gameHeight / 2));
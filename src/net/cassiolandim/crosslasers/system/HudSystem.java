@@ -188,7 +188,7 @@ public class HudSystem extends BaseObject {
     }
     
     public void startFade(boolean in, float duration) {
-        mFadeStartTime = sSystemRegistry.timeSystem.getRealTime();
+        mFadeStartTime = getSystemRegistry().timeSystem.getRealTime();
         mFadeDuration = duration;
         mFadeIn = in;
         mFading = true;
@@ -221,12 +221,12 @@ public class HudSystem extends BaseObject {
 
     @Override
     public void update(float timeDelta, BaseObject parent) {
-        final RenderSystem render = sSystemRegistry.renderSystem;
-        final VectorPool pool = sSystemRegistry.vectorPool;
-        final ContextParameters params = sSystemRegistry.contextParameters;
-        final DrawableFactory factory = sSystemRegistry.drawableFactory;
+        final RenderSystem render = getSystemRegistry().renderSystem;
+        final VectorPool pool = getSystemRegistry().vectorPool;
+        final ContextParameters params = getSystemRegistry().contextParameters;
+        final DrawableFactory factory = getSystemRegistry().drawableFactory;
 
-        final GameObjectManager manager = sSystemRegistry.gameObjectManager;
+        final GameObjectManager manager = getSystemRegistry().gameObjectManager;
         
         if (manager != null && manager.getPlayer() != null) {
         	// Only draw player-specific HUD elements when there's a player.
@@ -363,7 +363,7 @@ public class HudSystem extends BaseObject {
         
         if (mFading && factory != null) {
             
-            final float time = sSystemRegistry.timeSystem.getRealTime();
+            final float time = getSystemRegistry().timeSystem.getRealTime();
             final float fadeDelta = (time - mFadeStartTime);
             
             float percentComplete = 1.0f;
@@ -392,7 +392,7 @@ public class HudSystem extends BaseObject {
             }
             
             if (percentComplete >= 1.0f && mFadePendingEventType != GameFlowEvent.EVENT_INVALID) {
-            	LevelSystem level = sSystemRegistry.levelSystem;
+            	LevelSystem level = getSystemRegistry().levelSystem;
             	if (level != null) {
             		level.sendGameEvent(mFadePendingEventType, mFadePendingEventIndex, false);
             		mFadePendingEventType = GameFlowEvent.EVENT_INVALID;
@@ -403,7 +403,7 @@ public class HudSystem extends BaseObject {
     }
     
     private void drawNumber(Vector2 location, int[] digits, boolean drawX) {
-        final RenderSystem render = sSystemRegistry.renderSystem;
+        final RenderSystem render = getSystemRegistry().renderSystem;
         
         if (mDigitDrawables[0].getWidth() == 0) {
             // first time init
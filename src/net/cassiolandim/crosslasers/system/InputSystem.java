@@ -46,13 +46,13 @@ public class InputSystem extends BaseObject {
     }
 
     public void roll(float x, float y) {
-        TimeSystem time = sSystemRegistry.timeSystem;
+        TimeSystem time = getSystemRegistry().timeSystem;
     	mTrackball.press(time.getGameTime(), mTrackball.getX() + x, mTrackball.getY() + y);
     }
     
     public void touchDown(float x, float y) {
-	   ContextParameters params = sSystemRegistry.contextParameters;
-	   TimeSystem time = sSystemRegistry.timeSystem;
+	   ContextParameters params = getSystemRegistry().contextParameters;
+	   TimeSystem time = getSystemRegistry().timeSystem;
 	   // Change the origin of the touch location from the top-left to the bottom-left to match
 	   // OpenGL space.
 	   // TODO: UNIFY THIS SHIT
@@ -70,12 +70,12 @@ public class InputSystem extends BaseObject {
         final float correctedRoll = -roll / 90.0f;
         //DebugLog.d("Orientation", "Pitch: " + correctedPitch + "  Roll: " + correctedRoll);
 
-        TimeSystem time = sSystemRegistry.timeSystem;
+        TimeSystem time = getSystemRegistry().timeSystem;
         mOrientationSensor.press(time.getGameTime(), correctedPitch, correctedRoll);
     }
     
     public void keyDown(int keycode) {
-    	TimeSystem time = sSystemRegistry.timeSystem;
+    	TimeSystem time = getSystemRegistry().timeSystem;
         final float gameTime = time.getGameTime();
         mKeyboard.press(gameTime, keycode);
     }
@@ -61,21 +61,21 @@ public class LevelSystem extends BaseObject {
 
 	public void sendRestartEvent() {
 		mGameFlowEvent.post(GameFlowEvent.EVENT_RESTART_LEVEL, 0,
-				sSystemRegistry.contextParameters.context);
+				getSystemRegistry().contextParameters.context);
 	}
 
 	public void sendNextLevelEvent() {
 		mGameFlowEvent.post(GameFlowEvent.EVENT_GO_TO_NEXT_LEVEL, 0,
-				sSystemRegistry.contextParameters.context);
+				getSystemRegistry().contextParameters.context);
 	}
 
 	public void sendGameEvent(int type, int index, boolean immediate) {
 		if (immediate) {
 			mGameFlowEvent.postImmediate(type, index,
-					sSystemRegistry.contextParameters.context);
+					getSystemRegistry().contextParameters.context);
 		} else {
 			mGameFlowEvent.post(type, index,
-					sSystemRegistry.contextParameters.context);
+					getSystemRegistry().contextParameters.context);
 		}
 	}
 
@@ -98,22 +98,27 @@ public class LevelSystem extends BaseObject {
 		mCurrentLevel = level;
 		mRoot = root;
 
-		LevelBuilder builder = sSystemRegistry.levelBuilder;
+		LevelBuilder builder = getSystemRegistry().levelBuilder;
 
 		if (mBackgroundObject == null) {
 			mBackgroundObject = builder.buildBackground(0);
 			root.add(mBackgroundObject);
 		}
 
+		GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
+		if (factory != null) {
+			factory.reservePools(level);
+		}
+
 		mSpawnLocations = new TiledWorld(level);
 		spawnObjects();
 
 		// hack!
-		sSystemRegistry.levelBuilder.promoteForegroundLayer(mBackgroundObject);
+		getSystemRegistry().levelBuilder.promoteForegroundLayer(mBackgroundObject);
 	}
 
 	public void spawnObjects() {
-		GameObjectFactory factory = sSystemRegistry.gameObjectFactory;
+		GameObjectFactory factory = getSystemRegistry().gameObjectFactory;
 		if (factory != null && mSpawnLocations != null) {
 			DebugLog.d("LevelSystem", "Spawning Objects!");
 
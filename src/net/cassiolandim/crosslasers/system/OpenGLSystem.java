@@ -27,6 +27,9 @@ import net.cassiolandim.crosslasers.BaseObject;
  * An object wrapper for a pointer to the OpenGL context.  Note that the context is only valid
  * in certain threads at certain times (namely, in the Rendering thread during draw time), and at
  * other times getGL() will return null.
+ * The context belongs to the render thread rather than to a game world, so it is kept in static
+ * state shared by every world.  Worlds that never draw (see HeadlessRunner) should use the no-arg
+ * constructor, which leaves the current context alone.
  */
 public class OpenGLSystem extends BaseObject {
 
@@ -36,7 +39,6 @@ public class OpenGLSystem extends BaseObject {
 
     public OpenGLSystem() {
         super();
-        sGL = null;
     }
 
     public OpenGLSystem(GL10 gl) {
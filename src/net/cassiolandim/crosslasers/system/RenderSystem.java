@@ -16,6 +16,8 @@
 
 package net.cassiolandim.crosslasers.system;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import net.cassiolandim.crosslasers.BaseObject;
 import net.cassiolandim.crosslasers.DrawableObject;
 import net.cassiolandim.crosslasers.FixedSizeArray;
@@ -37,25 +39,57 @@ import net.cassiolandim.crosslasers.Vector2;
  * manage any number (>=2) of render queues, but increasing the number over two means that the game
  * logic will be running significantly ahead of the rendering thread, which may make the user feel
  * that the controls are "loose."
+ * 
+ * RenderSystem may also be constructed in a pipelined, triple-buffered mode.  In that mode the game
+ * thread never waits on the renderer: finished queues are published to a "ready" slot with a
+ * single atomic exchange, and the render thread takes the most recently published queue whenever
+ * it begins a frame.  The game thread can therefore build frame N+1 while frame N is being drawn.
  */
 public class RenderSystem extends BaseObject {
     private static final int TEXTURE_SORT_BUCKET_SIZE = 1000;
     private RenderElementPool mElementPool;
     private ObjectManager[] mRenderQueues;
     private int mQueueIndex;
+    private float mInterpolation;
+    private final int mQueueCount;
+    private final boolean mPipelined;
+    
+    // Triple-buffer handoff state.  mReadyQueue holds the index of the most recently published
+    // queue, plus READY_FRESH if the render thread hasn't picked it up yet.  mFrontQueue is owned
+    // by the render thread.
+    private final AtomicInteger mReadyQueue;
+    private int mFrontQueue;
     
     private final static int DRAW_QUEUE_COUNT = 2;
-    private final static int MAX_RENDER_OBJECTS_PER_FRAME = 256;
-    private final static int MAX_RENDER_OBJECTS = MAX_RENDER_OBJECTS_PER_FRAME * DRAW_QUEUE_COUNT;
+    private final static int PIPELINED_DRAW_QUEUE_COUNT = 3;
+    public final static int MAX_RENDER_OBJECTS_PER_FRAME = 256;
+    private final static int READY_FRESH = 0x4;
+    private final static int READY_INDEX_MASK = 0x3;
     
     public RenderSystem() {
+        this(false);
+    }
+    
+    /** 
+     * @param pipelined  If true, three queues are managed and handed to the renderer without
+     * locking (see setQueueSource() in GameRenderer).  Otherwise the standard double-buffered 
+     * swap is used.
+     */
+    public RenderSystem(boolean pipelined) {
         super();
-        mElementPool = new RenderElementPool(MAX_RENDER_OBJECTS);
-        mRenderQueues = new ObjectManager[DRAW_QUEUE_COUNT];
-        for (int x = 0; x < DRAW_QUEUE_COUNT; x++) {
-            mRenderQueues[x] = new PhasedObjectManager(MAX_RENDER_OBJECTS_PER_FRAME);
+        mPipelined = pipelined;
+        mQueueCount = pipelined ? PIPELINED_DRAW_QUEUE_COUNT : DRAW_QUEUE_COUNT;
+        mElementPool = new RenderElementPool(MAX_RENDER_OBJECTS_PER_FRAME * mQueueCount);
+        mRenderQueues = new ObjectManager[mQueueCount];
+        for (int x = 0; x < mQueueCount; x++) {
+            PhasedObjectManager queue = new PhasedObjectManager(MAX_RENDER_OBJECTS_PER_FRAME);
+            queue.setRadixSort(true);
+            mRenderQueues[x] = queue;
         }
         mQueueIndex = 0;
+        mInterpolation = 1.0f;
+        mReadyQueue = new AtomicInteger(1);
+        mFrontQueue = 2;
     }
     
     @Override
@@ -83,29 +117,99 @@ public class RenderSystem extends BaseObject {
         
     }
     
+    /** 
+     * Throws away everything scheduled for drawing since the last swap.  Used when several
+     * simulation steps run within a single frame and only the last one should be drawn.
+     */
+    public void clearActiveQueue() {
+        mRenderQueues[mQueueIndex].commitUpdates();
+        clearQueue(mRenderQueues[mQueueIndex].getObjects());
+    }
+    
+    /** 
+     * Sets how far (0..1) the frame being built lies between the previous simulation step and
+     * the current one.  A value of 1 means that current positions should be drawn unmodified.
+     */
+    public void setInterpolation(float alpha) {
+        mInterpolation = alpha;
+    }
+    
+    public float getInterpolation() {
+        return mInterpolation;
+    }
+    
     public void swap(GameRenderer renderer) {
+        if (mPipelined) {
+            publish(renderer);
+            return;
+        }
         mRenderQueues[mQueueIndex].commitUpdates();
         
         // This code will block if the previous queue is still being executed.
         renderer.setDrawQueue(mRenderQueues[mQueueIndex]); 
     
-        final int lastQueue = (mQueueIndex == 0) ? DRAW_QUEUE_COUNT - 1 : mQueueIndex - 1;
+        final int lastQueue = (mQueueIndex == 0) ? mQueueCount - 1 : mQueueIndex - 1;
     
         // Clear the old queue.
         FixedSizeArray<BaseObject> objects = mRenderQueues[lastQueue].getObjects();
         clearQueue(objects);
     
-        mQueueIndex = (mQueueIndex + 1) % DRAW_QUEUE_COUNT;
+        mQueueIndex = (mQueueIndex + 1) % mQueueCount;
+    }
+    
+    /** 
+     * Pipelined version of swap().  Publishes the queue the game thread just finished and takes
+     * back whichever queue was sitting in the ready slot.  That queue is either one that the 
+     * renderer skipped or one that it has already released, so it's safe to clear.  Never blocks.
+     */
+    private void publish(GameRenderer renderer) {
+        mRenderQueues[mQueueIndex].commitUpdates();
+        
+        final int previous = mReadyQueue.getAndSet(mQueueIndex | READY_FRESH);
+        mQueueIndex = previous & READY_INDEX_MASK;
+        
+        clearQueue(mRenderQueues[mQueueIndex].getObjects());
+        
+        if (renderer.getQueueSource() != this) {
+            renderer.setQueueSource(this);
+        }
+    }
+    
+    /** 
+     * Called by the render thread at the start of a frame.  Returns the most recently published
+     * queue, or null if nothing new has been published since the last call (in which case the
+     * previous queue should be drawn again).  The returned queue belongs to the render thread until
+     * the next call.
+     */
+    public ObjectManager acquireDrawQueue() {
+        ObjectManager result = null;
+        if ((mReadyQueue.get() & READY_FRESH) != 0) {
+            final int ready = mReadyQueue.getAndSet(mFrontQueue);
+            mFrontQueue = ready & READY_INDEX_MASK;
+            result = mRenderQueues[mFrontQueue];
+        }
+        return result;
+    }
+    
+    public boolean isPipelined() {
+        return mPipelined;
     }
     
     /* Empties all draw queues and disconnects the game thread from the renderer. */
     public void emptyQueues(GameRenderer renderer) {
+        // Both of these block until the renderer has finished any frame in progress.
+        if (mPipelined) {
+            renderer.setQueueSource(null);
+        }
         renderer.setDrawQueue(null); 
-        for (int x = 0; x < DRAW_QUEUE_COUNT; x++) {
+        for (int x = 0; x < mQueueCount; x++) {
             mRenderQueues[x].commitUpdates();
             FixedSizeArray<BaseObject> objects = mRenderQueues[x].getObjects();
             clearQueue(objects);
         }
+        mQueueIndex = 0;
+        mReadyQueue.set(1);
+        mFrontQueue = 2;
     }
 
     public class RenderElement extends PhasedObject {
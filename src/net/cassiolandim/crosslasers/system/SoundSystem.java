@@ -21,6 +21,7 @@ import java.util.Comparator;
 import net.cassiolandim.crosslasers.AllocationGuard;
 import net.cassiolandim.crosslasers.BaseObject;
 import net.cassiolandim.crosslasers.FixedSizeArray;
+import net.cassiolandim.crosslasers.IntFixedSizeArray;
 
 
 import android.content.Context;
@@ -41,27 +42,34 @@ public class SoundSystem extends BaseObject {
     private FixedSizeArray<Sound> mSounds;
     private Sound mSearchDummy;
     private boolean mSoundEnabled;
-    private int[] mLoopingStreams;
+    private IntFixedSizeArray mLoopingStreams;
     
     public SoundSystem() {
+        this(false);
+    }
+    
+    /** 
+     * @param silent  If true, no SoundPool is created and all sound requests are ignored.  Useful
+     * for running the game graph without an Android audio stack (see HeadlessRunner).
+     */
+    public SoundSystem(boolean silent) {
         super();
-        mSoundPool = new SoundPool(MAX_STREAMS, AudioManager.STREAM_MUSIC, 0);
+        if (!silent) {
+            mSoundPool = new SoundPool(MAX_STREAMS, AudioManager.STREAM_MUSIC, 0);
+        }
         mSounds = new FixedSizeArray<Sound>(MAX_SOUNDS, sSoundComparator);
         mSearchDummy = new Sound();
-        mLoopingStreams = new int[MAX_STREAMS];
-        for (int x = 0; x < mLoopingStreams.length; x++) {
-        	mLoopingStreams[x] = -1;
-        }
+        mLoopingStreams = new IntFixedSizeArray(MAX_STREAMS);
     }
     
     @Override
     public void reset() {
-        mSoundPool.release();
+        if (mSoundPool != null) {
+            mSoundPool.release();
+        }
         mSounds.clear();
         mSoundEnabled = true;
-        for (int x = 0; x < mLoopingStreams.length; x++) {
-        	mLoopingStreams[x] = -1;
-        }
+        mLoopingStreams.clear();
     }
 
     public Sound load(int resource) {
@@ -69,8 +77,14 @@ public class SoundSystem extends BaseObject {
         Sound result = null;
         if (index < 0) {
             // new sound.
-           if (sSystemRegistry.contextParameters != null) {
-               Context context = sSystemRegistry.contextParameters.context;
+           if (mSoundPool == null) {
+               result = new Sound();
+               result.resource = resource;
+               result.soundId = -1;
+               mSounds.add(result);
+               mSounds.sort(false);
+           } else if (getSystemRegistry().contextParameters != null) {
+               Context context = getSystemRegistry().contextParameters.context;
                result = new Sound();
                result.resource = resource;
                result.soundId = mSoundPool.load(context, resource, 1);
@@ -86,7 +100,7 @@ public class SoundSystem extends BaseObject {
     
     synchronized public final int play(Sound sound, boolean loop, int priority) {
     	int stream = -1;
-    	if (mSoundEnabled) {
+    	if (mSoundEnabled && mSoundPool != null) {
     		stream = mSoundPool.play(sound.soundId, 1.0f, 1.0f, priority, loop ? -1 : 0, 1.0f);
     		if (loop) {
     			addLoopingStream(stream);
@@ -98,7 +112,7 @@ public class SoundSystem extends BaseObject {
     
     synchronized public final int play(Sound sound, boolean loop, int priority, float volume, float rate) {
     	int stream = -1;
-    	if (mSoundEnabled) {
+    	if (mSoundEnabled && mSoundPool != null) {
     		stream = mSoundPool.play(sound.soundId, volume, volume, priority, loop ? -1 : 0, rate);
     		if (loop) {
     			addLoopingStream(stream);
@@ -109,16 +123,22 @@ public class SoundSystem extends BaseObject {
     }
     
     public final void stop(int stream) {
-        mSoundPool.stop(stream);
+        if (mSoundPool != null) {
+            mSoundPool.stop(stream);
+        }
         removeLoopingStream(stream);
     }
     
     public final void pause(int stream) {
-        mSoundPool.pause(stream);
+        if (mSoundPool != null) {
+            mSoundPool.pause(stream);
+        }
     }
     
     public final void resume(int stream) {
-       mSoundPool.resume(stream);
+        if (mSoundPool != null) {
+            mSoundPool.resume(stream);
+        }
     }
     
     // HACK: There's no way to pause an entire sound pool, but if we
@@ -127,31 +147,24 @@ public class SoundSystem extends BaseObject {
     // that SoundPool does internally here, I've opted to just pause looping
     // sounds when the Activity is paused.
     public void pauseAll() {
-    	final int count = mLoopingStreams.length;
+    	final int[] streams = mLoopingStreams.getArray();
+    	final int count = mLoopingStreams.getCount();
     	for (int x = 0; x < count; x++) {
-    		if (mLoopingStreams[x] >= 0) {
-    			pause(mLoopingStreams[x]);
-    		}
+    		pause(streams[x]);
     	}
     }
     
     private void addLoopingStream(int stream) {
-    	final int count = mLoopingStreams.length;
-    	for (int x = 0; x < count; x++) {
-    		if (mLoopingStreams[x] < 0) {
-    			mLoopingStreams[x] = stream;
-    			break;
-    		}
+    	if (mLoopingStreams.getCount() < mLoopingStreams.getCapacity()) {
+    		mLoopingStreams.add(stream);
     	}
     }
     
     private void removeLoopingStream(int stream) {
-    	final int count = mLoopingStreams.length;
-    	for (int x = 0; x < count; x++) {
-    		if (mLoopingStreams[x] == stream) {
-    			mLoopingStreams[x] = -1;
-    			break;
-    		}
+    	final int index = mLoopingStreams.find(stream);
+    	if (index != -1) {
+    		mLoopingStreams.swapWithLast(index);
+    		mLoopingStreams.removeLast();
     	}
     }
     
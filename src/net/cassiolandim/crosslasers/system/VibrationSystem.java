@@ -35,7 +35,7 @@ public class VibrationSystem extends BaseObject {
     }
     
     public void vibrate(float seconds) {
-        ContextParameters params = sSystemRegistry.contextParameters;
+        ContextParameters params = getSystemRegistry().contextParameters;
         if (params != null && params.context != null) {
             Vibrator vibrator = (Vibrator)params.context.getSystemService(Context.VIBRATOR_SERVICE);
             if (vibrator != null) {